@@ -0,0 +1,113 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Collapses concurrent calls for the same key into one. The first caller runs
+ * the call and every caller that arrives while it is in flight waits for, and
+ * shares, its result or exception. Nothing is kept once the call completes.
+ * Calls are published as the zowe.singleflight.calls metric tagged with the
+ * name and whether the call was executed or shared, the shared count being the
+ * calls saved.
+ */
+public class SingleFlight<K, V> {
+
+    private final boolean enabled;
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final Counter executedCounter;
+    private final Counter sharedCounter;
+
+    public SingleFlight(String name, boolean enabled) {
+        this.enabled = enabled;
+        this.executedCounter = Counter.builder("zowe.singleflight.calls").tag("name", name).tag("result", "executed")
+            .register(Metrics.globalRegistry);
+        this.sharedCounter = Counter.builder("zowe.singleflight.calls").tag("name", name).tag("result", "shared")
+            .register(Metrics.globalRegistry);
+    }
+
+    public V execute(K key, Supplier<? extends V> call) {
+        if (!enabled) {
+            recordExecuted();
+            return call.get();
+        }
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> leader = inFlight.putIfAbsent(key, flight);
+        if (leader != null) {
+            shared.increment();
+            sharedCounter.increment();
+            return await(leader);
+        }
+        recordExecuted();
+        try {
+            V value = call.get();
+            flight.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    private void recordExecuted() {
+        executed.increment();
+        executedCounter.increment();
+    }
+
+    private static <V> V await(CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Stops callers that arrive from now on joining the calls in flight for the
+     * matching keys, so a read after a write never shares a result read before it
+     */
+    public void forgetIf(Predicate<? super K> predicate) {
+        inFlight.keySet().removeIf(predicate);
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getExecutedCount() {
+        return executed.sum();
+    }
+
+    public long getSharedCount() {
+        return shared.sum();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.cache;
+
+import lombok.Value;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A cache key scoped to the user making the current request, so that a value
+ * read with one user's z/OSMF authority is never served to another user.
+ */
+@Value
+public class UserScopedKey<T> {
+
+    static final String ANONYMOUS = "anonymous";
+
+    private static final List<String> AUTHENTICATION_COOKIES = Arrays.asList("apimlAuthenticationToken",
+            "LtpaToken2", "jwtToken");
+
+    String user;
+    T key;
+
+    public static <T> UserScopedKey<T> forCurrentUser(T key) {
+        return new UserScopedKey<>(currentUser(), key);
+    }
+
+    /**
+     * Identifies the user of the current request by their authenticated name or,
+     * failing that, a digest of the credentials that are passed on to z/OSMF.
+     */
+    public static String currentUser() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return ANONYMOUS;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        if (request.getRemoteUser() != null) {
+            return "user:" + request.getRemoteUser();
+        }
+        StringBuilder credentials = new StringBuilder();
+        String authorization = request.getHeader("Authorization");
+        if (authorization != null) {
+            credentials.append(authorization);
+        }
+        Cookie[] cookies = request.getCookies();
+        if (cookies != null) {
+            for (Cookie cookie : cookies) {
+                if (AUTHENTICATION_COOKIES.contains(cookie.getName())) {
+                    credentials.append('\n').append(cookie.getName()).append('=').append(cookie.getValue());
+                }
+            }
+        }
+        if (credentials.length() == 0) {
+            return ANONYMOUS;
+        }
+        return "credentials:" + sha256(credentials.toString());
+    }
+
+    private static String sha256(String value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -15,110 +15,394 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.data.sets.exceptions.BatchTooLargeException;
 import org.zowe.data.sets.model.*;
+import org.zowe.data.sets.services.DataSetAttributesBatch;
+import org.zowe.data.sets.services.DataSetMembersZipUploader;
+import org.zowe.data.sets.services.DataSetMembersZipWriter;
+import org.zowe.data.sets.services.DataSetSearch;
 import org.zowe.data.sets.services.DataSetService;
+import org.zowe.spring.RequestHeaders;
+import org.zowe.spring.ZosmfExecutorConfig;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 public abstract class AbstractDataSetsController {
 
+    static final String APPLICATION_ZIP_VALUE = "application/zip";
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final ObjectMapper SEARCH_ENTRY_MAPPER = new ObjectMapper();
+
+    private static final int STREAM_BUFFER_SIZE = 64 * 1024;
+
+    @Autowired
+    @Qualifier(ZosmfExecutorConfig.ZOSMF_EXECUTOR)
+    private Executor zosmfExecutor;
+
+    @Value("${datasets.zip.parallelism:4}")
+    private int zipParallelism = 4;
+
+    @Value("${datasets.upload.parallelism:8}")
+    private int uploadParallelism = 8;
+
+    @Value("${datasets.search.parallelism:4}")
+    private int searchParallelism = 4;
+
+    @Value("${datasets.attributes.parallelism:4}")
+    private int attributesParallelism = 4;
+
+    @Value("${datasets.attributes.maxNames:1000}")
+    private int attributesMaxNames = 1000;
+
     abstract DataSetService getDataSetService();
 
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, zosmfExecutor);
+    }
+
     @GetMapping(value = "{dataSetName}/members", produces = {"application/json"})
-    @Operation(summary = "Get a list of members for a partitioned data set", operationId = "getMembers", description = "This API returns a list of members for a given partitioned data set.")
+    @Operation(summary = "Get a list of members for a partitioned data set", operationId = "getMembers", description = "This API returns a list of members for a given partitioned data set. "
+            + "Set limit to page through the results, passing the returned next value as start to get the following page.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public CompletableFuture<PagedItemsWrapper<String>> getMembers(
+            @Parameter(description = "Partitioned data set name", required = true) @PathVariable String dataSetName,
+            @Parameter(description = "Maximum number of members to return") @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "Name of the first member to return, from the next value of the previous page") @RequestParam(value = "start", required = false) String start,
+            @Parameter(description = "Member name pattern, e.g. ABC\\*") @RequestParam(value = "pattern", required = false) String pattern) {
+        return supplyAsync(() -> {
+            if (limit == null && start == null && pattern == null) {
+                return new PagedItemsWrapper<>(getDataSetService().listDataSetMembers(dataSetName).getItems());
+            }
+            return getDataSetService().listDataSetMembers(dataSetName, limit, start, pattern);
+        });
+    }
+
+    @GetMapping(value = "{dataSetName}/members/zip", produces = {APPLICATION_ZIP_VALUE})
+    @Operation(summary = "Download the members of a partitioned data set as a ZIP archive", operationId = "getMembersZip", description = "This API streams a ZIP archive with an entry for each member, or each member matching the pattern. "
+            + "Members are read in parallel and written as they arrive, so the order of entries is not fixed. Members that cannot be read are listed in an errors.txt entry at the end. "
+            + "Set binary to true to read the members without codepage conversion.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getMembersZip(
+            @Parameter(description = "Partitioned data set name", required = true) @PathVariable String dataSetName,
+            @Parameter(description = "Member name pattern, e.g. ABC\\*") @RequestParam(value = "pattern", required = false) String pattern,
+            @Parameter(description = "Read the members in binary mode") @RequestParam(value = "binary", defaultValue = "false") boolean binary) {
+        return supplyAsync(() -> {
+            // list the first page before streaming so that its errors are returned as the response status
+            PagedItemsWrapper<String> firstPage = getDataSetService().listDataSetMembers(dataSetName,
+                    DataSetMembersZipWriter.PAGE_SIZE, null, pattern);
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            StreamingResponseBody body = outputStream -> writeMembersZip(dataSetName, pattern, binary, firstPage,
+                    requestAttributes, outputStream);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.parseMediaType(APPLICATION_ZIP_VALUE));
+            headers.setContentDisposition(ContentDisposition.attachment().filename(dataSetName + ".zip").build());
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
+        });
+    }
+
+    @PutMapping(value = "{dataSetName}/members/zip", consumes = {APPLICATION_ZIP_VALUE}, produces = {"application/json"})
+    @Operation(summary = "Upload a ZIP archive of members to a partitioned data set", operationId = "putMembersZip", description = "This API writes each entry of a ZIP archive to a member named after the entry's file name up to the first dot, "
+            + "writing several members at once. It returns the status and ETag of each entry in archive order; an entry that cannot be written does not stop the others. "
+            + "Set binary to true to write the members without codepage conversion.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public CompletableFuture<ItemsWrapper<DataSetMemberUploadStatus>> putMembersZip(
+            @Parameter(description = "Partitioned data set name", required = true) @PathVariable String dataSetName,
+            @Parameter(description = "Write the members in binary mode") @RequestParam(value = "binary", defaultValue = "false") boolean binary,
+            InputStream input) {
+        return supplyAsync(() -> {
+            try {
+                return new ItemsWrapper<>(new DataSetMembersZipUploader(getDataSetService(), zosmfExecutor,
+                        uploadParallelism).upload(dataSetName, binary, input));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CompletionException(e);
+            }
+        });
+    }
+
+    /**
+     * Runs on the MVC async executor, so binds the request for the reads the
+     * writer hands to the z/OSMF executor
+     */
+    private void writeMembersZip(String dataSetName, String pattern, boolean binary,
+            PagedItemsWrapper<String> firstPage, RequestAttributes requestAttributes, OutputStream outputStream)
+            throws IOException {
+        RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            new DataSetMembersZipWriter(getDataSetService(), zosmfExecutor, zipParallelism).write(dataSetName, pattern,
+                    binary, firstPage, outputStream);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+        }
+    }
+
+    @GetMapping(value = "search", params = "filter", produces = {APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get the data sets matching any of several filters", operationId = "searchDataSets", description = "This API lists every filter at once and returns each data set found as a line of JSON as soon as its filter has been listed, "
+            + "so data sets of different filters are interleaved. A data set matched by more than one filter is returned once, with the filter that found it first. "
+            + "A filter that cannot be listed, or whose listing z/OSMF cut short, is returned as a line with an error.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ItemsWrapper<String> getMembers(
-            @Parameter(description = "Partitioned data set name", required = true) @PathVariable String dataSetName) {
-        return getDataSetService().listDataSetMembers(dataSetName);
+    public ResponseEntity<StreamingResponseBody> searchDataSets(
+            @Parameter(description = "Dataset filter strings, e.g. HLQ.\\*\\*, \\*\\*.SUF, etc.", required = true) @RequestParam("filter") List<String> filters) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        StreamingResponseBody body = outputStream -> writeSearch(filters, requestAttributes, outputStream);
+        return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+    }
+
+    /**
+     * Runs on the MVC async executor, so binds the request for the listings the
+     * search hands to the z/OSMF executor
+     */
+    private void writeSearch(List<String> filters, RequestAttributes requestAttributes, OutputStream outputStream)
+            throws IOException {
+        RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            new DataSetSearch(getDataSetService(), zosmfExecutor, searchParallelism).search(filters, entry -> {
+                try {
+                    outputStream.write(SEARCH_ENTRY_MAPPER.writeValueAsBytes(entry));
+                    outputStream.write('\n');
+                    outputStream.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+        }
     }
 
     @GetMapping(value = "{filter:.+}", produces = {"application/json"})
-    @Operation(summary = "Get a list of data sets matching the filter", operationId = "getDataSetAttributes", description = "This API returns the attributes of data sets matching the filter")
+    @Operation(summary = "Get a list of data sets matching the filter", operationId = "getDataSetAttributes", description = "This API returns the attributes of data sets matching the filter. "
+            + "Set limit to page through the results, passing the returned next value as start to get the following page. "
+            + "Set fields to return only those attributes besides the name; asking for no more than volumeSerial lets z/OSMF skip reading each data set's details.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ItemsWrapper<DataSetAttributes> getDataSetAttributes(
-            @Parameter(description = "Dataset filter string, e.g. HLQ.\\*\\*, \\*\\*.SUF, etc.", required = true) @PathVariable String filter) {
-        return getDataSetService().listDataSetAttributes(filter);
+    public CompletableFuture<PagedItemsWrapper<DataSetAttributes>> getDataSetAttributes(
+            @Parameter(description = "Dataset filter string, e.g. HLQ.\\*\\*, \\*\\*.SUF, etc.", required = true) @PathVariable String filter,
+            @Parameter(description = "Maximum number of data sets to return") @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "Name of the first data set to return, from the next value of the previous page") @RequestParam(value = "start", required = false) String start,
+            @Parameter(description = "Attributes to return besides the name, e.g. volumeSerial,migrated") @RequestParam(value = "fields", required = false) List<String> fields) {
+        return supplyAsync(() -> {
+            if (fields == null) {
+                if (limit == null && start == null) {
+                    return new PagedItemsWrapper<>(getDataSetService().listDataSetAttributes(filter).getItems());
+                }
+                return getDataSetService().listDataSetAttributes(filter, limit, start);
+            }
+            Set<String> fieldSet = new LinkedHashSet<>(fields);
+            if (limit == null && start == null) {
+                return new PagedItemsWrapper<>(getDataSetService().listDataSetAttributes(filter, fieldSet).getItems());
+            }
+            return getDataSetService().listDataSetAttributes(filter, limit, start, fieldSet);
+        });
+    }
+
+    @PostMapping(value = "attributes", consumes = {"application/json"}, produces = {"application/json"})
+    @Operation(summary = "Get the attributes of a list of data sets", operationId = "getDataSetAttributesBatch", description = "This API returns the attributes of each named data set, in the order requested. "
+            + "Names that share their parent qualifiers are looked up together, and a name that is invalid, missing or cannot be read gets its own status and message without failing the others.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public CompletableFuture<ItemsWrapper<DataSetAttributesResult>> getDataSetAttributesBatch(
+            @RequestBody DataSetAttributesBatchRequest input) {
+        List<String> names = input.getNames() == null ? Collections.emptyList() : input.getNames();
+        if (names.size() > attributesMaxNames) {
+            throw new BatchTooLargeException(names.size(), attributesMaxNames);
+        }
+        return new DataSetAttributesBatch(getDataSetService(), zosmfExecutor, attributesParallelism).lookup(names)
+            .thenApply(ItemsWrapper::new);
     }
 
     @GetMapping(value = "{filter:.+}/list", produces = {"application/json"})
-    @Operation(summary = "Get a list of data sets without attributes matching the filter", operationId = "getDataSets", description = "This API returns the list of data sets matching the filter")
+    @Operation(summary = "Get a list of data sets without attributes matching the filter", operationId = "getDataSets", description = "This API returns the list of data sets matching the filter. "
+            + "Set limit to page through the results, passing the returned next value as start to get the following page.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ItemsWrapper<DataSet> getDataSets(
-            @Parameter(description = "Dataset filter string, e.g. HLQ.\\*\\*, \\*\\*.SUF, etc.", required = true) @PathVariable String filter) {
-        return getDataSetService().listDataSets(filter);
+    public CompletableFuture<PagedItemsWrapper<DataSet>> getDataSets(
+            @Parameter(description = "Dataset filter string, e.g. HLQ.\\*\\*, \\*\\*.SUF, etc.", required = true) @PathVariable String filter,
+            @Parameter(description = "Maximum number of data sets to return") @RequestParam(value = "limit", required = false) Integer limit,
+            @Parameter(description = "Name of the first data set to return, from the next value of the previous page") @RequestParam(value = "start", required = false) String start) {
+        return supplyAsync(() -> {
+            if (limit == null && start == null) {
+                return new PagedItemsWrapper<>(getDataSetService().listDataSets(filter).getItems());
+            }
+            return getDataSetService().listDataSets(filter, limit, start);
+        });
     }
 
     @GetMapping(value = "{dataSetName}/content", produces = {"application/json"})
-    @Operation(summary = "Get the content of a sequential data set, or PDS member", operationId = "getContent", description = "This API reads content from a sequential data set or member of a partitioned data set.")
+    @Operation(summary = "Get the content of a sequential data set, or PDS member", operationId = "getContent", description = "This API reads content from a sequential data set or member of a partitioned data set. "
+            + "Pass a previously returned ETag as If-None-Match to get 304 without the content if it has not changed.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "304", description = "Not modified")})
+    public CompletableFuture<ResponseEntity<DataSetContent>> getContent(
+            @Parameter(description = "Data set name, e.g. HLQ.PS or HLQ.PO(MEMBER)", required = true) @PathVariable String dataSetName,
+            @RequestHeader(value = "X-Return-Etag", required = false) String etagHeader,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
+        return supplyAsync(() -> {
+            // only a single strong ETag is passed on to z/OSMF, and echoed back on 304
+            String etag = RequestHeaders.singleStrongEtag(ifNoneMatch);
+            DataSetContentWithEtag content = etag == null ? getDataSetService().getContent(dataSetName)
+                    : getDataSetService().getContent(dataSetName, etag);
+
+            HttpHeaders headers = new HttpHeaders();
+            if (content.getContent() == null) {
+                headers.add("Access-Control-Expose-Headers", "ETag");
+                headers.add("ETag", content.getEtag());
+                return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+            }
+            if ("true".equalsIgnoreCase(etagHeader)) {
+                headers.add("Access-Control-Expose-Headers", "ETag");
+                headers.add("ETag", content.getEtag());
+            }
+            return new ResponseEntity<>(content.getContent(), headers, HttpStatus.OK);
+        });
+    }
+
+    @GetMapping(value = "{dataSetName}/content/raw", produces = {"text/plain", "application/octet-stream"})
+    @Operation(summary = "Stream the content of a sequential data set, or PDS member", operationId = "getContentStream", description = "This API streams the raw content of a sequential data set or member of a partitioned data set without holding it in memory. Set binary to true to read the data without codepage conversion.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ResponseEntity<DataSetContent> getContent(
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getContentStream(
             @Parameter(description = "Data set name, e.g. HLQ.PS or HLQ.PO(MEMBER)", required = true) @PathVariable String dataSetName,
+            @Parameter(description = "Read the data set in binary mode") @RequestParam(value = "binary", defaultValue = "false") boolean binary,
             @RequestHeader(value = "X-Return-Etag", required = false) String etagHeader) {
-        DataSetContentWithEtag content = getDataSetService().getContent(dataSetName);
+        return supplyAsync(() -> {
+            DataSetContentStreamWithEtag content = getDataSetService().getContentStream(dataSetName, binary);
 
-        HttpHeaders headers = new HttpHeaders();
-        if ("true".equalsIgnoreCase(etagHeader)) {
-            headers.add("Access-Control-Expose-Headers", "ETag");
-            headers.add("ETag", content.getEtag());
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(binary ? MediaType.APPLICATION_OCTET_STREAM : MediaType.TEXT_PLAIN);
+            if ("true".equalsIgnoreCase(etagHeader)) {
+                headers.add("Access-Control-Expose-Headers", "ETag");
+                headers.add("ETag", content.getEtag());
+            }
+            StreamingResponseBody body = outputStream -> copy(content.getContent(), outputStream);
+            return new ResponseEntity<>(body, headers, HttpStatus.OK);
+        });
+    }
+
+    static void copy(InputStream inputStream, OutputStream outputStream) throws IOException {
+        try (InputStream in = inputStream) {
+            byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            outputStream.flush();
         }
-        return new ResponseEntity<>(content.getContent(), headers, HttpStatus.OK);
     }
 
     @PostMapping(value = "/", consumes = "application/json")
     @Operation(summary = "Create a data set", description = "This creates a data set based on the attributes passed in")
     @ApiResponses(value = {@ApiResponse(responseCode = "201", description = "Data set successfully created")})
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<?> createDataSet(@RequestBody DataSetCreateRequest input) {
+    public CompletableFuture<ResponseEntity<?>> createDataSet(@RequestBody DataSetCreateRequest input) {
+        ServletUriComponentsBuilder locationBuilder = ServletUriComponentsBuilder.fromCurrentRequest();
 
-        String dataSetName = getDataSetService().createDataSet(input);
+        return supplyAsync(() -> {
+            String dataSetName = getDataSetService().createDataSet(input);
 
-        URI location = ServletUriComponentsBuilder.fromCurrentRequest().path("/{dataSetName}")
-                .buildAndExpand(dataSetName).toUri();
+            URI location = locationBuilder.path("/{dataSetName}").buildAndExpand(dataSetName).toUri();
 
-        return ResponseEntity.created(location).build();
+            return ResponseEntity.created(location).build();
+        });
     }
 
     @PutMapping(value = "{dataSetName}/content", produces = {"application/json"})
     @Operation(summary = "Sets the content of a sequential data set, or PDS member", operationId = "putContent", description = "This API writes content to a sequential data set or partitioned data set member.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ResponseEntity<?> putContent(
+    public CompletableFuture<ResponseEntity<?>> putContent(
             @Parameter(description = "Data set name, e.g. HLQ.PS or HLQ.PO(MEMBER)", required = true) @PathVariable String dataSetName,
             @RequestBody DataSetContent input, @RequestHeader(value = "If-Match", required = false) String ifMatch,
             @RequestHeader(value = "X-Return-Etag", required = false) String etagHeader) {
         DataSetContentWithEtag request = new DataSetContentWithEtag(input, ifMatch);
-        String putEtag = getDataSetService().putContent(dataSetName, request);
+        return supplyAsync(() -> {
+            String putEtag = getDataSetService().putContent(dataSetName, request);
 
-        HttpHeaders headers = new HttpHeaders();
-        if ("true".equalsIgnoreCase(etagHeader)) {
-            headers.add("Access-Control-Expose-Headers", "ETag");
-            headers.add("ETag", "\"" + putEtag + "\"");
-        }
-        return new ResponseEntity<>(headers, HttpStatus.NO_CONTENT);
+            HttpHeaders headers = new HttpHeaders();
+            if ("true".equalsIgnoreCase(etagHeader)) {
+                headers.add("Access-Control-Expose-Headers", "ETag");
+                headers.add("ETag", "\"" + putEtag + "\"");
+            }
+            return new ResponseEntity<>(headers, HttpStatus.NO_CONTENT);
+        });
+    }
+
+    @PutMapping(value = "{dataSetName}/content/raw", consumes = {"text/plain", "application/octet-stream"})
+    @Operation(summary = "Stream content to a sequential data set, or PDS member", operationId = "putContentStream", description = "This API writes the raw request body to a sequential data set or partitioned data set member without holding it in memory. An application/octet-stream body is written in binary mode.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "Ok")})
+    public CompletableFuture<ResponseEntity<?>> putContentStream(
+            @Parameter(description = "Data set name, e.g. HLQ.PS or HLQ.PO(MEMBER)", required = true) @PathVariable String dataSetName,
+            InputStream input, @RequestHeader(value = HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(value = "If-Match", required = false) String ifMatch,
+            @RequestHeader(value = "X-Return-Etag", required = false) String etagHeader) {
+        boolean binary = MediaType.APPLICATION_OCTET_STREAM.isCompatibleWith(MediaType.parseMediaType(contentType));
+        DataSetContentStreamWithEtag request = new DataSetContentStreamWithEtag(input, ifMatch);
+        return supplyAsync(() -> {
+            String putEtag = getDataSetService().putContentStream(dataSetName, request, binary);
+
+            HttpHeaders headers = new HttpHeaders();
+            if ("true".equalsIgnoreCase(etagHeader)) {
+                headers.add("Access-Control-Expose-Headers", "ETag");
+                headers.add("ETag", "\"" + putEtag + "\"");
+            }
+            return new ResponseEntity<>(headers, HttpStatus.NO_CONTENT);
+        });
     }
 
     @PutMapping(value = "{oldDataSetName}/rename", produces = {"application/json"})
     @Operation(summary = "Rename of a sequential data set, or PDS member", operationId = "renameContent", description = "This API renames data set or partitioned data set member.")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ResponseEntity<Void> putRename(
+    public CompletableFuture<ResponseEntity<Void>> putRename(
             @Parameter(description = "Data set name, e.g. HLQ.PS or HLQ.PO(MEMBER)", required = true) @PathVariable String oldDataSetName,
             @RequestBody DataSetRenameRequest input) {
-        getDataSetService().renameDataSet(oldDataSetName, input);
-        return ResponseEntity.noContent().build();
+        return supplyAsync(() -> {
+            getDataSetService().renameDataSet(oldDataSetName, input);
+            return ResponseEntity.noContent().build();
+        });
     }
 
     @DeleteMapping(value = "{dataSetName:.+}")
     @Operation(summary = "Delete a data set or member", description = "This API deletes a data set or data set member.")
     @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "Data set or member successfully deleted")})
-    public ResponseEntity<?> deleteDatasetMember(
+    public CompletableFuture<ResponseEntity<?>> deleteDatasetMember(
             @Parameter(description = "Data set name", required = true) @PathVariable String dataSetName) {
 
-        getDataSetService().deleteDataSet(dataSetName);
-        return ResponseEntity.noContent().build();
+        return supplyAsync(() -> {
+            getDataSetService().deleteDataSet(dataSetName);
+            return ResponseEntity.noContent().build();
+        });
     }
 }
@@ -19,8 +19,6 @@ import org.springframework.web.bind.annotation.RestController;
 import org.zowe.api.common.controller.AbstractApiController;
 import org.zowe.data.sets.services.DataSetService;
 
-import javax.servlet.http.HttpServletRequest;
-
 @RestController
 @RequestMapping("/api/v1/datasets")
 @Tag(name = "Data Sets V1 APIs")
@@ -29,15 +27,9 @@ public class DataSetsControllerV1 extends AbstractDataSetsController {
     @Autowired
     @Qualifier("ZosmfDataSetServiceV1")
     private DataSetService dataSetService;
-    
-    @Autowired
-    private HttpServletRequest request;
 
     @Override
     DataSetService getDataSetService() {
-        if (request != null) {
-            dataSetService.setRequest(request);
-        }
         return dataSetService;
     }
     
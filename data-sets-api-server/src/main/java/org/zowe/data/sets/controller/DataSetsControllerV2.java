@@ -18,8 +18,6 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.zowe.data.sets.services.DataSetService;
 
-import javax.servlet.http.HttpServletRequest;
-
 @RestController
 @RequestMapping("/api/v2/datasets")
 @Tag(name = "Data Sets V2 APIs")
@@ -29,14 +27,8 @@ public class DataSetsControllerV2 extends AbstractDataSetsController {
     @Qualifier("ZosmfDataSetServiceV2")
     private DataSetService dataSetService;
 
-    @Autowired
-    private HttpServletRequest request;
-
     @Override
     DataSetService getDataSetService() {
-        if (request != null) {
-            dataSetService.setRequest(request);
-        }
         return dataSetService;
     }
 
@@ -0,0 +1,24 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.exceptions.ZoweApiRestException;
+
+public class BatchTooLargeException extends ZoweApiRestException {
+
+    private static final long serialVersionUID = -3042198614877202563L;
+
+    public BatchTooLargeException(int size, int maxSize) {
+        super(HttpStatus.BAD_REQUEST, "The batch of ''{0}'' names is larger than the maximum of ''{1}''",
+                String.valueOf(size), String.valueOf(maxSize));
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.exceptions.ZoweApiRestException;
+
+public class InvalidPageLimitException extends ZoweApiRestException {
+
+    private static final long serialVersionUID = 2739645113457822405L;
+
+    public InvalidPageLimitException(int limit) {
+        super(HttpStatus.BAD_REQUEST, "The page limit ''{0}'' is not valid, it must be greater than 0", String.valueOf(limit));
+    }
+}
@@ -114,7 +114,7 @@ public class FieldMapper {
 
     @migr
     public boolean migrated(JsonObject in) {
-        return "YES".equals(getStringOrNull(in, "migr"));
+        return toMigrated(getStringOrNull(in, "migr"));
     }
 
     @blksz
@@ -139,24 +139,13 @@ public class FieldMapper {
 
     @dsorg
     public DataSetOrganisationType dataSetOrganization(JsonObject in) {
-        DataSetOrganisationType value = null;
-        String dsorg = getStringOrNull(in, "dsorg");
-        if (dsorg != null) {
-            value = DataSetOrganisationType.getByZosmfName(dsorg);
-        }
-        return value;
+        return toDataSetOrganization(getStringOrNull(in, "dsorg"));
     }
 
 
     @spacu
     public AllocationUnitType allocationUnit(JsonObject in) {
-        AllocationUnitType value = null;
-        String spacu = getStringOrNull(in, "spacu");
-        if (spacu != null) {
-            // SJH : spacu returns a plural string, so strip 's' off the end
-            value = AllocationUnitType.valueOf(spacu.substring(0, spacu.length() - 1));
-        }
-        return value;
+        return toAllocationUnit(getStringOrNull(in, "spacu"));
     }
 
     @edate
@@ -189,15 +178,40 @@ public class FieldMapper {
         return getIntegerOrNull(in, "used");
     }
 
-    private Integer getIntegerOrNull(JsonObject json, String key) {
-        Integer value = null;
-        JsonElement jsonElement = json.get(key);
-        if (!(jsonElement == null || jsonElement.isJsonNull() || jsonElement.getAsString().equals("?"))) {
-            value = jsonElement.getAsInt();
+    /*
+     * The conversions of z/OSMF list values, shared with ZosmfDataSetItem, which
+     * reads the values without a JsonObject
+     */
+
+    public static boolean toMigrated(String migr) {
+        return "YES".equals(migr);
+    }
+
+    public static DataSetOrganisationType toDataSetOrganization(String dsorg) {
+        DataSetOrganisationType value = null;
+        if (dsorg != null) {
+            value = DataSetOrganisationType.getByZosmfName(dsorg);
+        }
+        return value;
+    }
+
+    public static AllocationUnitType toAllocationUnit(String spacu) {
+        AllocationUnitType value = null;
+        if (spacu != null) {
+            // SJH : spacu returns a plural string, so strip 's' off the end
+            value = AllocationUnitType.valueOf(spacu.substring(0, spacu.length() - 1));
         }
         return value;
     }
 
+    public static Integer toInteger(String value) {
+        return value == null ? null : Integer.valueOf(value);
+    }
+
+    private Integer getIntegerOrNull(JsonObject json, String key) {
+        return toInteger(getStringOrNull(json, key));
+    }
+
     private String getStringOrNull(JsonObject json, String key) {
         String value = null;
         JsonElement jsonElement = json.get(key);
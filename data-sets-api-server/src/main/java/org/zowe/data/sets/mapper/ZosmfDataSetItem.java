@@ -0,0 +1,202 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.mapper;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import org.zowe.data.sets.model.DataSet;
+import org.zowe.data.sets.model.DataSetAttributes;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * One item of a z/OSMF data set list response, read field by field from a
+ * {@link JsonReader} so that large listings can be mapped without building a
+ * Gson tree. Values are converted by the same {@link FieldMapper} rules.
+ */
+public class ZosmfDataSetItem {
+
+    /**
+     * The DataSetAttributes fields a listing fills in, which can be asked for by
+     * name to map only some of them
+     */
+    public static final Set<String> ATTRIBUTE_FIELDS = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(
+            "name", "volumeSerial", "deviceType", "dataSetOrganization", "allocationUnit", "recordFormat", "blockSize",
+            "recordLength", "allocatedSize", "used", "migrated", "catalogName", "creationDate", "expirationDate")));
+
+    private String dsname;
+    private String migr;
+    private String vols;
+    private String dev;
+    private String dsorg;
+    private String spacu;
+    private String recfm;
+    private String blksz;
+    private String lrecl;
+    private String sizex;
+    private String used;
+    private String catnm;
+    private String cdate;
+    private String edate;
+
+    /**
+     * Reads the next object from the reader, skipping any fields that are not
+     * mapped
+     */
+    public static ZosmfDataSetItem read(JsonReader reader) throws IOException {
+        ZosmfDataSetItem item = new ZosmfDataSetItem();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+            case "dsname":
+                item.dsname = nextStringOrNull(reader);
+                break;
+            case "migr":
+                item.migr = nextStringOrNull(reader);
+                break;
+            case "vols":
+                item.vols = nextStringOrNull(reader);
+                break;
+            case "dev":
+                item.dev = nextStringOrNull(reader);
+                break;
+            case "dsorg":
+                item.dsorg = nextStringOrNull(reader);
+                break;
+            case "spacu":
+                item.spacu = nextStringOrNull(reader);
+                break;
+            case "recfm":
+                item.recfm = nextStringOrNull(reader);
+                break;
+            case "blksz":
+                item.blksz = nextStringOrNull(reader);
+                break;
+            case "lrecl":
+                item.lrecl = nextStringOrNull(reader);
+                break;
+            case "sizex":
+                item.sizex = nextStringOrNull(reader);
+                break;
+            case "used":
+                item.used = nextStringOrNull(reader);
+                break;
+            case "catnm":
+                item.catnm = nextStringOrNull(reader);
+                break;
+            case "cdate":
+                item.cdate = nextStringOrNull(reader);
+                break;
+            case "edate":
+                item.edate = nextStringOrNull(reader);
+                break;
+            default:
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return item;
+    }
+
+    public String getName() {
+        return dsname;
+    }
+
+    public DataSet toDataSet() {
+        return DataSet.builder().name(dsname).migrated(FieldMapper.toMigrated(migr)).build();
+    }
+
+    /**
+     * @throws IllegalArgumentException if z/OSMF returned a value that can't be
+     *             mapped
+     */
+    public DataSetAttributes toDataSetAttributes() {
+        return toDataSetAttributes(null);
+    }
+
+    /**
+     * Maps only the name and the given ATTRIBUTE_FIELDS, leaving the rest null
+     *
+     * @param fields the fields to map, or null for all of them
+     * @throws IllegalArgumentException if z/OSMF returned a value that can't be
+     *             mapped
+     */
+    public DataSetAttributes toDataSetAttributes(Set<String> fields) {
+        DataSetAttributes attributes = new DataSetAttributes();
+        attributes.setName(dsname);
+        if (includes(fields, "volumeSerial")) {
+            attributes.setVolumeSerial(vols);
+        }
+        if (includes(fields, "deviceType")) {
+            attributes.setDeviceType(dev);
+        }
+        if (includes(fields, "dataSetOrganization")) {
+            attributes.setDataSetOrganization(FieldMapper.toDataSetOrganization(dsorg));
+        }
+        if (includes(fields, "allocationUnit")) {
+            attributes.setAllocationUnit(FieldMapper.toAllocationUnit(spacu));
+        }
+        if (includes(fields, "recordFormat")) {
+            attributes.setRecordFormat(recfm);
+        }
+        if (includes(fields, "blockSize")) {
+            attributes.setBlockSize(FieldMapper.toInteger(blksz));
+        }
+        if (includes(fields, "recordLength")) {
+            attributes.setRecordLength(FieldMapper.toInteger(lrecl));
+        }
+        if (includes(fields, "allocatedSize")) {
+            attributes.setAllocatedSize(FieldMapper.toInteger(sizex));
+        }
+        if (includes(fields, "used")) {
+            attributes.setUsed(FieldMapper.toInteger(used));
+        }
+        if (includes(fields, "migrated")) {
+            attributes.setMigrated(FieldMapper.toMigrated(migr));
+        }
+        if (includes(fields, "catalogName")) {
+            attributes.setCatalogName(catnm);
+        }
+        if (includes(fields, "creationDate")) {
+            attributes.setCreationDate(cdate);
+        }
+        if (includes(fields, "expirationDate")) {
+            attributes.setExpirationDate(edate);
+        }
+        return attributes;
+    }
+
+    private static boolean includes(Set<String> fields, String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    private static String nextStringOrNull(JsonReader reader) throws IOException {
+        JsonToken token = reader.peek();
+        String value;
+        if (token == JsonToken.NULL) {
+            reader.nextNull();
+            value = null;
+        } else if (token == JsonToken.BOOLEAN) {
+            value = String.valueOf(reader.nextBoolean());
+        } else if (token == JsonToken.STRING || token == JsonToken.NUMBER) {
+            value = reader.nextString();
+        } else {
+            reader.skipValue();
+            value = null;
+        }
+        return "?".equals(value) ? null : value;
+    }
+}
@@ -0,0 +1,163 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.data.sets.model.DataSetAttributes;
+import org.zowe.data.sets.model.DataSetAttributesResult;
+import org.zowe.spring.BoundedExecutor;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toList;
+import static org.zowe.data.sets.services.zosmf.AbstractListDataSetsZosmfRequestRunner.ZOSMF_DEFAULT_MAX_ITEMS;
+
+/**
+ * Looks up the attributes of many data sets with as few catalog searches as
+ * possible. Names that share their parent qualifiers are found with one
+ * PARENT.* listing and a name alone under its parent with a listing of just
+ * that name. Listings run on the executor, up to parallelism at once, and go
+ * through the service so they are cached and coalesced like any other.
+ */
+@Slf4j
+public class DataSetAttributesBatch {
+
+    private static final Pattern DATA_SET_NAME = Pattern
+        .compile("[A-Z@#$][A-Z0-9@#$-]{0,7}(\\.[A-Z@#$][A-Z0-9@#$-]{0,7})*");
+    private static final int MAX_NAME_LENGTH = 44;
+
+    private final DataSetService dataSetService;
+    private final Executor executor;
+
+    public DataSetAttributesBatch(DataSetService dataSetService, Executor executor, int parallelism) {
+        this.dataSetService = dataSetService;
+        this.executor = new BoundedExecutor(executor, parallelism);
+    }
+
+    /**
+     * The result for each name, in the order requested
+     */
+    public CompletableFuture<List<DataSetAttributesResult>> lookup(List<String> names) {
+        Map<String, List<String>> byParent = new LinkedHashMap<>();
+        for (String name : names) {
+            String dataSetName = normalise(name);
+            if (dataSetName != null) {
+                List<String> siblings = byParent.computeIfAbsent(parent(dataSetName), parent -> new ArrayList<>());
+                if (!siblings.contains(dataSetName)) {
+                    siblings.add(dataSetName);
+                }
+            }
+        }
+
+        Map<String, CompletableFuture<DataSetAttributesResult>> lookups = new HashMap<>();
+        for (Map.Entry<String, List<String>> group : byParent.entrySet()) {
+            List<String> siblings = group.getValue();
+            if (group.getKey() == null || siblings.size() == 1) {
+                siblings.forEach(name -> lookups.put(name, list(name).thenApply(listing -> listing.result(name))));
+            } else {
+                CompletableFuture<Listing> listing = list(group.getKey() + ".*");
+                siblings.forEach(name -> lookups.put(name, listing.thenCompose(found -> found.isMissing(name)
+                        ? list(name).thenApply(exact -> exact.result(name))
+                        : CompletableFuture.completedFuture(found.result(name)))));
+            }
+        }
+
+        List<CompletableFuture<DataSetAttributesResult>> results = names.stream().map(name -> {
+            String dataSetName = normalise(name);
+            if (dataSetName == null) {
+                return CompletableFuture.completedFuture(DataSetAttributesResult.builder().name(name)
+                    .status(HttpStatus.BAD_REQUEST.name())
+                    .message(String.format("'%s' is not a valid data set name", name)).build());
+            }
+            return lookups.get(dataSetName).thenApply(result -> DataSetAttributesResult.builder().name(name)
+                .status(result.getStatus()).attributes(result.getAttributes()).message(result.getMessage()).build());
+        }).collect(toList());
+        return CompletableFuture.allOf(results.toArray(new CompletableFuture<?>[0]))
+            .thenApply(done -> results.stream().map(CompletableFuture::join).collect(toList()));
+    }
+
+    static String normalise(String name) {
+        if (name == null) {
+            return null;
+        }
+        String dataSetName = name.trim().toUpperCase(Locale.ROOT);
+        return dataSetName.length() <= MAX_NAME_LENGTH && DATA_SET_NAME.matcher(dataSetName).matches() ? dataSetName
+                : null;
+    }
+
+    private static String parent(String dataSetName) {
+        int lastQualifier = dataSetName.lastIndexOf('.');
+        return lastQualifier < 0 ? null : dataSetName.substring(0, lastQualifier);
+    }
+
+    private CompletableFuture<Listing> list(String filter) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                List<DataSetAttributes> items = dataSetService.listDataSetAttributes(filter).getItems();
+                Map<String, DataSetAttributes> byName = new HashMap<>();
+                items.forEach(item -> byName.put(item.getName(), item));
+                // beyond z/OSMF's default max items a missing name may just have been cut off
+                return new Listing(byName, items.size() < ZOSMF_DEFAULT_MAX_ITEMS, null, null);
+            } catch (ZoweApiException e) {
+                return new Listing(null, true, e.getApiError().getStatus().name(), e.getApiError().getMessage());
+            } catch (RuntimeException e) {
+                log.error("listDataSetAttributes " + filter, e);
+                return new Listing(null, true, HttpStatus.INTERNAL_SERVER_ERROR.name(),
+                        "The data set attributes could not be listed");
+            }
+        }, executor);
+    }
+
+    private static class Listing {
+        private final Map<String, DataSetAttributes> byName;
+        private final boolean complete;
+        private final String errorStatus;
+        private final String errorMessage;
+
+        Listing(Map<String, DataSetAttributes> byName, boolean complete, String errorStatus, String errorMessage) {
+            this.byName = byName;
+            this.complete = complete;
+            this.errorStatus = errorStatus;
+            this.errorMessage = errorMessage;
+        }
+
+        /**
+         * Whether the name may be missing only because z/OSMF cut the listing short
+         */
+        boolean isMissing(String name) {
+            return errorStatus == null && !complete && !byName.containsKey(name);
+        }
+
+        DataSetAttributesResult result(String name) {
+            DataSetAttributesResult.DataSetAttributesResultBuilder result = DataSetAttributesResult.builder().name(name);
+            if (errorStatus != null) {
+                return result.status(errorStatus).message(errorMessage).build();
+            }
+            DataSetAttributes attributes = byName.get(name);
+            if (attributes == null) {
+                return result.status(HttpStatus.NOT_FOUND.name())
+                    .message(String.format("Data set '%s' was not found", name)).build();
+            }
+            return result.status(HttpStatus.OK.name()).attributes(attributes).build();
+        }
+    }
+}
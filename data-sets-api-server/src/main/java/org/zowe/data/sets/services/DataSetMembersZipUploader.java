@@ -0,0 +1,191 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.data.sets.exceptions.InvalidArchiveException;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
+import org.zowe.data.sets.model.DataSetMemberUploadStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Writes each entry of a ZIP archive to a member of a partitioned data set,
+ * with up to parallelism writes running on the executor at once. The member
+ * name is the entry's file name up to the first dot, so archives written by
+ * {@link DataSetMembersZipWriter} can be uploaded again. A later entry for a
+ * member already written is rejected, as parallel writes to one member would
+ * finish in any order. Only the entries being written are held in memory.
+ *
+ * The upload usually runs on the executor itself, so rather than wait for a
+ * pool thread it runs queued writes on its own thread when at the limit. Each
+ * instance uploads one archive.
+ */
+@Slf4j
+public class DataSetMembersZipUploader {
+
+    private static final Pattern MEMBER_NAME = Pattern.compile("[A-Z@#$][A-Z0-9@#$]{0,7}");
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataSetService dataSetService;
+    private final Executor executor;
+    private final int parallelism;
+
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private int inFlight;
+
+    public DataSetMembersZipUploader(DataSetService dataSetService, Executor executor, int parallelism) {
+        this.dataSetService = dataSetService;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Writes the archive's entries and returns their statuses in archive order
+     */
+    public List<DataSetMemberUploadStatus> upload(String dataSetName, boolean binary, InputStream archive)
+            throws InterruptedException {
+        List<DataSetMemberUploadStatus> statuses = Collections.synchronizedList(new ArrayList<>());
+        Set<String> members = new HashSet<>();
+        try {
+            ZipInputStream zip = new ZipInputStream(archive);
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || DataSetMembersZipWriter.ERRORS_ENTRY.equals(entry.getName())) {
+                    continue;
+                }
+                String entryName = entry.getName();
+                String member = memberName(entryName);
+                if (member == null) {
+                    statuses.add(DataSetMemberUploadStatus.builder().entry(entryName)
+                        .status(HttpStatus.BAD_REQUEST.name())
+                        .message(String.format("'%s' is not a valid member name", entryName)).build());
+                    continue;
+                }
+                if (!members.add(member)) {
+                    statuses.add(DataSetMemberUploadStatus.builder().entry(entryName).member(member)
+                        .status(HttpStatus.BAD_REQUEST.name())
+                        .message(String.format("Member '%s' is already written by an earlier entry", member)).build());
+                    continue;
+                }
+                byte[] content = read(zip);
+                int index = statuses.size();
+                statuses.add(null);
+                submit(() -> statuses.set(index, write(dataSetName, entryName, member, content, binary)));
+            }
+        } catch (IOException e) {
+            awaitInFlightBelow(1);
+            throw new InvalidArchiveException(e.getMessage());
+        }
+        awaitInFlightBelow(1);
+        return statuses;
+    }
+
+    static String memberName(String entryName) {
+        String fileName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        int extension = fileName.indexOf('.');
+        String member = (extension < 0 ? fileName : fileName.substring(0, extension)).toUpperCase(Locale.ROOT);
+        return MEMBER_NAME.matcher(member).matches() ? member : null;
+    }
+
+    private static byte[] read(InputStream in) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int length;
+        while ((length = in.read(buffer)) != -1) {
+            content.write(buffer, 0, length);
+        }
+        return content.toByteArray();
+    }
+
+    private DataSetMemberUploadStatus write(String dataSetName, String entryName, String member, byte[] content,
+            boolean binary) {
+        String name = String.format("%s(%s)", dataSetName, member);
+        DataSetMemberUploadStatus.DataSetMemberUploadStatusBuilder status = DataSetMemberUploadStatus.builder()
+            .entry(entryName).member(member);
+        try {
+            String etag = dataSetService.putContentStream(name,
+                    new DataSetContentStreamWithEtag(new ByteArrayInputStream(content), null), binary);
+            return status.status(HttpStatus.OK.name()).etag(etag == null ? null : "\"" + etag + "\"").build();
+        } catch (ZoweApiException e) {
+            return status.status(e.getApiError().getStatus().name()).message(e.getApiError().getMessage()).build();
+        } catch (RuntimeException e) {
+            log.error("putContentStream " + name, e);
+            return status.status(HttpStatus.INTERNAL_SERVER_ERROR.name()).message("The member could not be written")
+                .build();
+        }
+    }
+
+    private void submit(Runnable write) throws InterruptedException {
+        synchronized (waiting) {
+            waiting.add(write);
+            inFlight++;
+        }
+        executor.execute(this::runWaiting);
+        awaitInFlightBelow(parallelism);
+    }
+
+    private void awaitInFlightBelow(int limit) throws InterruptedException {
+        while (true) {
+            Runnable write;
+            synchronized (waiting) {
+                if (inFlight < limit) {
+                    return;
+                }
+                write = waiting.poll();
+                if (write == null) {
+                    waiting.wait();
+                    continue;
+                }
+            }
+            run(write);
+        }
+    }
+
+    private void runWaiting() {
+        Runnable write;
+        synchronized (waiting) {
+            write = waiting.poll();
+        }
+        if (write != null) {
+            run(write);
+        }
+    }
+
+    private void run(Runnable write) {
+        try {
+            write.run();
+        } finally {
+            synchronized (waiting) {
+                inFlight--;
+                waiting.notifyAll();
+            }
+        }
+    }
+}
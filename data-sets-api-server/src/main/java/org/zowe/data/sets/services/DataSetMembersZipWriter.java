@@ -0,0 +1,166 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.data.sets.model.PagedItemsWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Writes the members of a partitioned data set to a ZIP archive, reading up to
+ * parallelism members from z/OSMF at once on the executor. Each member is held
+ * in memory only until it has been written, and members are written in the
+ * order they arrive. Members that cannot be read are listed in an errors.txt
+ * entry at the end of the archive. If writing fails, reads that have not
+ * started are skipped and those running are waited for before returning.
+ */
+@Slf4j
+public class DataSetMembersZipWriter {
+
+    public static final int PAGE_SIZE = 1000;
+    static final String ERRORS_ENTRY = "errors.txt";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final DataSetService dataSetService;
+    private final Executor executor;
+    private final int parallelism;
+
+    public DataSetMembersZipWriter(DataSetService dataSetService, Executor executor, int parallelism) {
+        this.dataSetService = dataSetService;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Writes the members, starting with the already listed first page, and
+     * returns the number written
+     */
+    public int write(String dataSetName, String pattern, boolean binary, PagedItemsWrapper<String> firstPage,
+            OutputStream outputStream) throws IOException, InterruptedException {
+        BlockingQueue<Member> read = new LinkedBlockingQueue<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        List<String> errors = new ArrayList<>();
+        PagedItemsWrapper<String> page = firstPage;
+        int listed = 0;
+        int running = 0;
+        int written = 0;
+
+        ZipOutputStream zip = new ZipOutputStream(outputStream);
+        try {
+            while (true) {
+                while (running < parallelism && (listed < page.getItems().size() || page.getNext() != null)) {
+                    if (listed == page.getItems().size()) {
+                        page = dataSetService.listDataSetMembers(dataSetName, PAGE_SIZE, page.getNext(), pattern);
+                        listed = 0;
+                        continue;
+                    }
+                    read(dataSetName, page.getItems().get(listed++), binary, read, cancelled);
+                    running++;
+                }
+                if (running == 0) {
+                    break;
+                }
+                Member member = read.take();
+                running--;
+                if (member.error != null) {
+                    errors.add(member.name + ": " + member.error);
+                } else {
+                    zip.putNextEntry(new ZipEntry(member.name));
+                    zip.write(member.content);
+                    zip.closeEntry();
+                    zip.flush();
+                    written++;
+                }
+            }
+            if (!errors.isEmpty()) {
+                zip.putNextEntry(new ZipEntry(ERRORS_ENTRY));
+                zip.write((String.join("\n", errors) + "\n").getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+            zip.flush();
+        } finally {
+            cancelled.set(true);
+            awaitReads(read, running);
+        }
+        return written;
+    }
+
+    private void read(String dataSetName, String memberName, boolean binary, BlockingQueue<Member> read,
+            AtomicBoolean cancelled) {
+        executor.execute(() -> {
+            if (cancelled.get()) {
+                read.add(new Member(memberName, null, null));
+                return;
+            }
+            String name = String.format("%s(%s)", dataSetName, memberName);
+            try (InputStream in = dataSetService.getContentStream(name, binary).getContent()) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int length;
+                while ((length = in.read(buffer)) != -1) {
+                    content.write(buffer, 0, length);
+                }
+                read.add(new Member(memberName, content.toByteArray(), null));
+            } catch (ZoweApiException e) {
+                read.add(new Member(memberName, null, e.getApiError().getMessage()));
+            } catch (IOException | RuntimeException e) {
+                log.error("getContentStream " + name, e);
+                read.add(new Member(memberName, null, "The member could not be read"));
+            }
+        });
+    }
+
+    private static void awaitReads(BlockingQueue<Member> read, int running) {
+        boolean interrupted = false;
+        for (int remaining = running; remaining > 0; remaining--) {
+            while (true) {
+                try {
+                    read.take();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Member {
+        private final String name;
+        private final byte[] content;
+        private final String error;
+
+        Member(String name, byte[] content, String error) {
+            this.name = name;
+            this.content = content;
+            this.error = error;
+        }
+    }
+}
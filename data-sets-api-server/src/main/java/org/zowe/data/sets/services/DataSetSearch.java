@@ -0,0 +1,140 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.data.sets.model.DataSetAttributes;
+import org.zowe.data.sets.model.DataSetSearchEntry;
+import org.zowe.spring.BoundedExecutor;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import static org.zowe.data.sets.services.zosmf.AbstractListDataSetsZosmfRequestRunner.ZOSMF_DEFAULT_MAX_ITEMS;
+
+/**
+ * Lists several data set filters at once, one z/OSMF request per filter with
+ * up to parallelism of them running on the executor. Data sets are passed to
+ * the sink on the calling thread as each listing arrives, so the order between
+ * filters is not fixed, and a data set found by more than one filter is only
+ * passed for the first. A filter that cannot be listed is reported as an entry
+ * with an error and the other filters are still listed. If the search ends
+ * early, filters not yet started are skipped and those running are waited for.
+ */
+@Slf4j
+public class DataSetSearch {
+
+    private final DataSetService dataSetService;
+    private final Executor executor;
+
+    public DataSetSearch(DataSetService dataSetService, Executor executor, int parallelism) {
+        this.dataSetService = dataSetService;
+        this.executor = new BoundedExecutor(executor, parallelism);
+    }
+
+    /**
+     * Lists the filters and returns the number of data sets passed to the sink
+     */
+    public int search(List<String> filters, Consumer<DataSetSearchEntry> sink) throws InterruptedException {
+        Set<String> distinctFilters = new LinkedHashSet<>();
+        for (String filter : filters) {
+            if (filter != null && !filter.trim().isEmpty()) {
+                distinctFilters.add(filter.trim().toUpperCase(Locale.ROOT));
+            }
+        }
+
+        BlockingQueue<Listing> listed = new LinkedBlockingQueue<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        distinctFilters.forEach(filter -> list(filter, listed, cancelled));
+
+        Set<String> found = new HashSet<>();
+        int remaining = distinctFilters.size();
+        try {
+            while (remaining > 0) {
+                Listing listing = listed.take();
+                remaining--;
+                if (listing.error != null) {
+                    sink.accept(DataSetSearchEntry.builder().filter(listing.filter).error(listing.error).build());
+                    continue;
+                }
+                for (DataSetAttributes attributes : listing.items) {
+                    if (found.add(attributes.getName())) {
+                        sink.accept(DataSetSearchEntry.builder().filter(listing.filter).attributes(attributes).build());
+                    }
+                }
+                if (listing.items.size() >= ZOSMF_DEFAULT_MAX_ITEMS) {
+                    sink.accept(DataSetSearchEntry.builder().filter(listing.filter)
+                        .error(String.format("Listing stopped after %d data sets", listing.items.size())).build());
+                }
+            }
+        } finally {
+            cancelled.set(true);
+            awaitListings(listed, remaining);
+        }
+        return found.size();
+    }
+
+    private void list(String filter, BlockingQueue<Listing> listed, AtomicBoolean cancelled) {
+        executor.execute(() -> {
+            if (cancelled.get()) {
+                listed.add(new Listing(filter, null, null));
+                return;
+            }
+            try {
+                listed.add(new Listing(filter, dataSetService.listDataSetAttributes(filter).getItems(), null));
+            } catch (ZoweApiException e) {
+                listed.add(new Listing(filter, null, e.getApiError().getMessage()));
+            } catch (RuntimeException e) {
+                log.error("listDataSetAttributes " + filter, e);
+                listed.add(new Listing(filter, null, "The data sets could not be listed"));
+            }
+        });
+    }
+
+    private static void awaitListings(BlockingQueue<Listing> listed, int running) {
+        boolean interrupted = false;
+        for (int remaining = running; remaining > 0; remaining--) {
+            while (true) {
+                try {
+                    listed.take();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class Listing {
+        private final String filter;
+        private final List<DataSetAttributes> items;
+        private final String error;
+
+        Listing(String filter, List<DataSetAttributes> items, String error) {
+            this.filter = filter;
+            this.items = items;
+            this.error = error;
+        }
+    }
+}
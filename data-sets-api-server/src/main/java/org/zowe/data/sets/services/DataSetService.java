@@ -10,53 +10,62 @@
 
 package org.zowe.data.sets.services;
 
-import lombok.Setter;
-
 import org.apache.http.Header;
-import org.apache.http.message.BasicHeader;
 import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.data.sets.model.DataSet;
 import org.zowe.data.sets.model.DataSetAttributes;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
 import org.zowe.data.sets.model.DataSetContentWithEtag;
 import org.zowe.data.sets.model.DataSetCreateRequest;
 import org.zowe.data.sets.model.DataSetRenameRequest;
+import org.zowe.data.sets.model.PagedItemsWrapper;
+import org.zowe.spring.RequestHeaders;
 
-import javax.servlet.http.HttpServletRequest;
-
-import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
+import java.util.Set;
 
-@Setter
 public abstract class DataSetService {
-    
-    private HttpServletRequest request;
-    
+
     public List<Header> getIbmHeadersFromRequest() {
-        ArrayList<Header> ibmHeaders = new ArrayList<Header>();
-        if (request != null ) {
-            Enumeration<String> headerNames = request.getHeaderNames();
-            while (headerNames.hasMoreElements()) {
-                String headerName = headerNames.nextElement().toUpperCase();
-                if (headerName.contains("X-IBM")) {
-                    Header newHeader = new BasicHeader(headerName, request.getHeader(headerName));
-                    ibmHeaders.add(newHeader);
-                }
-            }
-        }
-        return ibmHeaders;
+        return RequestHeaders.ibmHeaders();
     }
 
     public abstract ItemsWrapper<DataSetAttributes> listDataSetAttributes(String filter);
 
+    public abstract PagedItemsWrapper<DataSetAttributes> listDataSetAttributes(String filter, Integer limit, String start);
+
+    /**
+     * Lists the name and only the given DataSetAttributes fields of each data
+     * set, or all of them if fields is null
+     */
+    public abstract ItemsWrapper<DataSetAttributes> listDataSetAttributes(String filter, Set<String> fields);
+
+    public abstract PagedItemsWrapper<DataSetAttributes> listDataSetAttributes(String filter, Integer limit, String start,
+            Set<String> fields);
+
     public abstract ItemsWrapper<DataSet> listDataSets(String filter);
 
+    public abstract PagedItemsWrapper<DataSet> listDataSets(String filter, Integer limit, String start);
+
     public abstract ItemsWrapper<String> listDataSetMembers(String dataSetName);
 
+    public abstract PagedItemsWrapper<String> listDataSetMembers(String dataSetName, Integer limit, String start,
+            String pattern);
+
     public abstract DataSetContentWithEtag getContent(String dataSetName);
 
+    /**
+     * Reads the content unless its ETag still matches ifNoneMatch, in which case
+     * the result has that ETag and null content
+     */
+    public abstract DataSetContentWithEtag getContent(String dataSetName, String ifNoneMatch);
+
+    public abstract DataSetContentStreamWithEtag getContentStream(String dataSetName, boolean binary);
+
     public abstract String putContent(String dataSetName, DataSetContentWithEtag content);
 
+    public abstract String putContentStream(String dataSetName, DataSetContentStreamWithEtag content, boolean binary);
+
     public abstract String createDataSet(DataSetCreateRequest input);
 
     public abstract void deleteDataSet(String dataSetName);
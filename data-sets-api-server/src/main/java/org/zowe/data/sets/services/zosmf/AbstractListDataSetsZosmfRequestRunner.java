@@ -10,36 +10,82 @@
 
 package org.zowe.data.sets.services.zosmf;
 
-import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import lombok.Getter;
 
 import org.apache.http.Header;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.RequestBuilder;
 import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
+import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.data.sets.exceptions.InvalidPageLimitException;
+import org.zowe.data.sets.mapper.ZosmfDataSetItem;
 
 import java.io.IOException;
+import java.io.StringReader;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.List;
 
-public abstract class AbstractListDataSetsZosmfRequestRunner<T> extends AbstractZosmfDataSetsRequestRunner<T> {
+public abstract class AbstractListDataSetsZosmfRequestRunner<T>
+        extends AbstractZosmfDataSetsRequestRunner<ItemsWrapper<T>> {
+
+    /**
+     * Items z/OSMF returns from a listing without X-IBM-Max-Items
+     */
+    public static final int ZOSMF_DEFAULT_MAX_ITEMS = 1000;
 
     protected String filter;
+    private Integer limit;
+    private String start;
+
+    /**
+     * Name of the first data set after this page, once the runner has run, or
+     * null if there are no more
+     */
+    @Getter
+    private String next;
+
+    /**
+     * Total number of matching data sets if z/OSMF reported it, once the runner
+     * has run
+     */
+    @Getter
+    private Integer totalRows;
 
     public AbstractListDataSetsZosmfRequestRunner(String filter, List<Header> headers) {
+        this(filter, null, null, headers);
+    }
+
+    public AbstractListDataSetsZosmfRequestRunner(String filter, Integer limit, String start, List<Header> headers) {
         super(headers);
+        if (limit != null && limit < 1) {
+            throw new InvalidPageLimitException(limit);
+        }
         this.filter = filter;
+        this.limit = limit;
+        this.start = start;
     }
 
     @Override
     protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
         String query = String.format("dslevel=%s", filter);
+        if (start != null) {
+            query += String.format("&start=%s", start);
+        }
         URI requestUrl = zosmfConnector.getFullUrl("restfiles/ds", query); // $NON-NLS-1$
         RequestBuilder requestBuilder = RequestBuilder.get(requestUrl);
         addHeaders(requestBuilder);
+        if (limit != null) {
+            // one more than the page so the following name can be returned as the cursor
+            requestBuilder.addHeader("X-IBM-Max-Items", String.valueOf(limit + 1));
+        }
         return requestBuilder;
     }
 
@@ -55,13 +101,54 @@ public abstract class AbstractListDataSetsZosmfRequestRunner<T> extends Abstract
         return createDataSetException(jsonResponse, statusCode, filter);
     }
 
+    /**
+     * Items are mapped as they are read rather than building a Gson tree of the
+     * whole listing first
+     */
     @Override
-    protected T getResult(ResponseCache responseCache) throws IOException {
-        JsonObject response = responseCache.getEntityAsJsonObject();
-        JsonElement items = response.get("items");
-        return retrieveItems(items);
+    protected ItemsWrapper<T> getResult(ResponseCache responseCache) throws IOException {
+        List<T> items = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new StringReader(responseCache.getEntity()))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if ("items".equals(name)) {
+                    readItems(reader, items);
+                } else if ("totalRows".equals(name) && reader.peek() == JsonToken.NUMBER) {
+                    totalRows = reader.nextInt();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        return new ItemsWrapper<>(items);
+    }
+
+    private void readItems(JsonReader reader, List<T> items) throws IOException {
+        int count = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            ZosmfDataSetItem item = ZosmfDataSetItem.read(reader);
+            if (limit != null && count == limit) {
+                next = item.getName();
+                while (reader.hasNext()) {
+                    reader.skipValue();
+                }
+                break;
+            }
+            count++;
+            T value = convertItem(item);
+            if (value != null) {
+                items.add(value);
+            }
+        }
+        reader.endArray();
     }
 
-    protected abstract T retrieveItems(JsonElement items);
+    /**
+     * @return the mapped item, or null if it should be left out of the listing
+     */
+    protected abstract T convertItem(ZosmfDataSetItem item);
 
 }
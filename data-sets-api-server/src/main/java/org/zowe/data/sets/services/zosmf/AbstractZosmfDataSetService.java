@@ -10,19 +10,225 @@
 
 package org.zowe.data.sets.services.zosmf;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
 import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.cache.SingleFlight;
+import org.zowe.cache.TtlCache;
+import org.zowe.cache.UserScopedKey;
 import org.zowe.data.sets.model.DataSet;
 import org.zowe.data.sets.model.DataSetAttributes;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
 import org.zowe.data.sets.model.DataSetContentWithEtag;
 import org.zowe.data.sets.model.DataSetCreateRequest;
 import org.zowe.data.sets.model.DataSetRenameRequest;
+import org.zowe.data.sets.model.PagedItemsWrapper;
 import org.zowe.data.sets.services.DataSetService;
+import org.zowe.spring.RequestHeaders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toList;
 
 public abstract class AbstractZosmfDataSetService extends DataSetService {
 
+    static final String SINGLE_FLIGHT = "data.sets";
+    static final String CONTENT_CACHE = "data.sets.content";
+    static final String LISTING_CACHE = "data.sets.listings";
+    static final String CATALOG_INDEX = "data.sets.catalog.index";
+
+    private SingleFlight<UserScopedKey<List<Object>>, Object> singleFlight = new SingleFlight<>(SINGLE_FLIGHT, true);
+    private TtlCache<UserScopedKey<List<Object>>, DataSetContentWithEtag> contentCache = new TtlCache<>(CONTENT_CACHE,
+            500, 300, TimeUnit.SECONDS);
+    private int contentCacheMaxEntryLength = 256 * 1024;
+    private TtlCache<UserScopedKey<List<Object>>, Object> listingCache = new TtlCache<>(LISTING_CACHE, 200, 30,
+            TimeUnit.SECONDS);
+    private DataSetCatalogIndex catalogIndex = new DataSetCatalogIndex(CATALOG_INDEX, 100, 60, TimeUnit.SECONDS);
+    private final AtomicLong writeGeneration = new AtomicLong();
+
     abstract ZosmfConnector getZosmfConnector();
 
+    @Autowired
+    void configureContentCache(@Value("${cache.content.maxSize:500}") int maxSize,
+            @Value("${cache.content.ttlSeconds:300}") long ttlSeconds,
+            @Value("${cache.content.maxEntryLength:262144}") int maxEntryLength) {
+        contentCache = new TtlCache<>(CONTENT_CACHE, maxSize, ttlSeconds, TimeUnit.SECONDS);
+        contentCacheMaxEntryLength = maxEntryLength;
+    }
+
+    TtlCache<UserScopedKey<List<Object>>, DataSetContentWithEtag> getContentCache() {
+        return contentCache;
+    }
+
+    @Autowired
+    void configureListingCache(@Value("${cache.listings.maxSize:200}") int maxSize,
+            @Value("${cache.listings.ttlSeconds:30}") long ttlSeconds) {
+        listingCache = new TtlCache<>(LISTING_CACHE, maxSize, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    TtlCache<UserScopedKey<List<Object>>, Object> getListingCache() {
+        return listingCache;
+    }
+
+    @Autowired
+    void configureCatalogIndex(@Value("${cache.catalogIndex.maxUsers:100}") int maxUsers,
+            @Value("${cache.catalogIndex.ttlSeconds:60}") long ttlSeconds) {
+        catalogIndex = new DataSetCatalogIndex(CATALOG_INDEX, maxUsers, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    DataSetCatalogIndex getCatalogIndex() {
+        return catalogIndex;
+    }
+
+    @Autowired
+    void configureSingleFlight(@Value("${zosmf.singleFlight.enabled:true}") boolean enabled) {
+        singleFlight = new SingleFlight<>(SINGLE_FLIGHT, enabled);
+    }
+
+    SingleFlight<UserScopedKey<List<Object>>, Object> getSingleFlight() {
+        return singleFlight;
+    }
+
+    private List<String> ibmHeaderValues() {
+        return getIbmHeadersFromRequest().stream().map(header -> header.getName() + ": " + header.getValue())
+            .collect(toList());
+    }
+
+    /**
+     * Runs a read, sharing one z/OSMF call with identical reads by the same user
+     * that are already in flight
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(Class<?> runnerType, Supplier<T> read, Object... arguments) {
+        List<Object> key = Arrays.asList(runnerType, Arrays.asList(arguments), ibmHeaderValues());
+        return (T) singleFlight.execute(UserScopedKey.forCurrentUser(key), read);
+    }
+
+    /**
+     * Runs a data set listing through the listing cache, which the request can
+     * bypass with Cache-Control: no-cache. The fresh result is cached either
+     * way, unless this service changed a data set while it was being read. The
+     * write generation is taken by the read that calls z/OSMF, as the listing
+     * may come from a read another request started earlier.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T cachedListing(Class<?> runnerType, Supplier<T> read, String filter, Object... arguments) {
+        UserScopedKey<List<Object>> key = UserScopedKey.forCurrentUser(
+                Arrays.asList(runnerType, normaliseFilter(filter), Arrays.asList(arguments), ibmHeaderValues()));
+        if (!RequestHeaders.noCache()) {
+            T cached = (T) listingCache.getIfPresent(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        List<Object> coalesceArguments = new ArrayList<>(Arrays.asList(arguments));
+        coalesceArguments.add(0, filter);
+        GenerationRead<T> listing = coalesce(runnerType,
+                () -> new GenerationRead<>(writeGeneration.get(), read.get()), coalesceArguments.toArray());
+        unlessWrittenSince(listing.generation, () -> listingCache.put(key, listing.value));
+        return listing.value;
+    }
+
+    /**
+     * Updates a cache with a read that started at the write generation, unless
+     * this service has changed a data set since, which the read may predate
+     */
+    private void unlessWrittenSince(long generation, Runnable update) {
+        synchronized (writeGeneration) {
+            if (writeGeneration.get() == generation) {
+                update.run();
+            }
+        }
+    }
+
+    private static String normaliseFilter(String filter) {
+        return filter == null ? null : filter.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Drops the cached listings, for every user, whose filter could include the
+     * data set, or the data set of the member, this service has changed, and the
+     * catalog index's listings that included it
+     */
+    void invalidateListings(String dataSetName) {
+        if (dataSetName == null) {
+            return;
+        }
+        synchronized (writeGeneration) {
+            writeGeneration.incrementAndGet();
+        }
+        catalogIndex.invalidate(dataSetName);
+        String changed = baseName(dataSetName);
+        listingCache.invalidateIf(key -> {
+            String filter = (String) key.getKey().get(1);
+            return filter == null || filterPattern(filter).matcher(changed).matches();
+        });
+    }
+
+    /**
+     * Stops reads, for every user, joining reads in flight of the data set, its
+     * members, or a filter that could list it, which may predate this service's
+     * change to it
+     */
+    void forgetReads(String dataSetName) {
+        if (dataSetName == null) {
+            return;
+        }
+        String changed = baseName(dataSetName);
+        singleFlight.forgetIf(key -> {
+            List<?> arguments = (List<?>) key.getKey().get(1);
+            if (arguments.isEmpty() || !(arguments.get(0) instanceof String)) {
+                return true;
+            }
+            return filterPattern(baseName((String) arguments.get(0))).matcher(changed).matches();
+        });
+    }
+
+    /**
+     * The upper-cased name without any member
+     */
+    private static String baseName(String dataSetName) {
+        String name = normaliseFilter(dataSetName);
+        int member = name.indexOf('(');
+        return member < 0 ? name : name.substring(0, member);
+    }
+
+    /**
+     * Matches the data sets a z/OSMF dslevel filter could list, erring towards
+     * matching more. * and % match within a qualifier, ** matches any number of
+     * qualifiers, and a filter also matches the data sets below it.
+     */
+    static Pattern filterPattern(String filter) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < filter.length(); i++) {
+            char c = filter.charAt(i);
+            if (filter.startsWith("**.", i)) {
+                regex.append("(.*\\.)?");
+                i += 2;
+            } else if (filter.startsWith("**", i)) {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append("[^.]*");
+            } else if (c == '%') {
+                regex.append("[^.]");
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        regex.append("(\\..*)?");
+        return Pattern.compile(regex.toString());
+    }
 
     // TODO - review error handling, serviceability, https://github.com/zowe/data-sets/issues/16
     // use the zomsf error categories to work out errors
@@ -30,51 +236,250 @@ public abstract class AbstractZosmfDataSetService extends DataSetService {
 
     @Override
     public ItemsWrapper<String> listDataSetMembers(String dataSetName) {
-        ListDataSetMembersZosmfRequestRunner runner = new ListDataSetMembersZosmfRequestRunner(dataSetName, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        return coalesce(ListDataSetMembersZosmfRequestRunner.class, () -> {
+            ListDataSetMembersZosmfRequestRunner runner = new ListDataSetMembersZosmfRequestRunner(dataSetName, getIbmHeadersFromRequest());
+            return runner.run(getZosmfConnector());
+        }, dataSetName);
+    }
+
+    @Override
+    public PagedItemsWrapper<String> listDataSetMembers(String dataSetName, Integer limit, String start,
+            String pattern) {
+        return coalesce(ListDataSetMembersZosmfRequestRunner.class, () -> {
+            ListDataSetMembersZosmfRequestRunner runner = new ListDataSetMembersZosmfRequestRunner(dataSetName, limit,
+                    start, pattern, getIbmHeadersFromRequest());
+            ItemsWrapper<String> items = runner.run(getZosmfConnector());
+            return new PagedItemsWrapper<>(items.getItems(), runner.getNext(), runner.getTotalRows());
+        }, dataSetName, limit, start, pattern);
     }
 
 
     @Override
     public ItemsWrapper<DataSetAttributes> listDataSetAttributes(String filter) {
-        ListDataSetsAttributesZosmfRequestRunner runner = new ListDataSetsAttributesZosmfRequestRunner(filter, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        return cachedListing(ListDataSetsAttributesZosmfRequestRunner.class, () -> {
+            UserScopedKey<List<String>> scope = UserScopedKey.forCurrentUser(ibmHeaderValues());
+            if (!RequestHeaders.noCache()) {
+                List<DataSetAttributes> indexed = catalogIndex.find(scope, filter);
+                if (indexed != null) {
+                    return new ItemsWrapper<>(indexed);
+                }
+            }
+            ListDataSetsAttributesZosmfRequestRunner runner = new ListDataSetsAttributesZosmfRequestRunner(filter, getIbmHeadersFromRequest());
+            long generation = writeGeneration.get();
+            ItemsWrapper<DataSetAttributes> items = runner.run(getZosmfConnector());
+            // only a listing z/OSMF did not cut short is known to hold every data set under the filter
+            Integer totalRows = runner.getTotalRows();
+            if (totalRows == null
+                    ? items.getItems().size() < AbstractListDataSetsZosmfRequestRunner.ZOSMF_DEFAULT_MAX_ITEMS
+                    : totalRows <= items.getItems().size()) {
+                unlessWrittenSince(generation, () -> catalogIndex.record(scope, filter, items.getItems()));
+            }
+            return items;
+        }, filter);
+    }
+
+    @Override
+    public PagedItemsWrapper<DataSetAttributes> listDataSetAttributes(String filter, Integer limit, String start) {
+        return cachedListing(ListDataSetsAttributesZosmfRequestRunner.class, () -> {
+            ListDataSetsAttributesZosmfRequestRunner runner = new ListDataSetsAttributesZosmfRequestRunner(filter, limit,
+                    start, getIbmHeadersFromRequest());
+            ItemsWrapper<DataSetAttributes> items = runner.run(getZosmfConnector());
+            return new PagedItemsWrapper<>(items.getItems(), runner.getNext(), runner.getTotalRows());
+        }, filter, limit, start);
+    }
+
+    @Override
+    public ItemsWrapper<DataSetAttributes> listDataSetAttributes(String filter, Set<String> fields) {
+        if (fields == null) {
+            return listDataSetAttributes(filter);
+        }
+        // projected listings are neither answered from nor recorded in the catalog index, which holds whole attributes
+        Set<String> sortedFields = new TreeSet<>(fields);
+        return cachedListing(ListDataSetsAttributesZosmfRequestRunner.class, () -> {
+            ListDataSetsAttributesZosmfRequestRunner runner = new ListDataSetsAttributesZosmfRequestRunner(filter, null,
+                    null, sortedFields, getIbmHeadersFromRequest());
+            return runner.run(getZosmfConnector());
+        }, filter, sortedFields);
+    }
+
+    @Override
+    public PagedItemsWrapper<DataSetAttributes> listDataSetAttributes(String filter, Integer limit, String start,
+            Set<String> fields) {
+        if (fields == null) {
+            return listDataSetAttributes(filter, limit, start);
+        }
+        Set<String> sortedFields = new TreeSet<>(fields);
+        return cachedListing(ListDataSetsAttributesZosmfRequestRunner.class, () -> {
+            ListDataSetsAttributesZosmfRequestRunner runner = new ListDataSetsAttributesZosmfRequestRunner(filter, limit,
+                    start, sortedFields, getIbmHeadersFromRequest());
+            ItemsWrapper<DataSetAttributes> items = runner.run(getZosmfConnector());
+            return new PagedItemsWrapper<>(items.getItems(), runner.getNext(), runner.getTotalRows());
+        }, filter, limit, start, sortedFields);
     }
 
     @Override
     public ItemsWrapper<DataSet> listDataSets(String filter) {
-        ListDataSetsZosmfRequestRunner runner = new ListDataSetsZosmfRequestRunner(filter, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        return cachedListing(ListDataSetsZosmfRequestRunner.class, () -> {
+            ListDataSetsZosmfRequestRunner runner = new ListDataSetsZosmfRequestRunner(filter, getIbmHeadersFromRequest());
+            return runner.run(getZosmfConnector());
+        }, filter);
+    }
+
+    @Override
+    public PagedItemsWrapper<DataSet> listDataSets(String filter, Integer limit, String start) {
+        return cachedListing(ListDataSetsZosmfRequestRunner.class, () -> {
+            ListDataSetsZosmfRequestRunner runner = new ListDataSetsZosmfRequestRunner(filter, limit, start,
+                    getIbmHeadersFromRequest());
+            ItemsWrapper<DataSet> items = runner.run(getZosmfConnector());
+            return new PagedItemsWrapper<>(items.getItems(), runner.getNext(), runner.getTotalRows());
+        }, filter, limit, start);
     }
 
     @Override
     public DataSetContentWithEtag getContent(String dataSetName) {
-        GetDataSetContentZosmfRequestRunner runner = new GetDataSetContentZosmfRequestRunner(dataSetName, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        UserScopedKey<List<Object>> key = UserScopedKey.forCurrentUser(contentKey(dataSetName));
+        return coalesce(GetDataSetContentZosmfRequestRunner.class, () -> {
+            // cached content is only served once z/OSMF confirms its ETag is still current
+            DataSetContentWithEtag cached = contentCache.getIfPresent(key);
+            String ifNoneMatch = cached == null ? null : cached.getEtag();
+            GetDataSetContentZosmfRequestRunner runner = new GetDataSetContentZosmfRequestRunner(dataSetName,
+                    ifNoneMatch, getIbmHeadersFromRequest());
+            DataSetContentWithEtag content = runner.run(getZosmfConnector());
+            if (runner.isNotModified()) {
+                return cached;
+            }
+            cacheContent(key, content);
+            return content;
+        }, dataSetName);
+    }
+
+    @Override
+    public DataSetContentWithEtag getContent(String dataSetName, String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return getContent(dataSetName);
+        }
+        UserScopedKey<List<Object>> key = UserScopedKey.forCurrentUser(contentKey(dataSetName));
+        return coalesce(GetDataSetContentZosmfRequestRunner.class, () -> {
+            GetDataSetContentZosmfRequestRunner runner = new GetDataSetContentZosmfRequestRunner(dataSetName,
+                    ifNoneMatch, getIbmHeadersFromRequest());
+            DataSetContentWithEtag content = runner.run(getZosmfConnector());
+            if (runner.isNotModified()) {
+                return new DataSetContentWithEtag(null, ifNoneMatch);
+            }
+            cacheContent(key, content);
+            return content;
+        }, dataSetName, ifNoneMatch);
+    }
+
+    private void cacheContent(UserScopedKey<List<Object>> key, DataSetContentWithEtag content) {
+        String records = content.getContent() == null ? null : content.getContent().getRecords();
+        if (content.getEtag() == null || records == null || records.length() > contentCacheMaxEntryLength) {
+            contentCache.invalidate(key);
+        } else {
+            contentCache.put(key, content);
+        }
+    }
+
+    /**
+     * Content read with other X-IBM headers, such as X-IBM-Data-Type, is cached
+     * apart so that its ETag is never revalidated for a different read
+     */
+    private List<Object> contentKey(String dataSetName) {
+        return Arrays.asList(dataSetName.toUpperCase(Locale.ROOT), ibmHeaderValues());
+    }
+
+    /**
+     * Drops the cached content of a data set or member this service has changed,
+     * for every user, and of the members of a changed data set
+     */
+    void invalidateContent(String dataSetName) {
+        if (dataSetName == null) {
+            return;
+        }
+        String name = dataSetName.toUpperCase(Locale.ROOT);
+        String members = name + "(";
+        contentCache.invalidateIf(key -> {
+            String cached = (String) key.getKey().get(0);
+            return cached.equals(name) || cached.startsWith(members);
+        });
+    }
+
+    @Override
+    public DataSetContentStreamWithEtag getContentStream(String dataSetName, boolean binary) {
+        GetDataSetContentStreamZosmfRequestRunner runner = new GetDataSetContentStreamZosmfRequestRunner(dataSetName,
+                binary, getIbmHeadersFromRequest());
+        return runner.stream(getZosmfConnector());
     }
 
     @Override
     public String putContent(String dataSetName, DataSetContentWithEtag contentWithEtag) {
         PutDataSetContentZosmfRequestRunner runner = new PutDataSetContentZosmfRequestRunner(dataSetName,
                 contentWithEtag, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        try {
+            return runner.run(getZosmfConnector());
+        } finally {
+            forgetReads(dataSetName);
+            invalidateContent(dataSetName);
+        }
     }
     
+    @Override
+    public String putContentStream(String dataSetName, DataSetContentStreamWithEtag content, boolean binary) {
+        PutDataSetContentStreamZosmfRequestRunner runner = new PutDataSetContentStreamZosmfRequestRunner(dataSetName,
+                content, binary, getIbmHeadersFromRequest());
+        try {
+            return runner.run(getZosmfConnector());
+        } finally {
+            forgetReads(dataSetName);
+            invalidateContent(dataSetName);
+        }
+    }
+
     @Override
     public String renameDataSet(String oldDataSetName, DataSetRenameRequest input) {
         PutDataSetRenameZosmfRequestRunner runner = new PutDataSetRenameZosmfRequestRunner(oldDataSetName, input, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        try {
+            return runner.run(getZosmfConnector());
+        } finally {
+            forgetReads(oldDataSetName);
+            forgetReads(input == null ? null : input.getNewName());
+            invalidateContent(oldDataSetName);
+            invalidateContent(input == null ? null : input.getNewName());
+            invalidateListings(oldDataSetName);
+            invalidateListings(input == null ? null : input.getNewName());
+        }
     }
 
     @Override
     public String createDataSet(DataSetCreateRequest request) {
         CreateDataSetZosmfRequestRunner runner = new CreateDataSetZosmfRequestRunner(request, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        try {
+            return runner.run(getZosmfConnector());
+        } finally {
+            forgetReads(request == null ? null : request.getName());
+            invalidateListings(request == null ? null : request.getName());
+        }
     }
 
     @Override
     public void deleteDataSet(String dataSetName) {
         DeleteDataSetZosmfRequestRunner runner = new DeleteDataSetZosmfRequestRunner(dataSetName, getIbmHeadersFromRequest());
-        runner.run(getZosmfConnector());
+        try {
+            runner.run(getZosmfConnector());
+        } finally {
+            forgetReads(dataSetName);
+            invalidateContent(dataSetName);
+            invalidateListings(dataSetName);
+        }
+    }
+
+    private static class GenerationRead<T> {
+        private final long generation;
+        private final T value;
+
+        GenerationRead(long generation, T value) {
+            this.generation = generation;
+            this.value = value;
+        }
     }
 }
\ No newline at end of file
@@ -16,11 +16,13 @@ import com.google.gson.JsonObject;
 
 import org.apache.http.Header;
 import org.apache.http.HttpStatus;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
 import org.zowe.api.common.connectors.zosmf.exceptions.DataSetNotFoundException;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
 import org.zowe.api.common.zosmf.services.AbstractZosmfRequestRunner;
 import org.zowe.data.sets.exceptions.DataSetLockedException;
 import org.zowe.data.sets.exceptions.UnauthorisedDataSetException;
+import org.zowe.metrics.ZosmfRequestMetrics;
 
 import java.util.List;
 
@@ -30,6 +32,11 @@ public abstract class AbstractZosmfDataSetsRequestRunner<T> extends AbstractZosm
         super(headers);
     }
 
+    @Override
+    public T run(ZosmfConnector zosmfConnector) {
+        return ZosmfRequestMetrics.record(getClass(), () -> super.run(zosmfConnector));
+    }
+
     private static final String AUTHORIZATION_FAILURE = "ISRZ002 Authorization failed";
     private static final String DATA_SET_NOT_FOUND = "ISRZ002 Data set not cataloged";
 
@@ -0,0 +1,300 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services.zosmf;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+import org.zowe.data.sets.model.DataSetAttributes;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+
+/**
+ * Remembers complete catalog listings of filters like HLQ.PROD.** as a trie of
+ * qualifiers, so that a narrower wildcard filter below a prefix listed within
+ * the ttl, like HLQ.PROD.COBOL.*, can be answered without another catalog
+ * search. Each scope, normally a user and their X-IBM headers, has its own
+ * trie and the least recently used scopes beyond maxScopes are dropped.
+ * Lookups are published as the zowe.cache.requests metric tagged with the
+ * index name.
+ */
+class DataSetCatalogIndex {
+
+    private static final String ANY_QUALIFIERS = "**";
+    private static final Pattern WILDCARD = Pattern.compile("[*%]");
+    /**
+     * Data set name characters in EBCDIC order, the order the catalog lists in
+     */
+    private static final String EBCDIC_ORDER = ".$#@ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final Comparator<String> CATALOG_ORDER = (a, b) -> {
+        for (int i = 0; i < Math.min(a.length(), b.length()); i++) {
+            int difference = catalogRank(a.charAt(i)) - catalogRank(b.charAt(i));
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return a.length() - b.length();
+    };
+
+    private final int maxScopes;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final Map<Object, Node> scopes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    DataSetCatalogIndex(String name, int maxScopes, long ttl, TimeUnit unit) {
+        this(name, maxScopes, ttl, unit, System::nanoTime);
+    }
+
+    DataSetCatalogIndex(String name, int maxScopes, long ttl, TimeUnit unit, LongSupplier clock) {
+        this.maxScopes = maxScopes;
+        this.ttlNanos = unit.toNanos(ttl);
+        this.clock = clock;
+        this.scopes = new LinkedHashMap<Object, Node>(16, 0.75f, true) {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Object, Node> eldest) {
+                return size() > DataSetCatalogIndex.this.maxScopes;
+            }
+        };
+        this.hitCounter = Counter.builder("zowe.cache.requests").tag("cache", name).tag("result", "hit")
+            .register(Metrics.globalRegistry);
+        this.missCounter = Counter.builder("zowe.cache.requests").tag("cache", name).tag("result", "miss")
+            .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * Remembers the result of a complete listing if its filter is a prefix
+     * followed by **, replacing what was known below that prefix
+     */
+    void record(Object scope, String filter, List<DataSetAttributes> items) {
+        String[] qualifiers = qualifiers(filter);
+        int prefixLength = qualifiers.length - 1;
+        if (maxScopes <= 0 || ttlNanos <= 0 || prefixLength < 1 || !ANY_QUALIFIERS.equals(qualifiers[prefixLength])
+                || !isLiteral(qualifiers, prefixLength)) {
+            return;
+        }
+        long now = clock.getAsLong();
+        synchronized (scopes) {
+            Node root = scopes.computeIfAbsent(scope, key -> new Node());
+            prune(root, now);
+            Node prefix = root;
+            for (int i = 0; i < prefixLength; i++) {
+                prefix = prefix.children.computeIfAbsent(qualifiers[i], key -> new Node());
+            }
+            prefix.children.clear();
+            prefix.dataSet = null;
+            for (DataSetAttributes item : items) {
+                String[] name = qualifiers(item.getName());
+                if (startsWith(name, qualifiers, prefixLength)) {
+                    Node node = prefix;
+                    for (int i = prefixLength; i < name.length; i++) {
+                        node = node.children.computeIfAbsent(name[i], key -> new Node());
+                    }
+                    node.dataSet = item;
+                }
+            }
+            prefix.listedAt = now;
+            prefix.complete = true;
+        }
+    }
+
+    /**
+     * The data sets matching a wildcard filter if a prefix of it was listed
+     * within the ttl, otherwise null
+     */
+    List<DataSetAttributes> find(Object scope, String filter) {
+        List<DataSetAttributes> found = null;
+        String[] qualifiers = qualifiers(filter);
+        if (maxScopes > 0 && ttlNanos > 0 && !isLiteral(qualifiers, qualifiers.length)) {
+            synchronized (scopes) {
+                found = find(scopes.get(scope), qualifiers, clock.getAsLong());
+            }
+        }
+        if (found == null) {
+            misses.increment();
+            missCounter.increment();
+        } else {
+            hits.increment();
+            hitCounter.increment();
+        }
+        return found;
+    }
+
+    private List<DataSetAttributes> find(Node root, String[] qualifiers, long now) {
+        Node node = root;
+        List<String> path = new ArrayList<>();
+        for (int i = 0; node != null && !isFresh(node, now); i++) {
+            if (i == qualifiers.length || WILDCARD.matcher(qualifiers[i]).find()) {
+                return null;
+            }
+            node = node.children.get(qualifiers[i]);
+            path.add(qualifiers[i]);
+        }
+        if (node == null) {
+            return null;
+        }
+        List<DataSetAttributes> found = new ArrayList<>();
+        collect(node, path, qualifiers, found);
+        found.sort(Comparator.comparing(DataSetAttributes::getName, CATALOG_ORDER));
+        return found;
+    }
+
+    private static void collect(Node node, List<String> path, String[] filter, List<DataSetAttributes> found) {
+        if (node.dataSet != null && matches(filter, 0, path.toArray(new String[0]), 0)) {
+            found.add(node.dataSet);
+        }
+        for (Map.Entry<String, Node> child : node.children.entrySet()) {
+            path.add(child.getKey());
+            collect(child.getValue(), path, filter, found);
+            path.remove(path.size() - 1);
+        }
+    }
+
+    /**
+     * Forgets, for every scope, that the listings including the data set, or
+     * the data set of the member, are complete
+     */
+    void invalidate(String dataSetName) {
+        if (dataSetName == null) {
+            return;
+        }
+        String name = dataSetName.trim();
+        int member = name.indexOf('(');
+        String[] qualifiers = qualifiers(member < 0 ? name : name.substring(0, member));
+        synchronized (scopes) {
+            for (Node root : scopes.values()) {
+                Node node = root;
+                for (int i = 0; node != null && i < qualifiers.length; i++) {
+                    node = node.children.get(qualifiers[i]);
+                    if (node != null) {
+                        node.complete = false;
+                    }
+                }
+            }
+        }
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    private boolean isFresh(Node node, long now) {
+        return node.complete && now - node.listedAt < ttlNanos;
+    }
+
+    /**
+     * Drops the parts of the trie that are no longer below a fresh listing
+     */
+    private boolean prune(Node node, long now) {
+        if (isFresh(node, now)) {
+            return true;
+        }
+        node.dataSet = null;
+        Iterator<Node> children = node.children.values().iterator();
+        while (children.hasNext()) {
+            if (!prune(children.next(), now)) {
+                children.remove();
+            }
+        }
+        return !node.children.isEmpty();
+    }
+
+    private static int catalogRank(char c) {
+        int rank = EBCDIC_ORDER.indexOf(c);
+        return rank < 0 ? EBCDIC_ORDER.length() + c : rank;
+    }
+
+    private static String[] qualifiers(String name) {
+        return name.trim().toUpperCase(Locale.ROOT).split("\\.", -1);
+    }
+
+    private static boolean isLiteral(String[] qualifiers, int length) {
+        for (int i = 0; i < length; i++) {
+            if (WILDCARD.matcher(qualifiers[i]).find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(String[] name, String[] prefix, int prefixLength) {
+        if (name.length < prefixLength) {
+            return false;
+        }
+        for (int i = 0; i < prefixLength; i++) {
+            if (!name[i].equals(prefix[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Catalog filter matching by qualifier: ** matches any number of
+     * qualifiers, * any characters within a qualifier and % one character
+     */
+    static boolean matches(String[] filter, int f, String[] name, int n) {
+        if (f == filter.length) {
+            return n == name.length;
+        }
+        if (ANY_QUALIFIERS.equals(filter[f])) {
+            for (int i = n; i <= name.length; i++) {
+                if (matches(filter, f + 1, name, i)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return n < name.length && qualifierMatches(filter[f], name[n]) && matches(filter, f + 1, name, n + 1);
+    }
+
+    private static boolean qualifierMatches(String filter, String qualifier) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : filter.toCharArray()) {
+            if (c == '*') {
+                regex.append(".*");
+            } else if (c == '%') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return qualifier.matches(regex.toString());
+    }
+
+    private static class Node {
+        private final Map<String, Node> children = new TreeMap<>();
+        private DataSetAttributes dataSet;
+        private boolean complete;
+        private long listedAt;
+    }
+}
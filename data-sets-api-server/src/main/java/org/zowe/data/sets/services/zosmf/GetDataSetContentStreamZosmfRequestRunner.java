@@ -0,0 +1,125 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services.zosmf;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.RequestBuilder;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+import org.zowe.api.common.exceptions.ZoweApiRestException;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
+import org.zowe.metrics.ZosmfRequestMetrics;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+
+/**
+ * Reads data set content without materialising the z/OSMF response. The
+ * returned stream is backed directly by the z/OSMF connection, so the caller
+ * must close it to release the connection.
+ */
+public class GetDataSetContentStreamZosmfRequestRunner extends GetDataSetContentZosmfRequestRunner {
+
+    private List<Header> headers;
+    private boolean binary;
+
+    public GetDataSetContentStreamZosmfRequestRunner(String dataSetName, boolean binary, List<Header> headers) {
+        super(dataSetName, headers);
+        this.headers = headers;
+        this.binary = binary;
+    }
+
+    @Override
+    protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
+        RequestBuilder requestBuilder = super.prepareQuery(zosmfConnector);
+        if (binary) {
+            requestBuilder.addHeader("X-IBM-Data-Type", "binary");
+        }
+        return requestBuilder;
+    }
+
+    public DataSetContentStreamWithEtag stream(ZosmfConnector zosmfConnector) {
+        return ZosmfRequestMetrics.record(getClass(), () -> openStream(zosmfConnector));
+    }
+
+    private DataSetContentStreamWithEtag openStream(ZosmfConnector zosmfConnector) {
+        try {
+            RequestBuilder requestBuilder = prepareQuery(zosmfConnector);
+            for (Header header : headers) {
+                requestBuilder.addHeader(header);
+            }
+            URI uri = requestBuilder.getUri();
+            HttpResponse response = zosmfConnector.executeRequest(requestBuilder);
+            if (response.getStatusLine().getStatusCode() != HttpStatus.SC_OK) {
+                try {
+                    throw createGeneralException(new ResponseCache(response), uri);
+                } finally {
+                    closeQuietly(response);
+                }
+            }
+            String eTag = null;
+            Header etagHeader = response.getFirstHeader("ETag");
+            if (etagHeader != null) {
+                eTag = etagHeader.getValue();
+            }
+            HttpEntity entity = response.getEntity();
+            InputStream content = entity != null ? entity.getContent() : new ByteArrayInputStream(new byte[0]);
+            return new DataSetContentStreamWithEtag(new ResponseInputStream(content, response), eTag);
+        } catch (IOException | URISyntaxException e) {
+            throw new ZoweApiRestException(org.springframework.http.HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Failed to read data set content: {0}", e.getMessage());
+        }
+    }
+
+    private static void closeQuietly(HttpResponse response) {
+        if (response instanceof Closeable) {
+            try {
+                ((Closeable) response).close();
+            } catch (IOException e) {
+                // connection is being discarded anyway
+            }
+        }
+    }
+
+    /**
+     * Closing the response before the entity stream aborts the connection
+     * instead of draining the rest of a possibly very large entity when the
+     * client goes away part way through.
+     */
+    private static class ResponseInputStream extends FilterInputStream {
+
+        private final HttpResponse response;
+
+        ResponseInputStream(InputStream in, HttpResponse response) {
+            super(in);
+            this.response = response;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closeQuietly(response);
+            try {
+                super.close();
+            } catch (IOException e) {
+                // the underlying connection has already been released or aborted
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import org.zowe.api.common.exceptions.ZoweApiRestException;
 import org.zowe.api.common.utils.ResponseCache;
 import org.zowe.data.sets.model.DataSetContent;
 import org.zowe.data.sets.model.DataSetContentWithEtag;
+import org.zowe.spring.RequestHeaders;
 
 import java.io.IOException;
 import java.net.URI;
@@ -30,10 +31,26 @@ import java.util.List;
 public class GetDataSetContentZosmfRequestRunner extends AbstractZosmfDataSetsRequestRunner<DataSetContentWithEtag> {
 
     private String dataSetName;
+    private String ifNoneMatch;
+    private boolean notModified;
 
     public GetDataSetContentZosmfRequestRunner(String dataSetName, List<Header> headers) {
+        this(dataSetName, null, headers);
+    }
+
+    /**
+     * Reads the content unless its ETag still matches ifNoneMatch, a single
+     * strong entity tag, in which case z/OSMF answers 304, the result is null
+     * and {@link #isNotModified()} is true
+     */
+    public GetDataSetContentZosmfRequestRunner(String dataSetName, String ifNoneMatch, List<Header> headers) {
         super(headers);
         this.dataSetName = dataSetName;
+        this.ifNoneMatch = ifNoneMatch;
+    }
+
+    public boolean isNotModified() {
+        return notModified;
     }
 
     @Override
@@ -42,16 +59,26 @@ public class GetDataSetContentZosmfRequestRunner extends AbstractZosmfDataSetsRe
         URI requestUrl = zosmfConnector.getFullUrl(urlPath); // $NON-NLS-1$
         RequestBuilder requestBuilder = RequestBuilder.get(requestUrl);
         requestBuilder.addHeader("X-IBM-Return-Etag", "true");
+        if (ifNoneMatch != null) {
+            requestBuilder.addHeader("If-None-Match", RequestHeaders.unquoteEtag(ifNoneMatch));
+        }
         return requestBuilder;
     }
 
     @Override
     protected int[] getSuccessStatus() {
+        if (ifNoneMatch != null) {
+            return new int[] { HttpStatus.SC_OK, HttpStatus.SC_NOT_MODIFIED };
+        }
         return new int[] { HttpStatus.SC_OK };
     }
 
     @Override
     protected DataSetContentWithEtag getResult(ResponseCache responseCache) throws IOException {
+        notModified = responseCache.getStatus() == HttpStatus.SC_NOT_MODIFIED;
+        if (notModified) {
+            return null;
+        }
         DataSetContent content = new DataSetContent(responseCache.getEntity());
         String eTag = null;
         Header etagHeader = responseCache.getFirstHeader("ETag");
@@ -10,9 +10,12 @@
 
 package org.zowe.data.sets.services.zosmf;
 
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
+import lombok.Getter;
+
 import org.apache.http.Header;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.RequestBuilder;
@@ -20,6 +23,7 @@ import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
 import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.data.sets.exceptions.InvalidPageLimitException;
 
 import java.io.IOException;
 import java.net.URI;
@@ -30,17 +34,58 @@ import java.util.List;
 public class ListDataSetMembersZosmfRequestRunner extends AbstractZosmfDataSetsRequestRunner<ItemsWrapper<String>> {
 
     private String dataSetName;
+    private Integer limit;
+    private String start;
+    private String pattern;
+
+    /**
+     * Name of the first member after this page, once the runner has run, or
+     * null if there are no more
+     */
+    @Getter
+    private String next;
+
+    /**
+     * Total number of matching members if z/OSMF reported it, once the runner
+     * has run
+     */
+    @Getter
+    private Integer totalRows;
 
     public ListDataSetMembersZosmfRequestRunner(String dataSetName, List<Header> headers) {
+        this(dataSetName, null, null, null, headers);
+    }
+
+    public ListDataSetMembersZosmfRequestRunner(String dataSetName, Integer limit, String start, String pattern,
+            List<Header> headers) {
         super(headers);
+        if (limit != null && limit < 1) {
+            throw new InvalidPageLimitException(limit);
+        }
         this.dataSetName = dataSetName;
+        this.limit = limit;
+        this.start = start;
+        this.pattern = pattern;
     }
 
     @Override
     protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
         String urlPath = String.format("restfiles/ds/%s/member", dataSetName);
-        URI requestUrl = zosmfConnector.getFullUrl(urlPath);
-        return RequestBuilder.get(requestUrl);
+        List<String> params = new ArrayList<>();
+        if (start != null) {
+            params.add(String.format("start=%s", start));
+        }
+        if (pattern != null) {
+            params.add(String.format("pattern=%s", pattern));
+        }
+        URI requestUrl = params.isEmpty() ? zosmfConnector.getFullUrl(urlPath)
+                : zosmfConnector.getFullUrl(urlPath, String.join("&", params));
+        RequestBuilder requestBuilder = RequestBuilder.get(requestUrl);
+        if (limit != null) {
+            // one more than the page so the following name can be returned as the cursor
+            requestBuilder.addHeader("X-IBM-Max-Items", String.valueOf(limit + 1));
+        }
+        return requestBuilder;
     }
 
     @Override
@@ -52,9 +97,18 @@ public class ListDataSetMembersZosmfRequestRunner extends AbstractZosmfDataSetsR
     protected ItemsWrapper<String> getResult(ResponseCache responseCache) throws IOException {
         List<String> memberNames = new ArrayList<>();
         JsonObject memberResponse = responseCache.getEntityAsJsonObject();
-        JsonElement memberJsonArray = memberResponse.get("items");
-        for (JsonElement jsonElement : memberJsonArray.getAsJsonArray()) {
-            memberNames.add(jsonElement.getAsJsonObject().get("member").getAsString());
+        JsonArray memberJsonArray = memberResponse.get("items").getAsJsonArray();
+        JsonElement total = memberResponse.get("totalRows");
+        if (total != null && !total.isJsonNull()) {
+            totalRows = total.getAsInt();
+        }
+        for (JsonElement jsonElement : memberJsonArray) {
+            String memberName = jsonElement.getAsJsonObject().get("member").getAsString();
+            if (limit != null && memberNames.size() == limit) {
+                next = memberName;
+                break;
+            }
+            memberNames.add(memberName);
         }
         return new ItemsWrapper<>(memberNames);
     }
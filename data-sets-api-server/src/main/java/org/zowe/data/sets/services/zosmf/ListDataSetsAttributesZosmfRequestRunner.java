@@ -10,42 +10,79 @@
 
 package org.zowe.data.sets.services.zosmf;
 
-import com.google.gson.JsonElement;
-
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.http.Header;
 import org.apache.http.client.methods.RequestBuilder;
-import org.zowe.api.common.model.ItemsWrapper;
-import org.zowe.data.sets.mapper.DataSetMapper;
+import org.zowe.data.sets.exceptions.InvalidFieldException;
+import org.zowe.data.sets.mapper.ZosmfDataSetItem;
 import org.zowe.data.sets.model.DataSetAttributes;
 
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 @Slf4j
-public class ListDataSetsAttributesZosmfRequestRunner extends AbstractListDataSetsZosmfRequestRunner<ItemsWrapper<DataSetAttributes>> {
+public class ListDataSetsAttributesZosmfRequestRunner extends AbstractListDataSetsZosmfRequestRunner<DataSetAttributes> {
+
+    private static final Set<String> VOL_FIELDS = new HashSet<>(Arrays.asList("name", "volumeSerial"));
+
+    private Set<String> fields;
 
     public ListDataSetsAttributesZosmfRequestRunner(String filter, List<Header> headers) {
-        super(filter, headers);
+        this(filter, null, null, null, headers);
     }
 
+    public ListDataSetsAttributesZosmfRequestRunner(String filter, Integer limit, String start, List<Header> headers) {
+        this(filter, limit, start, null, headers);
+    }
+
+    /**
+     * @param fields the DataSetAttributes fields to return besides the name, or
+     *            null for all of them
+     */
+    public ListDataSetsAttributesZosmfRequestRunner(String filter, Integer limit, String start, Set<String> fields,
+            List<Header> headers) {
+        super(filter, limit, start, headers);
+        if (fields != null) {
+            for (String field : fields) {
+                if (!ZosmfDataSetItem.ATTRIBUTE_FIELDS.contains(field)) {
+                    throw new InvalidFieldException(field);
+                }
+            }
+        }
+        this.fields = fields;
+    }
+
+    /**
+     * Asks for the cheapest attribute set that has every field, as base needs
+     * z/OSMF to read each data set's VTOC entry
+     */
     @Override
     protected void addHeaders(RequestBuilder builder) {
-        builder.addHeader("X-IBM-Attributes", "base");
+        builder.addHeader("X-IBM-Attributes", attributesFor(fields));
+    }
+
+    static String attributesFor(Set<String> fields) {
+        if (fields == null) {
+            return "base";
+        } else if (fields.stream().allMatch("name"::equals)) {
+            return "dsname";
+        } else if (VOL_FIELDS.containsAll(fields)) {
+            return "vol";
+        }
+        return "base";
     }
 
     @Override
-    protected ItemsWrapper<DataSetAttributes> retrieveItems(JsonElement items) {
-        List<DataSetAttributes> dataSets = new ArrayList<>();
-        for (JsonElement jsonElement : items.getAsJsonArray()) {
-            try {
-                dataSets.add(DataSetMapper.INSTANCE.zosToDataSetAttributesDTO(jsonElement.getAsJsonObject()));
-            } catch (IllegalArgumentException e) {
-                log.error("listDataSetAttributes", e);
-            }
+    protected DataSetAttributes convertItem(ZosmfDataSetItem item) {
+        try {
+            return item.toDataSetAttributes(fields);
+        } catch (IllegalArgumentException e) {
+            log.error("listDataSetAttributes", e);
+            return null;
         }
-        return new ItemsWrapper<>(dataSets);
     }
 
 }
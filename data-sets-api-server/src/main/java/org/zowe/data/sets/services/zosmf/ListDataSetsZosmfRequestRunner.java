@@ -10,42 +10,31 @@
 
 package org.zowe.data.sets.services.zosmf;
 
-import com.google.gson.JsonElement;
-
-import lombok.extern.slf4j.Slf4j;
-
 import org.apache.http.Header;
 import org.apache.http.client.methods.RequestBuilder;
-import org.zowe.api.common.model.ItemsWrapper;
-import org.zowe.data.sets.mapper.DataSetMapper;
+import org.zowe.data.sets.mapper.ZosmfDataSetItem;
 import org.zowe.data.sets.model.DataSet;
 
-import java.util.ArrayList;
 import java.util.List;
 
-@Slf4j
 public class ListDataSetsZosmfRequestRunner
-        extends AbstractListDataSetsZosmfRequestRunner<ItemsWrapper<DataSet>> {
+        extends AbstractListDataSetsZosmfRequestRunner<DataSet> {
 
     public ListDataSetsZosmfRequestRunner(String filter, List<Header> headers) {
         super(filter, headers);
     }
 
+    public ListDataSetsZosmfRequestRunner(String filter, Integer limit, String start, List<Header> headers) {
+        super(filter, limit, start, headers);
+    }
+
     @Override
     protected void addHeaders(RequestBuilder builder) {
         builder.addHeader("X-IBM-Attributes", "dsname");
     }
 
     @Override
-    protected ItemsWrapper<DataSet> retrieveItems(JsonElement items) {
-        List<DataSet> dataSets = new ArrayList<>();
-        for (JsonElement jsonElement : items.getAsJsonArray()) {
-            try {
-                dataSets.add(DataSetMapper.INSTANCE.zosToDataSetDTO(jsonElement.getAsJsonObject()));
-            } catch (IllegalArgumentException e) {
-                log.error("listDataSets", e);
-            }
-        }
-        return new ItemsWrapper<>(dataSets);
+    protected DataSet convertItem(ZosmfDataSetItem item) {
+        return item.toDataSet();
     }
 }
@@ -0,0 +1,96 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services.zosmf;
+
+import com.google.gson.JsonObject;
+
+import org.apache.http.Header;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.InputStreamEntity;
+import org.springframework.util.StringUtils;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+import org.zowe.api.common.connectors.zosmf.exceptions.DataSetNotFoundException;
+import org.zowe.api.common.exceptions.PreconditionFailedException;
+import org.zowe.api.common.exceptions.ZoweApiRestException;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.List;
+
+/**
+ * Writes data set content from a stream, sending it to z/OSMF with chunked
+ * transfer encoding so the body is never held in memory.
+ */
+public class PutDataSetContentStreamZosmfRequestRunner extends AbstractZosmfDataSetsRequestRunner<String> {
+
+    private String dataSetName;
+    private DataSetContentStreamWithEtag contentWithEtag;
+    private boolean binary;
+
+    public PutDataSetContentStreamZosmfRequestRunner(String dataSetName, DataSetContentStreamWithEtag contentWithEtag,
+            boolean binary, List<Header> headers) {
+        super(headers);
+        this.dataSetName = dataSetName;
+        this.contentWithEtag = contentWithEtag;
+        this.binary = binary;
+    }
+
+    @Override
+    protected RequestBuilder prepareQuery(ZosmfConnector zosmfConnector) throws URISyntaxException, IOException {
+        String urlPath = String.format("restfiles/ds/%s", dataSetName);
+        URI requestUrl = zosmfConnector.getFullUrl(urlPath); // -NLS-1$
+        ContentType contentType = binary ? ContentType.APPLICATION_OCTET_STREAM : ContentType.TEXT_PLAIN;
+        InputStreamEntity requestEntity = new InputStreamEntity(contentWithEtag.getContent(), -1, contentType);
+        requestEntity.setChunked(true);
+        RequestBuilder requestBuilder = RequestBuilder.put(requestUrl).setEntity(requestEntity);
+        requestBuilder.addHeader("Content-type", contentType.getMimeType());
+        if (binary) {
+            requestBuilder.addHeader("X-IBM-Data-Type", "binary");
+        }
+        String ifMatch = contentWithEtag.getEtag();
+        if (StringUtils.hasText(ifMatch)) {
+            requestBuilder.addHeader("If-Match", ifMatch.replaceAll("\"", ""));// zosmf doesn't conform to spec where ifmatch is in double quotes
+        }
+        return requestBuilder;
+    }
+
+    @Override
+    protected int[] getSuccessStatus() {
+        return new int[] { HttpStatus.SC_CREATED, HttpStatus.SC_NO_CONTENT };
+    }
+
+    @Override
+    protected String getResult(ResponseCache responseCache) throws IOException {
+        return responseCache.getFirstHeader("ETag").getValue();
+    }
+
+    @Override
+    protected ZoweApiRestException createGeneralException(ResponseCache responseCache, URI uri) throws IOException {
+        if (responseCache.getStatus() == HttpStatus.SC_PRECONDITION_FAILED) {
+            return new PreconditionFailedException(dataSetName);
+        }
+        return super.createGeneralException(responseCache, uri);
+    }
+
+    @Override
+    protected ZoweApiRestException createException(JsonObject jsonResponse, int statusCode) {
+        String zosmfMessage = jsonResponse.get("message").getAsString();
+        if ("Data set not found.".equals(zosmfMessage)) {
+            throw new DataSetNotFoundException(dataSetName);
+        }
+        return createDataSetException(jsonResponse, statusCode, dataSetName);
+    }
+}
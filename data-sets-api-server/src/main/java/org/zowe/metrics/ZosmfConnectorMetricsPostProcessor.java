@@ -0,0 +1,61 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.metrics;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.http.HttpResponse;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+
+/**
+ * Proxies the z/OSMF connectors so the time spent waiting on z/OSMF is
+ * recorded against the request runner making the call, see
+ * {@link ZosmfRequestMetrics}
+ */
+@Component
+public class ZosmfConnectorMetricsPostProcessor implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof ZosmfConnector)) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(new ExecuteRequestInterceptor());
+        return proxyFactory.getProxy();
+    }
+
+    static class ExecuteRequestInterceptor implements MethodInterceptor {
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (!"executeRequest".equals(invocation.getMethod().getName())) {
+                return invocation.proceed();
+            }
+            long start = System.nanoTime();
+            Object response;
+            try {
+                response = invocation.proceed();
+            } catch (Throwable e) {
+                ZosmfRequestMetrics.requestFailed(System.nanoTime() - start);
+                throw e;
+            }
+            if (response instanceof HttpResponse) {
+                ZosmfRequestMetrics.responseReceived((HttpResponse) response, System.nanoTime() - start);
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.entity.HttpEntityWrapper;
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Times z/OSMF request runners. Each run is published twice, tagged with the
+ * runner type, the z/OSMF status, the exception thrown and the response size
+ * bucket:
+ * <ul>
+ * <li>zowe.zosmf.runner - the whole run, including building the request and
+ * reading and converting the response</li>
+ * <li>zowe.zosmf.request - the z/OSMF round trip, up to the response headers</li>
+ * </ul>
+ * The z/OSMF round trip is captured by {@link ZosmfConnectorMetricsPostProcessor}
+ * on the thread running the runner.
+ */
+public final class ZosmfRequestMetrics {
+
+    static final String RUNNER_TIMER = "zowe.zosmf.runner";
+    static final String REQUEST_TIMER = "zowe.zosmf.request";
+    static final String NONE = "none";
+
+    private static final ThreadLocal<Sample> CURRENT = new ThreadLocal<>();
+
+    private static MeterRegistry registry = Metrics.globalRegistry;
+
+    private ZosmfRequestMetrics() {
+    }
+
+    static void setRegistry(MeterRegistry meterRegistry) {
+        registry = meterRegistry;
+    }
+
+    public static <T> T record(Class<?> runnerType, Supplier<T> run) {
+        Sample outer = CURRENT.get();
+        Sample sample = new Sample();
+        CURRENT.set(sample);
+        String exception = NONE;
+        long start = System.nanoTime();
+        try {
+            return run.get();
+        } catch (RuntimeException | Error e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (outer == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(outer);
+            }
+            Tags tags = Tags.of("runner", runnerType.getSimpleName(), "status", sample.status, "exception",
+                    exception, "size", sizeBucket(sample.size()));
+            Timer.builder(RUNNER_TIMER).description("z/OSMF request runner time").tags(tags).register(registry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+            if (sample.zosmfNanos >= 0) {
+                Timer.builder(REQUEST_TIMER).description("z/OSMF response time").tags(tags).register(registry)
+                    .record(sample.zosmfNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    /**
+     * Records a z/OSMF response against the runner on this thread, if any, and
+     * wraps its entity so the bytes read from it are counted.
+     */
+    static void responseReceived(HttpResponse response, long nanos) {
+        Sample sample = CURRENT.get();
+        if (sample == null) {
+            return;
+        }
+        sample.zosmfNanos = nanos;
+        sample.status = Integer.toString(response.getStatusLine().getStatusCode());
+        HttpEntity entity = response.getEntity();
+        if (entity != null) {
+            sample.contentLength = entity.getContentLength();
+            response.setEntity(new CountingEntity(entity, sample.bytesRead));
+        }
+    }
+
+    static void requestFailed(long nanos) {
+        Sample sample = CURRENT.get();
+        if (sample != null) {
+            sample.zosmfNanos = nanos;
+        }
+    }
+
+    static String sizeBucket(long bytes) {
+        if (bytes <= 0) {
+            return "0";
+        } else if (bytes < 1024) {
+            return "<1KiB";
+        } else if (bytes < 64 * 1024) {
+            return "<64KiB";
+        } else if (bytes < 1024 * 1024) {
+            return "<1MiB";
+        }
+        return ">=1MiB";
+    }
+
+    private static class Sample {
+        private String status = NONE;
+        private long zosmfNanos = -1;
+        private long contentLength = -1;
+        private final AtomicLong bytesRead = new AtomicLong();
+
+        /**
+         * Streamed responses may not have been read when the run completes, so
+         * fall back on the declared length
+         */
+        private long size() {
+            return Math.max(contentLength, bytesRead.get());
+        }
+    }
+
+    private static class CountingEntity extends HttpEntityWrapper {
+
+        private final AtomicLong bytesRead;
+
+        CountingEntity(HttpEntity entity, AtomicLong bytesRead) {
+            super(entity);
+            this.bytesRead = bytesRead;
+        }
+
+        @Override
+        public InputStream getContent() throws IOException {
+            return new FilterInputStream(super.getContent()) {
+                @Override
+                public int read() throws IOException {
+                    int read = super.read();
+                    if (read >= 0) {
+                        bytesRead.incrementAndGet();
+                    }
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int read = super.read(b, off, len);
+                    if (read > 0) {
+                        bytesRead.addAndGet(read);
+                    }
+                    return read;
+                }
+            };
+        }
+
+        @Override
+        public void writeTo(OutputStream outStream) throws IOException {
+            super.writeTo(new FilterOutputStream(outStream) {
+                @Override
+                public void write(int b) throws IOException {
+                    out.write(b);
+                    bytesRead.incrementAndGet();
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                    bytesRead.addAndGet(len);
+                }
+            });
+        }
+    }
+}
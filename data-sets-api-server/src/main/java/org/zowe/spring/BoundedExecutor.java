@@ -0,0 +1,65 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.spring;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks on another executor with at most maxConcurrency of them running
+ * at once. Tasks beyond that wait in order without blocking the caller, and
+ * each finishing task hands its place to the next.
+ */
+public class BoundedExecutor implements Executor {
+
+    private final Executor delegate;
+    private final int maxConcurrency;
+
+    private final Deque<Runnable> waiting = new ArrayDeque<>();
+    private int running;
+
+    public BoundedExecutor(Executor delegate, int maxConcurrency) {
+        this.delegate = delegate;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        synchronized (waiting) {
+            waiting.add(task);
+        }
+        runWaiting();
+    }
+
+    private void runWaiting() {
+        while (true) {
+            Runnable task;
+            synchronized (waiting) {
+                if (running >= maxConcurrency || waiting.isEmpty()) {
+                    return;
+                }
+                task = waiting.poll();
+                running++;
+            }
+            delegate.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    synchronized (waiting) {
+                        running--;
+                    }
+                    runWaiting();
+                }
+            });
+        }
+    }
+}
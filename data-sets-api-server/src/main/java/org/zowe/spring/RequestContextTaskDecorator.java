@@ -0,0 +1,52 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.spring;
+
+import org.slf4j.MDC;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Map;
+
+/**
+ * Runs tasks with the request context and logging context of the thread that
+ * submitted them, so the services can read the headers of the request being
+ * served
+ */
+public class RequestContextTaskDecorator implements TaskDecorator {
+
+    @Override
+    public Runnable decorate(Runnable runnable) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        Map<String, String> logContext = MDC.getCopyOfContextMap();
+        return () -> {
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            Map<String, String> previousLogContext = MDC.getCopyOfContextMap();
+            RequestContextHolder.setRequestAttributes(attributes);
+            setLogContext(logContext);
+            try {
+                runnable.run();
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+                setLogContext(previousLogContext);
+            }
+        };
+    }
+
+    private static void setLogContext(Map<String, String> logContext) {
+        if (logContext == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(logContext);
+        }
+    }
+}
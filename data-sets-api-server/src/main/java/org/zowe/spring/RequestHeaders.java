@@ -0,0 +1,110 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.spring;
+
+import org.apache.http.Header;
+import org.apache.http.message.BasicHeader;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.HttpServletRequest;
+
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Reads the headers to pass on to z/OSMF from the request bound to the current
+ * thread, rather than from state held by the singleton services
+ */
+public final class RequestHeaders {
+
+    private static final Pattern STRONG_ETAG = Pattern.compile("\"[\\x21\\x23-\\x7E]+\"|[\\x21\\x23-\\x2B\\x2D-\\x7E]+");
+
+    private RequestHeaders() {
+    }
+
+    /**
+     * The X-IBM headers of the current request, or an empty list outside a
+     * request
+     */
+    public static List<Header> ibmHeaders() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return new ArrayList<>();
+        }
+        return ibmHeaders(((ServletRequestAttributes) attributes).getRequest());
+    }
+
+    /**
+     * Whether the current request asked not to be served from a cache, with
+     * Cache-Control: no-cache or Pragma: no-cache
+     */
+    public static boolean noCache() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return false;
+        }
+        HttpServletRequest request = ((ServletRequestAttributes) attributes).getRequest();
+        return containsNoCache(request.getHeaders("Cache-Control")) || containsNoCache(request.getHeaders("Pragma"));
+    }
+
+    /**
+     * The If-None-Match value if it is a single strong entity tag, quoted or
+     * not, otherwise null, as a list, a weak tag or * cannot be passed on to
+     * z/OSMF or echoed back as the ETag that matched
+     */
+    public static String singleStrongEtag(String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        String etag = ifNoneMatch.trim();
+        return "*".equals(etag) || !STRONG_ETAG.matcher(etag).matches() ? null : etag;
+    }
+
+    /**
+     * An entity tag without its enclosing quotes, the form z/OSMF expects
+     */
+    public static String unquoteEtag(String etag) {
+        if (etag.length() >= 2 && etag.startsWith("\"") && etag.endsWith("\"")) {
+            return etag.substring(1, etag.length() - 1);
+        }
+        return etag;
+    }
+
+    private static boolean containsNoCache(Enumeration<String> values) {
+        while (values != null && values.hasMoreElements()) {
+            for (String directive : values.nextElement().split(",")) {
+                if ("no-cache".equalsIgnoreCase(directive.trim())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static List<Header> ibmHeaders(HttpServletRequest request) {
+        List<Header> ibmHeaders = new ArrayList<>();
+        Enumeration<String> headerNames = request.getHeaderNames();
+        if (headerNames == null) {
+            return ibmHeaders;
+        }
+        while (headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement().toUpperCase();
+            if (headerName.contains("X-IBM")) {
+                ibmHeaders.add(new BasicHeader(headerName, request.getHeader(headerName)));
+            }
+        }
+        return ibmHeaders;
+    }
+}
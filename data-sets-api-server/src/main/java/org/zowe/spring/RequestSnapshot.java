@@ -0,0 +1,108 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.spring;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletRequestWrapper;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * A copy of the headers, cookies and user of a request that can still be read
+ * after the request has completed, for background work that calls z/OSMF on
+ * the user's behalf. Anything else is read from the original request.
+ */
+public class RequestSnapshot extends HttpServletRequestWrapper {
+
+    private final Map<String, List<String>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+    private final Cookie[] cookies;
+    private final String remoteUser;
+    private final Principal userPrincipal;
+    private final String authType;
+
+    public RequestSnapshot(HttpServletRequest request) {
+        super(request);
+        Enumeration<String> headerNames = request.getHeaderNames();
+        while (headerNames != null && headerNames.hasMoreElements()) {
+            String headerName = headerNames.nextElement();
+            List<String> values = headers.computeIfAbsent(headerName, name -> new ArrayList<>());
+            Enumeration<String> headerValues = request.getHeaders(headerName);
+            while (headerValues != null && headerValues.hasMoreElements()) {
+                values.add(headerValues.nextElement());
+            }
+        }
+        Cookie[] requestCookies = request.getCookies();
+        cookies = requestCookies == null ? null : requestCookies.clone();
+        remoteUser = request.getRemoteUser();
+        userPrincipal = request.getUserPrincipal();
+        authType = request.getAuthType();
+    }
+
+    /**
+     * Request attributes over a snapshot of the current request, or null outside
+     * a request
+     */
+    public static RequestAttributes currentRequestAttributes() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes)) {
+            return null;
+        }
+        return new ServletRequestAttributes(new RequestSnapshot(((ServletRequestAttributes) attributes).getRequest()));
+    }
+
+    @Override
+    public String getHeader(String name) {
+        List<String> values = headers.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return Collections.enumeration(values == null ? Collections.<String>emptyList() : values);
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public Cookie[] getCookies() {
+        return cookies == null ? null : cookies.clone();
+    }
+
+    @Override
+    public String getRemoteUser() {
+        return remoteUser;
+    }
+
+    @Override
+    public Principal getUserPrincipal() {
+        return userPrincipal;
+    }
+
+    @Override
+    public String getAuthType() {
+        return authType;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.spring;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.task.TaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * The bounded executor the controllers run z/OSMF requests on, so a slow
+ * z/OSMF does not hold a Tomcat worker thread for the whole round trip. When
+ * its queue is full the request runs on the calling thread instead. Setting
+ * zosmf.executor.enabled to false runs requests on the Tomcat thread as before.
+ * Pool and queue sizes are published by actuator as the executor.* metrics
+ * tagged name=zosmfExecutor.
+ */
+@Configuration
+public class ZosmfExecutorConfig {
+
+    public static final String ZOSMF_EXECUTOR = "zosmfExecutor";
+
+    @Bean(name = ZOSMF_EXECUTOR)
+    public TaskExecutor zosmfExecutor(@Value("${zosmf.executor.enabled:true}") boolean enabled,
+            @Value("${zosmf.executor.corePoolSize:16}") int corePoolSize,
+            @Value("${zosmf.executor.maxPoolSize:64}") int maxPoolSize,
+            @Value("${zosmf.executor.queueCapacity:256}") int queueCapacity) {
+        if (!enabled) {
+            return new SyncTaskExecutor();
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("zosmf-");
+        executor.setTaskDecorator(new RequestContextTaskDecorator());
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Defining an executor switches off Spring Boot's, which Spring MVC uses to
+     * write streaming response bodies, so define it as Spring Boot would
+     */
+    @Lazy
+    @Bean(name = { "applicationTaskExecutor", "taskExecutor" })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(TaskExecutorBuilder builder) {
+        return builder.build();
+    }
+}
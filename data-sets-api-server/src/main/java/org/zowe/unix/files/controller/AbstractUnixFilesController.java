@@ -15,23 +15,71 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponents;
+import org.zowe.spring.RequestHeaders;
+import org.zowe.spring.ZosmfExecutorConfig;
+import org.zowe.unix.files.exceptions.DeleteJobNotFoundException;
+import org.zowe.unix.files.exceptions.InvalidTreeLimitException;
 import org.zowe.unix.files.model.UnixCreateAssetRequest;
+import org.zowe.unix.files.model.UnixDeleteJobStatus;
 import org.zowe.unix.files.model.UnixDirectoryAttributesWithChildren;
 import org.zowe.unix.files.model.UnixFileContent;
 import org.zowe.unix.files.model.UnixFileContentWithETag;
+import org.zowe.unix.files.services.UnixDeleteJob;
+import org.zowe.unix.files.services.UnixDeleteJobs;
+import org.zowe.unix.files.services.UnixDirectoryTreeRequest;
+import org.zowe.unix.files.services.UnixDirectoryTreeWalker;
 import org.zowe.unix.files.services.UnixFilesService;
 
 import javax.servlet.http.HttpServletRequest;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 public abstract class AbstractUnixFilesController {
 
+    static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+
+    private static final ObjectMapper TREE_ENTRY_MAPPER = new ObjectMapper();
+
+    @Autowired
+    @Qualifier(ZosmfExecutorConfig.ZOSMF_EXECUTOR)
+    private Executor zosmfExecutor;
+
+    @Value("${unixfiles.tree.parallelism:4}")
+    private int treeParallelism = 4;
+
+    @Value("${unixfiles.tree.maxEntries:10000}")
+    private int treeMaxEntries = 10000;
+
+    @Autowired
+    private UnixDeleteJobs unixDeleteJobs;
+
+    @Value("${unixfiles.deleteJobs.parallelism:4}")
+    private int deleteJobParallelism = 4;
+
     abstract UnixFilesService getUnixFileService();
 
     abstract String getEndPointRoot();
@@ -49,48 +97,134 @@ public abstract class AbstractUnixFilesController {
         return baseURIForLinkTo;
     }
 
+    private <T> CompletableFuture<T> supplyAsync(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, zosmfExecutor);
+    }
+
     @GetMapping(value = "/", produces = {"application/json"})
     @Operation(summary = "Get a list of a directories contents", operationId = "getDirectoryListing", description = "This API gets a list of files and directories for a given path")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public UnixDirectoryAttributesWithChildren getUnixDirectoryListing(
+    public CompletableFuture<UnixDirectoryAttributesWithChildren> getUnixDirectoryListing(
             @Parameter(description = "Path of Directory to be listed", required = true) @RequestParam String path, HttpServletRequest request) {
 
         String hypermediaLinkToBase = getLinkToBaseURI(request).toString();
-        return getUnixFileService().listUnixDirectory(path, hypermediaLinkToBase);
+        return supplyAsync(() -> getUnixFileService().listUnixDirectory(path, hypermediaLinkToBase));
+    }
+
+    @GetMapping(value = "/", params = "depth", produces = {APPLICATION_NDJSON_VALUE})
+    @Operation(summary = "Get the files and directories below a directory", operationId = "getDirectoryTree", description = "This API lists the directories below a path down to the given depth, "
+            + "returning each file and directory as a line of JSON as soon as its parent directory has been listed, so entries of different directories are interleaved. "
+            + "Globs without a slash match names and globs with one match paths relative to the listed directory; excluded directories are not listed. "
+            + "A directory that cannot be listed, or the point where the listing stopped at maxEntries, is returned as a line with an error.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public CompletableFuture<ResponseEntity<StreamingResponseBody>> getUnixDirectoryTree(
+            @Parameter(description = "Path of Directory to be listed", required = true) @RequestParam String path,
+            @Parameter(description = "Number of directory levels to list, 1 for the directory's own children", required = true) @RequestParam int depth,
+            @Parameter(description = "Only return entries matching one of these globs, e.g. \\*.java") @RequestParam(value = "include", required = false) List<String> includes,
+            @Parameter(description = "Skip entries matching one of these globs, e.g. .git") @RequestParam(value = "exclude", required = false) List<String> excludes,
+            @Parameter(description = "Maximum number of entries to return") @RequestParam(value = "maxEntries", required = false) Integer maxEntries,
+            HttpServletRequest request) {
+        if (depth < 1) {
+            throw new InvalidTreeLimitException("depth", depth);
+        }
+        if (maxEntries != null && maxEntries < 1) {
+            throw new InvalidTreeLimitException("maxEntries", maxEntries);
+        }
+        UnixDirectoryTreeRequest treeRequest = UnixDirectoryTreeRequest.builder().path(path).depth(depth)
+            .maxEntries(maxEntries == null ? treeMaxEntries : Math.min(maxEntries, treeMaxEntries))
+            .includes(includes == null ? Collections.emptyList() : includes)
+            .excludes(excludes == null ? Collections.emptyList() : excludes).build();
+        String hypermediaLinkToBase = getLinkToBaseURI(request).toString();
+
+        return supplyAsync(() -> {
+            // list the top directory first so that its errors are returned as the response status
+            UnixDirectoryAttributesWithChildren root = getUnixFileService().listUnixDirectory(path, hypermediaLinkToBase);
+            RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+            StreamingResponseBody body = outputStream -> writeTree(treeRequest, root, hypermediaLinkToBase,
+                    requestAttributes, outputStream);
+            return ResponseEntity.ok().contentType(MediaType.parseMediaType(APPLICATION_NDJSON_VALUE)).body(body);
+        });
+    }
+
+    /**
+     * Runs on the MVC async executor, so binds the request for the listings the
+     * walker hands to the z/OSMF executor
+     */
+    private void writeTree(UnixDirectoryTreeRequest treeRequest, UnixDirectoryAttributesWithChildren root,
+            String hypermediaLinkToBase, RequestAttributes requestAttributes, OutputStream outputStream)
+            throws IOException {
+        RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+        RequestContextHolder.setRequestAttributes(requestAttributes);
+        try {
+            UnixDirectoryTreeWalker walker = new UnixDirectoryTreeWalker(getUnixFileService(), zosmfExecutor,
+                    treeParallelism);
+            walker.walk(treeRequest, root, hypermediaLinkToBase, entry -> {
+                try {
+                    outputStream.write(TREE_ENTRY_MAPPER.writeValueAsBytes(entry));
+                    outputStream.write('\n');
+                    outputStream.flush();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            RequestContextHolder.setRequestAttributes(previousAttributes);
+        }
     }
 
     @GetMapping(value = "{path}/**", produces = {"application/json"})
     @Operation(summary = "Get the contents of a Unix file", operationId = "getUnixFileContents", description = "This API gets a the contetns of a Unix file. Try it out function will not work due to the encoding of forward slashes, "
-            + "it should be noted that requests to this endpoint should only contain unencoded slashes and not include wild card characters")
-    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ResponseEntity<UnixFileContent> getUnixFileContent(
+            + "it should be noted that requests to this endpoint should only contain unencoded slashes and not include wild card characters. "
+            + "Pass a previously returned ETag as If-None-Match to get 304 without the content if it has not changed.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok"),
+            @ApiResponse(responseCode = "304", description = "Not modified")})
+    public CompletableFuture<ResponseEntity<UnixFileContent>> getUnixFileContent(
             @PathVariable String path, HttpServletRequest request,
             @RequestHeader(value = "Convert", required = false) Boolean convert,
-            @RequestHeader(value = "X-Return-Etag", required = false) String etagHeader) {
+            @RequestHeader(value = "X-Return-Etag", required = false) String etagHeader,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
 
         String fullPath = getPathFromRequest(request);
 
-        boolean decode = false;
-        if (convert == null) {
-            decode = getUnixFileService().shouldUnixFileConvert(fullPath);
-            convert = decode;
-        }
-        UnixFileContentWithETag content = getUnixFileService().getUnixFileContentWithETag(fullPath, convert, decode);
+        return supplyAsync(() -> {
+            boolean decode = false;
+            boolean convertContent;
+            if (convert == null) {
+                decode = getUnixFileService().shouldUnixFileConvert(fullPath);
+                convertContent = decode;
+            } else {
+                convertContent = convert;
+            }
+            // only a single strong ETag is passed on to z/OSMF, and echoed back on 304
+            String etag = RequestHeaders.singleStrongEtag(ifNoneMatch);
+            UnixFileContentWithETag content = etag == null
+                    ? getUnixFileService().getUnixFileContentWithETag(fullPath, convertContent, decode)
+                    : getUnixFileService().getUnixFileContentWithETag(fullPath, convertContent, decode, etag);
 
-        HttpHeaders headers = new HttpHeaders();
+            HttpHeaders headers = new HttpHeaders();
+            if (content.getContent() == null) {
+                headers.add("Access-Control-Expose-Headers", "ETag");
+                headers.add("ETag", content.getETag());
+                return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+            }
 
-        if ("true".equalsIgnoreCase(etagHeader)) {
-            headers.add("Access-Control-Expose-Headers", "ETag");
-            headers.add("ETag", content.getETag());
-        }
-        return new ResponseEntity<>(content.getContent(), headers, HttpStatus.OK);
+            if ("true".equalsIgnoreCase(etagHeader)) {
+                headers.add("Access-Control-Expose-Headers", "ETag");
+                headers.add("ETag", content.getETag());
+            }
+            return new ResponseEntity<>(content.getContent(), headers, HttpStatus.OK);
+        });
     }
 
     @PutMapping(value = "{path}/**", produces = {"application/json"})
     @Operation(summary = "Update the contents of a Unix file", operationId = "putUnixFileContents", description = "This API will update the contents of a Unix file. Try it out function will not work due to the encoding of forward slashes, "
             + "it should be noted that requests to this endpoint should only contain unencoded slashes and not include wild card characters")
     @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
-    public ResponseEntity<?> putUnixFileContent(
+    public CompletableFuture<ResponseEntity<?>> putUnixFileContent(
             @PathVariable String path, HttpServletRequest request,
             @RequestBody UnixFileContent input, @RequestHeader(value = "If-Match", required = false) String ifMatch,
             @RequestHeader(value = "Convert", required = false) Boolean convert,
@@ -99,40 +233,83 @@ public abstract class AbstractUnixFilesController {
         UnixFileContentWithETag contentWithETag = new UnixFileContentWithETag(input, ifMatch);
         String fullPath = getPathFromRequest(request);
 
-        // Ensure file already exists
-        getUnixFileService().getUnixFileContentWithETag(fullPath, false, false);
+        return supplyAsync(() -> {
+            String putETag = getUnixFileService().updateUnixFileContent(fullPath, contentWithETag, convert);
 
-        if (convert == null) {
-            convert = getUnixFileService().shouldUnixFileConvert(fullPath);
-        }
-        String putETag = getUnixFileService().putUnixFileContent(fullPath, contentWithETag, convert);
-
-        HttpHeaders headers = new HttpHeaders();
-        if ("true".equalsIgnoreCase(etagHeader)) {
-            headers.add("Access-Control-Expose-Headers", "ETag");
-            headers.add("ETag", "\"" + putETag + "\"");
-        }
-        return new ResponseEntity<>(headers, HttpStatus.NO_CONTENT);
+            HttpHeaders headers = new HttpHeaders();
+            if ("true".equalsIgnoreCase(etagHeader)) {
+                headers.add("Access-Control-Expose-Headers", "ETag");
+                headers.add("ETag", "\"" + putETag + "\"");
+            }
+            return new ResponseEntity<>(headers, HttpStatus.NO_CONTENT);
+        });
     }
 
     @DeleteMapping(value = "{path}/**", produces = {"application/json"})
     @Operation(summary = "Delete a Unix file", operationId = "deleteUnixFile", description = "This API deletes a Unix file or directory. Try it out function will not work due to the encoding of forward slashes, "
             + "it should be noted that requests to this endpoint should only contain unencoded slashes")
     @ApiResponses(value = {@ApiResponse(responseCode = "204", description = "Unix file successfully deleted")})
-    public ResponseEntity<?> deleteUnixFile(@PathVariable String path, HttpServletRequest request,
+    public CompletableFuture<ResponseEntity<?>> deleteUnixFile(@PathVariable String path, HttpServletRequest request,
                                             @RequestHeader(value = "recursive", required = false, defaultValue = "false") boolean isRecursive) {
         String fullPath = getPathFromRequest(request);
-        getUnixFileService().deleteUnixFileContent(fullPath, isRecursive);
-        return ResponseEntity.noContent().build();
+        return supplyAsync(() -> {
+            getUnixFileService().deleteUnixFileContent(fullPath, isRecursive);
+            return ResponseEntity.noContent().build();
+        });
+    }
+
+    @DeleteMapping(value = "{path}/**", params = "async=true", produces = {"application/json"})
+    @Operation(summary = "Start deleting a Unix directory tree", operationId = "startUnixDeleteJob", description = "This API starts deleting a Unix file or directory and everything below it in the background, "
+            + "returning the job's status with its location. Files are deleted in parallel before the directories that contain them, and a directory is kept if anything in it could not be deleted.")
+    @ApiResponses(value = {@ApiResponse(responseCode = "202", description = "Delete job started")})
+    public ResponseEntity<UnixDeleteJobStatus> startUnixDeleteJob(@PathVariable String path, HttpServletRequest request) {
+        String fullPath = getPathFromRequest(request);
+        String hypermediaLinkToBase = ServletUriComponentsBuilder.fromCurrentContextPath().path(getEndPointRoot())
+            .path("/").build().toString();
+        UnixDeleteJob job = unixDeleteJobs.start(getUnixFileService(), fullPath, hypermediaLinkToBase, zosmfExecutor,
+                deleteJobParallelism);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath().path(getEndPointRoot()).path("/")
+            .queryParam("deleteJob", job.getId()).build().toUri();
+        return ResponseEntity.accepted().location(location).body(job.getStatus());
+    }
+
+    @GetMapping(value = "/", params = "deleteJob", produces = {"application/json"})
+    @Operation(summary = "Get the status of a Unix delete job", operationId = "getUnixDeleteJob", description = "This API returns the progress of a delete job started by the same user")
+    @ApiResponses(value = {@ApiResponse(responseCode = "200", description = "Ok")})
+    public UnixDeleteJobStatus getUnixDeleteJob(
+            @Parameter(description = "Id of the delete job", required = true) @RequestParam("deleteJob") String id) {
+        return getDeleteJob(id).getStatus();
+    }
+
+    @DeleteMapping(value = "/", params = "deleteJob", produces = {"application/json"})
+    @Operation(summary = "Cancel a Unix delete job", operationId = "cancelUnixDeleteJob", description = "This API stops a delete job started by the same user from sending any more requests to z/OSMF")
+    @ApiResponses(value = {@ApiResponse(responseCode = "202", description = "Delete job cancelling")})
+    public ResponseEntity<UnixDeleteJobStatus> cancelUnixDeleteJob(
+            @Parameter(description = "Id of the delete job", required = true) @RequestParam("deleteJob") String id) {
+        UnixDeleteJob job = getDeleteJob(id);
+        job.cancel();
+        return ResponseEntity.accepted().body(job.getStatus());
+    }
+
+    private UnixDeleteJob getDeleteJob(String id) {
+        UnixDeleteJob job = unixDeleteJobs.get(id);
+        if (job == null) {
+            throw new DeleteJobNotFoundException(id);
+        }
+        return job;
     }
 
     @PostMapping(value = "{path}/**", produces = {"application/json"})
     @Operation(summary = "Create a new Unix File or Diretory", operationId = "postUnixFileOrDirectory", description = "This API will create a new UnixFile or Directory. Try it out function not functional due to encoding of slashes and auto insertion of wildcard characters, "
             + "an example request path would be /api/v1/unixFiles/u/ibmuser/newDirectory")
     @ApiResponses(value = {@ApiResponse(responseCode = "201", description = "Created")})
-    public ResponseEntity<?> createUnifFileOrDirectory(@PathVariable String path, HttpServletRequest request,
+    public CompletableFuture<ResponseEntity<?>> createUnifFileOrDirectory(@PathVariable String path, HttpServletRequest request,
                                                        @RequestBody UnixCreateAssetRequest input) {
-        getUnixFileService().createUnixAsset(getPathFromRequest(request), input);
-        return ResponseEntity.created(getLinkToBaseURI(request).toUri()).build();
+        String fullPath = getPathFromRequest(request);
+        URI location = getLinkToBaseURI(request).toUri();
+        return supplyAsync(() -> {
+            getUnixFileService().createUnixAsset(fullPath, input);
+            return ResponseEntity.created(location).build();
+        });
     }
 }
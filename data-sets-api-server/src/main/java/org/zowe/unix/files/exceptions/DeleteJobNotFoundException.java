@@ -0,0 +1,23 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.exceptions.ZoweApiRestException;
+
+public class DeleteJobNotFoundException extends ZoweApiRestException {
+
+    private static final long serialVersionUID = -5176730142297734817L;
+
+    public DeleteJobNotFoundException(String id) {
+        super(HttpStatus.NOT_FOUND, "Delete job ''{0}'' was not found", id);
+    }
+}
@@ -0,0 +1,23 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.exceptions;
+
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.exceptions.ZoweApiRestException;
+
+public class InvalidTreeLimitException extends ZoweApiRestException {
+
+    private static final long serialVersionUID = 4627011985362514723L;
+
+    public InvalidTreeLimitException(String name, int value) {
+        super(HttpStatus.BAD_REQUEST, "The {0} ''{1}'' is not valid, it must be greater than 0", name, String.valueOf(value));
+    }
+}
@@ -0,0 +1,195 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.spring.BoundedExecutor;
+import org.zowe.unix.files.model.UnixDeleteJobState;
+import org.zowe.unix.files.model.UnixDeleteJobStatus;
+import org.zowe.unix.files.model.UnixDirectoryAttributesWithChildren;
+import org.zowe.unix.files.model.UnixDirectoryChild;
+import org.zowe.unix.files.model.UnixEntityType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Deletes a Unix directory tree in the background. Directories are listed and
+ * their contents deleted before the directory itself, with at most parallelism
+ * z/OSMF requests running on the executor at once. A directory is kept if
+ * anything in it could not be deleted. Cancelling stops requests that have not
+ * started yet.
+ */
+@Slf4j
+public class UnixDeleteJob {
+
+    static final int MAX_ERRORS = 100;
+
+    private final String id = UUID.randomUUID().toString();
+    private final String user;
+    private final String path;
+    private final String hypermediaLinkToBase;
+    private final UnixFilesService unixFilesService;
+    private final Executor executor;
+    private final RequestAttributes requestAttributes;
+
+    private final Instant started = Instant.now();
+    private volatile Instant finished;
+    private volatile UnixDeleteJobState state = UnixDeleteJobState.RUNNING;
+    private volatile boolean cancelled;
+
+    private final AtomicInteger found = new AtomicInteger(1);
+    private final AtomicInteger deleted = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private final List<String> errors = new ArrayList<>();
+
+    UnixDeleteJob(String user, String path, String hypermediaLinkToBase, UnixFilesService unixFilesService,
+            Executor executor, int parallelism, RequestAttributes requestAttributes) {
+        this.user = user;
+        this.path = path;
+        this.hypermediaLinkToBase = hypermediaLinkToBase;
+        this.unixFilesService = unixFilesService;
+        this.executor = new BoundedExecutor(executor, parallelism);
+        this.requestAttributes = requestAttributes;
+    }
+
+    void start() {
+        deleteDirectory(path).whenComplete((done, e) -> finish());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    String getUser() {
+        return user;
+    }
+
+    Instant getFinished() {
+        return finished;
+    }
+
+    public void cancel() {
+        cancelled = true;
+        synchronized (this) {
+            if (state == UnixDeleteJobState.RUNNING) {
+                state = UnixDeleteJobState.CANCELLING;
+            }
+        }
+    }
+
+    public UnixDeleteJobStatus getStatus() {
+        List<String> firstErrors;
+        synchronized (errors) {
+            firstErrors = new ArrayList<>(errors);
+        }
+        Instant finishedAt = finished;
+        return UnixDeleteJobStatus.builder().id(id).path(path).state(state).found(found.get()).deleted(deleted.get())
+            .failed(failed.get()).errors(firstErrors.isEmpty() ? null : firstErrors).started(started.toString())
+            .finished(finishedAt == null ? null : finishedAt.toString()).build();
+    }
+
+    private synchronized void finish() {
+        if (cancelled) {
+            state = UnixDeleteJobState.CANCELLED;
+        } else if (failed.get() > 0) {
+            state = UnixDeleteJobState.FAILED;
+        } else {
+            state = UnixDeleteJobState.COMPLETED;
+        }
+        finished = Instant.now();
+    }
+
+    private CompletableFuture<Boolean> deleteDirectory(String directoryPath) {
+        return submit(directoryPath, () -> unixFilesService.listUnixDirectory(directoryPath, hypermediaLinkToBase))
+            .thenCompose(listing -> {
+                if (listing == null) {
+                    return CompletableFuture.completedFuture(false);
+                } else if (listing.getType() == UnixEntityType.FILE) {
+                    return delete(directoryPath);
+                }
+                return deleteChildren(directoryPath, listing)
+                    .thenCompose(empty -> empty ? delete(directoryPath) : CompletableFuture.completedFuture(false));
+            });
+    }
+
+    private CompletableFuture<Boolean> deleteChildren(String directoryPath, UnixDirectoryAttributesWithChildren listing) {
+        List<UnixDirectoryChild> children = listing.getChildren() == null ? new ArrayList<>() : listing.getChildren();
+        found.addAndGet(children.size());
+        String parent = directoryPath.endsWith("/") ? directoryPath : directoryPath + "/";
+        List<CompletableFuture<Boolean>> deletes = new ArrayList<>();
+        for (UnixDirectoryChild child : children) {
+            String childPath = parent + child.getName();
+            deletes.add(child.getType() == UnixEntityType.DIRECTORY ? deleteDirectory(childPath) : delete(childPath));
+        }
+        return CompletableFuture.allOf(deletes.toArray(new CompletableFuture<?>[0]))
+            .thenApply(all -> deletes.stream().allMatch(CompletableFuture::join));
+    }
+
+    private CompletableFuture<Boolean> delete(String deletePath) {
+        return submit(deletePath, () -> {
+            unixFilesService.deleteUnixFileContent(deletePath, false);
+            deleted.incrementAndGet();
+            return true;
+        }).thenApply(done -> done != null);
+    }
+
+    /**
+     * Queues a z/OSMF request, completing with null if it failed or the job was
+     * cancelled before it started
+     */
+    private <T> CompletableFuture<T> submit(String requestPath, Supplier<T> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        executor.execute(() -> {
+            // the request that started the job has completed, so run with the snapshot of it
+            RequestAttributes previousAttributes = RequestContextHolder.getRequestAttributes();
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            try {
+                if (cancelled) {
+                    result.complete(null);
+                    return;
+                }
+                T value = null;
+                try {
+                    value = request.get();
+                } catch (ZoweApiException e) {
+                    recordFailure(requestPath, e.getApiError().getMessage());
+                } catch (RuntimeException e) {
+                    log.error("delete " + requestPath, e);
+                    recordFailure(requestPath, "The request to z/OSMF failed");
+                }
+                result.complete(value);
+            } finally {
+                RequestContextHolder.setRequestAttributes(previousAttributes);
+            }
+        });
+        return result;
+    }
+
+    private void recordFailure(String failedPath, String message) {
+        failed.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(failedPath + ": " + message);
+            }
+        }
+    }
+}
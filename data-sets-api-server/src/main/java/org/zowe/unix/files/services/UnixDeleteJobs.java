@@ -0,0 +1,63 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.services;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.zowe.cache.UserScopedKey;
+import org.zowe.spring.RequestSnapshot;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * The background delete jobs of this server. A job can only be seen by the user
+ * who started it and is forgotten retentionSeconds after it finishes.
+ */
+@Component
+public class UnixDeleteJobs {
+
+    private final Map<String, UnixDeleteJob> jobs = new ConcurrentHashMap<>();
+    private final long retentionSeconds;
+
+    public UnixDeleteJobs(@Value("${unixfiles.deleteJobs.retentionSeconds:3600}") long retentionSeconds) {
+        this.retentionSeconds = retentionSeconds;
+    }
+
+    public UnixDeleteJob start(UnixFilesService unixFilesService, String path, String hypermediaLinkToBase,
+            Executor executor, int parallelism) {
+        removeExpired();
+        UnixDeleteJob job = new UnixDeleteJob(UserScopedKey.currentUser(), path, hypermediaLinkToBase,
+                unixFilesService, executor, parallelism, RequestSnapshot.currentRequestAttributes());
+        jobs.put(job.getId(), job);
+        job.start();
+        return job;
+    }
+
+    /**
+     * The job with the id if the current user started it, otherwise null
+     */
+    public UnixDeleteJob get(String id) {
+        removeExpired();
+        UnixDeleteJob job = jobs.get(id);
+        if (job == null || !job.getUser().equals(UserScopedKey.currentUser())) {
+            return null;
+        }
+        return job;
+    }
+
+    private void removeExpired() {
+        Instant expiry = Instant.now().minusSeconds(retentionSeconds);
+        jobs.values().removeIf(job -> job.getFinished() != null && job.getFinished().isBefore(expiry));
+    }
+}
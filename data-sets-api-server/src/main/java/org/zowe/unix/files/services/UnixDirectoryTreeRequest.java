@@ -0,0 +1,35 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.services;
+
+import lombok.Builder;
+import lombok.Singular;
+import lombok.Value;
+
+import java.util.List;
+
+/**
+ * What to list of a Unix directory tree. Globs without a slash are matched
+ * against entry names and globs with one against paths relative to the listed
+ * directory. Excluded directories are not descended into.
+ */
+@Value
+@Builder
+public class UnixDirectoryTreeRequest {
+
+    String path;
+    int depth;
+    int maxEntries;
+    @Singular
+    List<String> includes;
+    @Singular
+    List<String> excludes;
+}
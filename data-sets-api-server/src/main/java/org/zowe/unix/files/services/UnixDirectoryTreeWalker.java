@@ -0,0 +1,197 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.zowe.api.common.exceptions.ZoweApiException;
+import org.zowe.unix.files.model.UnixDirectoryAttributesWithChildren;
+import org.zowe.unix.files.model.UnixDirectoryChild;
+import org.zowe.unix.files.model.UnixDirectoryTreeEntry;
+import org.zowe.unix.files.model.UnixEntityType;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Lists a Unix directory tree one directory per z/OSMF request, keeping up to
+ * parallelism of those requests running on the executor at once. Entries are
+ * passed to the sink on the calling thread as each directory listing arrives,
+ * so the order between directories is not fixed. A directory that cannot be
+ * listed is reported as an entry with an error and the rest of the tree is
+ * still listed. Listings still running when the walk ends, normally or
+ * not, are waited for and those not yet started are skipped, so none outlives
+ * the request they were started for.
+ */
+@Slf4j
+public class UnixDirectoryTreeWalker {
+
+    private final UnixFilesService unixFilesService;
+    private final Executor executor;
+    private final int parallelism;
+
+    public UnixDirectoryTreeWalker(UnixFilesService unixFilesService, Executor executor, int parallelism) {
+        this.unixFilesService = unixFilesService;
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Walks the tree below the already listed root directory and returns the
+     * number of entries passed to the sink
+     */
+    public int walk(UnixDirectoryTreeRequest request, UnixDirectoryAttributesWithChildren root,
+            String hypermediaLinkToBase, Consumer<UnixDirectoryTreeEntry> sink) throws InterruptedException {
+        String rootPath = trimTrailingSlash(request.getPath());
+        List<PathMatcher> includes = matchers(request.getIncludes());
+        List<PathMatcher> excludes = matchers(request.getExcludes());
+
+        BlockingQueue<Listing> listed = new LinkedBlockingQueue<>();
+        Deque<Listing> waiting = new ArrayDeque<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        listed.add(new Listing(rootPath, 1, root, null));
+        int running = 1;
+        int entries = 0;
+
+        try {
+            while (running > 0) {
+                Listing listing = listed.take();
+                running--;
+                if (listing.error != null) {
+                    sink.accept(UnixDirectoryTreeEntry.builder().path(listing.path).depth(listing.depth - 1)
+                        .type(UnixEntityType.DIRECTORY).error(listing.error).build());
+                } else {
+                    for (UnixDirectoryChild child : listing.directory.getChildren()) {
+                        String childPath = listing.path + "/" + child.getName();
+                        Path relativePath = Paths.get(childPath.substring(rootPath.length() + 1));
+                        if (matchesAny(excludes, relativePath)) {
+                            continue;
+                        }
+                        if (includes.isEmpty() || matchesAny(includes, relativePath)) {
+                            if (entries == request.getMaxEntries()) {
+                                sink.accept(UnixDirectoryTreeEntry.builder().path(rootPath.isEmpty() ? "/" : rootPath)
+                                    .error(String.format("Listing stopped after %d entries", entries)).build());
+                                return entries;
+                            }
+                            sink.accept(UnixDirectoryTreeEntry.builder().path(childPath).depth(listing.depth)
+                                .type(child.getType()).size(child.getSize()).lastModified(child.getLastModified())
+                                .link(child.getLink()).build());
+                            entries++;
+                        }
+                        if (child.getType() == UnixEntityType.DIRECTORY && listing.depth < request.getDepth()) {
+                            waiting.add(new Listing(childPath, listing.depth + 1, null, null));
+                        }
+                    }
+                }
+                while (running < parallelism && !waiting.isEmpty()) {
+                    list(waiting.poll(), hypermediaLinkToBase, listed, cancelled);
+                    running++;
+                }
+            }
+        } finally {
+            cancelled.set(true);
+            awaitListings(listed, running);
+        }
+        return entries;
+    }
+
+    private void list(Listing directory, String hypermediaLinkToBase, BlockingQueue<Listing> listed,
+            AtomicBoolean cancelled) {
+        executor.execute(() -> {
+            if (cancelled.get()) {
+                listed.add(directory);
+                return;
+            }
+            try {
+                UnixDirectoryAttributesWithChildren attributes = unixFilesService.listUnixDirectory(directory.path,
+                        hypermediaLinkToBase);
+                listed.add(new Listing(directory.path, directory.depth, attributes, null));
+            } catch (ZoweApiException e) {
+                listed.add(new Listing(directory.path, directory.depth, null, e.getApiError().getMessage()));
+            } catch (RuntimeException e) {
+                log.error("listUnixDirectory " + directory.path, e);
+                listed.add(new Listing(directory.path, directory.depth, null, "The directory could not be listed"));
+            }
+        });
+    }
+
+    private static void awaitListings(BlockingQueue<Listing> listed, int running) {
+        boolean interrupted = false;
+        for (int remaining = running; remaining > 0; remaining--) {
+            while (true) {
+                try {
+                    listed.take();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String trimTrailingSlash(String path) {
+        String trimmed = path;
+        while (trimmed.endsWith("/")) {
+            trimmed = trimmed.substring(0, trimmed.length() - 1);
+        }
+        return trimmed;
+    }
+
+    private static List<PathMatcher> matchers(List<String> globs) {
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (String glob : globs) {
+            PathMatcher matcher = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+            if (glob.contains("/")) {
+                matchers.add(path -> matcher.matches(path));
+            } else {
+                matchers.add(path -> matcher.matches(path.getFileName()));
+            }
+        }
+        return matchers;
+    }
+
+    private static boolean matchesAny(List<PathMatcher> matchers, Path relativePath) {
+        for (PathMatcher matcher : matchers) {
+            if (matcher.matches(relativePath)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static class Listing {
+        private final String path;
+        private final int depth;
+        private final UnixDirectoryAttributesWithChildren directory;
+        private final String error;
+
+        Listing(String path, int depth, UnixDirectoryAttributesWithChildren directory, String error) {
+            this.path = path;
+            this.depth = depth;
+            this.directory = directory;
+            this.error = error;
+        }
+    }
+}
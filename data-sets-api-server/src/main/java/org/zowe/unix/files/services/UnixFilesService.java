@@ -10,46 +10,39 @@
 
 package org.zowe.unix.files.services;
 
-import lombok.Setter;
-
 import org.apache.http.Header;
-import org.apache.http.message.BasicHeader;
+import org.zowe.spring.RequestHeaders;
 import org.zowe.unix.files.model.UnixCreateAssetRequest;
 import org.zowe.unix.files.model.UnixDirectoryAttributesWithChildren;
 import org.zowe.unix.files.model.UnixFileContentWithETag;
 
-import javax.servlet.http.HttpServletRequest;
-
-import java.util.ArrayList;
-import java.util.Enumeration;
 import java.util.List;
 
-@Setter
 public abstract class UnixFilesService {
-    
-    private HttpServletRequest request;
-    
+
     public List<Header> getIbmHeadersFromRequest() {
-        ArrayList<Header> ibmHeaders = new ArrayList<Header>();
-        if (request != null ) {
-            Enumeration<String> headerNames = request.getHeaderNames();
-            while (headerNames.hasMoreElements()) {
-                String headerName = headerNames.nextElement().toUpperCase();
-                if (headerName.contains("X-IBM")) {
-                    Header newHeader = new BasicHeader(headerName, request.getHeader(headerName));
-                    ibmHeaders.add(newHeader);
-                }
-            }
-        }
-        return ibmHeaders;
+        return RequestHeaders.ibmHeaders();
     }
     
     public abstract UnixDirectoryAttributesWithChildren listUnixDirectory(String path, String hypermediaLinkToBase);
     
     public abstract UnixFileContentWithETag getUnixFileContentWithETag(String path, boolean convert, boolean decode);
     
+    /**
+     * Reads the content unless its ETag still matches ifNoneMatch, in which case
+     * the result has that ETag and null content
+     */
+    public abstract UnixFileContentWithETag getUnixFileContentWithETag(String path, boolean convert, boolean decode,
+            String ifNoneMatch);
+    
     public abstract String putUnixFileContent(String path, UnixFileContentWithETag content, boolean convert);
     
+    /**
+     * Writes the content of an existing file without reading it first. If convert
+     * is null it is decided from the file's tag.
+     */
+    public abstract String updateUnixFileContent(String path, UnixFileContentWithETag content, Boolean convert);
+    
     public abstract boolean shouldUnixFileConvert(String path);
     
     public abstract String getUnixFileChtag(String path);
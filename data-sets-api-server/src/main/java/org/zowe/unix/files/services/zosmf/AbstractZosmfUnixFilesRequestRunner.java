@@ -15,8 +15,10 @@ import com.google.gson.JsonObject;
 
 import org.apache.http.Header;
 import org.apache.http.HttpStatus;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
 import org.zowe.api.common.zosmf.services.AbstractZosmfRequestRunner;
+import org.zowe.metrics.ZosmfRequestMetrics;
 import org.zowe.unix.files.exceptions.FileNotFoundException;
 import org.zowe.unix.files.exceptions.UnauthorisedFileException;
 
@@ -28,6 +30,11 @@ public abstract class AbstractZosmfUnixFilesRequestRunner<T> extends AbstractZos
         super(headers);
     }
 
+    @Override
+    public T run(ZosmfConnector zosmfConnector) {
+        return ZosmfRequestMetrics.record(getClass(), () -> super.run(zosmfConnector));
+    }
+
     protected ZoweApiRestException createUnixFileException(JsonObject jsonResponse, int statusCode, String path) {
         JsonElement details = jsonResponse.get("details");
         if (null != details) {
@@ -10,38 +10,126 @@
 
 package org.zowe.unix.files.services.zosmf;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+import org.zowe.cache.SingleFlight;
+import org.zowe.cache.TtlCache;
+import org.zowe.cache.UserScopedKey;
 import org.zowe.unix.files.model.UnixCreateAssetRequest;
 import org.zowe.unix.files.model.UnixDirectoryAttributesWithChildren;
 import org.zowe.unix.files.model.UnixFileContentWithETag;
 import org.zowe.unix.files.services.UnixFilesService;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.stream.Collectors.toList;
+
 public abstract class AbstractZosmfUnixFilesService extends UnixFilesService {
+
+    static final String CHTAG_CACHE = "unix.files.chtag";
+    static final String SINGLE_FLIGHT = "unix.files";
+
+    private TtlCache<UserScopedKey<String>, String> chtagCache = new TtlCache<>(CHTAG_CACHE, 1000, 60, TimeUnit.SECONDS);
+    private SingleFlight<UserScopedKey<List<Object>>, Object> singleFlight = new SingleFlight<>(SINGLE_FLIGHT, true);
     
     abstract ZosmfConnector getZosmfConnector();
+
+    @Autowired
+    void configureChtagCache(@Value("${cache.chtag.maxSize:1000}") int maxSize,
+            @Value("${cache.chtag.ttlSeconds:60}") long ttlSeconds) {
+        chtagCache = new TtlCache<>(CHTAG_CACHE, maxSize, ttlSeconds, TimeUnit.SECONDS);
+    }
+
+    TtlCache<UserScopedKey<String>, String> getChtagCache() {
+        return chtagCache;
+    }
+
+    @Autowired
+    void configureSingleFlight(@Value("${zosmf.singleFlight.enabled:true}") boolean enabled) {
+        singleFlight = new SingleFlight<>(SINGLE_FLIGHT, enabled);
+    }
+
+    SingleFlight<UserScopedKey<List<Object>>, Object> getSingleFlight() {
+        return singleFlight;
+    }
+
+    /**
+     * Runs a read, sharing one z/OSMF call with identical reads by the same user
+     * that are already in flight
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalesce(Class<?> runnerType, Supplier<T> read, Object... arguments) {
+        List<String> headers = getIbmHeadersFromRequest().stream()
+            .map(header -> header.getName() + ": " + header.getValue()).collect(toList());
+        List<Object> key = Arrays.asList(runnerType, Arrays.asList(arguments), headers);
+        return (T) singleFlight.execute(UserScopedKey.forCurrentUser(key), read);
+    }
     
     @Override
     public UnixDirectoryAttributesWithChildren listUnixDirectory(String path, String hypermediaLinkToBase) {
-        ListUnixDirectoryZosmfRunner runner = new ListUnixDirectoryZosmfRunner(path, hypermediaLinkToBase, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        return coalesce(ListUnixDirectoryZosmfRunner.class, () -> {
+            ListUnixDirectoryZosmfRunner runner = new ListUnixDirectoryZosmfRunner(path, hypermediaLinkToBase, getIbmHeadersFromRequest());
+            return runner.run(getZosmfConnector());
+        }, path, hypermediaLinkToBase);
     }
 
     @Override
     public UnixFileContentWithETag getUnixFileContentWithETag(String path, boolean convert, boolean decode) {
-        GetUnixFileContentZosmfRunner runner = new GetUnixFileContentZosmfRunner(path, convert, decode, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        return coalesce(GetUnixFileContentZosmfRunner.class, () -> {
+            GetUnixFileContentZosmfRunner runner = new GetUnixFileContentZosmfRunner(path, convert, decode, getIbmHeadersFromRequest());
+            return runner.run(getZosmfConnector());
+        }, path, convert, decode);
+    }
+
+    @Override
+    public UnixFileContentWithETag getUnixFileContentWithETag(String path, boolean convert, boolean decode,
+            String ifNoneMatch) {
+        if (ifNoneMatch == null) {
+            return getUnixFileContentWithETag(path, convert, decode);
+        }
+        return coalesce(GetUnixFileContentZosmfRunner.class, () -> {
+            GetUnixFileContentZosmfRunner runner = new GetUnixFileContentZosmfRunner(path, convert, decode, ifNoneMatch,
+                    getIbmHeadersFromRequest());
+            UnixFileContentWithETag content = runner.run(getZosmfConnector());
+            if (runner.isNotModified()) {
+                return new UnixFileContentWithETag(null, ifNoneMatch);
+            }
+            return content;
+        }, path, convert, decode, ifNoneMatch);
     }
 
     
     @Override
     public String putUnixFileContent(String path, UnixFileContentWithETag content, boolean convert) {
         PutUnixFileContentZosmfRunner runner = new PutUnixFileContentZosmfRunner(path, content, convert, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        try {
+            return runner.run(getZosmfConnector());
+        } finally {
+            invalidateChtag(path, false);
+        }
+    }
+    
+    @Override
+    public String updateUnixFileContent(String path, UnixFileContentWithETag content, Boolean convert) {
+        // chtag fails with FileNotFoundException for a missing file, so it doubles as the existence check
+        GetUnixFileChtagZosmfRunner chtagRunner = new GetUnixFileChtagZosmfRunner(path, getIbmHeadersFromRequest());
+        String codepage = chtagRunner.run(getZosmfConnector());
+        if (convert == null) {
+            convert = isConvertibleCodepage(codepage);
+        }
+        return putUnixFileContent(path, content, convert);
     }
     
     @Override
     public boolean shouldUnixFileConvert(String path) {
-        String codepage = getUnixFileChtag(path);
+        return isConvertibleCodepage(getUnixFileChtag(path));
+    }
+
+    private static boolean isConvertibleCodepage(String codepage) {
         if (codepage.contains("ISO8859") || codepage.contains("IBM-850") || codepage.contains("UTF")) {
            return true;
         } 
@@ -50,19 +138,48 @@ public abstract class AbstractZosmfUnixFilesService extends UnixFilesService {
 
     @Override
     public String getUnixFileChtag(String path) {
-        GetUnixFileChtagZosmfRunner runner = new GetUnixFileChtagZosmfRunner(path, getIbmHeadersFromRequest());
-        return runner.run(getZosmfConnector());
+        return chtagCache.get(UserScopedKey.forCurrentUser(path), key -> coalesce(GetUnixFileChtagZosmfRunner.class, () -> {
+            GetUnixFileChtagZosmfRunner runner = new GetUnixFileChtagZosmfRunner(path, getIbmHeadersFromRequest());
+            return runner.run(getZosmfConnector());
+        }, path));
     }
     
     @Override
     public void deleteUnixFileContent(String path, boolean isRecursive) {
         DeleteUnixFileZosmfRunner runner = new DeleteUnixFileZosmfRunner(path, isRecursive, getIbmHeadersFromRequest());
-        runner.run(getZosmfConnector());
+        try {
+            runner.run(getZosmfConnector());
+        } finally {
+            invalidateChtag(path, true);
+        }
     }
 
     @Override
     public void createUnixAsset(String path, UnixCreateAssetRequest request) {
         CreateUnixAssetZosmfRunner runner = new CreateUnixAssetZosmfRunner(path, request, getIbmHeadersFromRequest());
-        runner.run(getZosmfConnector());
+        try {
+            runner.run(getZosmfConnector());
+        } finally {
+            invalidateChtag(path, false);
+        }
+    }
+
+    /**
+     * Drops the cached tag of a path this service has changed, for every user,
+     * and optionally of everything beneath it. Reads in flight, by any user, of
+     * the path, anything beneath it or the directories above it are not shared
+     * from then on.
+     */
+    void invalidateChtag(String path, boolean descendants) {
+        String prefix = path.endsWith("/") ? path : path + "/";
+        chtagCache.invalidateIf(key -> key.getKey().equals(path) || (descendants && key.getKey().startsWith(prefix)));
+        singleFlight.forgetIf(key -> {
+            List<?> arguments = (List<?>) key.getKey().get(1);
+            if (arguments.isEmpty() || !(arguments.get(0) instanceof String)) {
+                return true;
+            }
+            String read = (String) arguments.get(0);
+            return read.equals(path) || read.startsWith(prefix) || path.startsWith(read.endsWith("/") ? read : read + "/");
+        });
     }
 }
@@ -20,6 +20,7 @@ import org.springframework.util.Base64Utils;
 import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
 import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.spring.RequestHeaders;
 import org.zowe.unix.files.exceptions.NotAFileException;
 import org.zowe.unix.files.model.UnixFileContent;
 import org.zowe.unix.files.model.UnixFileContentWithETag;
@@ -34,16 +35,36 @@ public class GetUnixFileContentZosmfRunner extends AbstractZosmfUnixFilesRequest
     private String path;
     private boolean convert;
     private boolean decode;
+    private String ifNoneMatch;
+    private boolean notModified;
     
     public GetUnixFileContentZosmfRunner(String path, boolean convert, boolean decode, List<Header> headers) {
+        this(path, convert, decode, null, headers);
+    }
+
+    /**
+     * Reads the content unless its ETag still matches ifNoneMatch, a single
+     * strong entity tag, in which case z/OSMF answers 304, the result is null
+     * and {@link #isNotModified()} is true
+     */
+    public GetUnixFileContentZosmfRunner(String path, boolean convert, boolean decode, String ifNoneMatch,
+            List<Header> headers) {
         super(headers);
         this.path = path;
         this.convert = convert;
         this.decode = decode;
+        this.ifNoneMatch = ifNoneMatch;
+    }
+
+    public boolean isNotModified() {
+        return notModified;
     }
 
     @Override
     protected int[] getSuccessStatus() {
+        if (ifNoneMatch != null) {
+            return new int[] { HttpStatus.SC_OK, HttpStatus.SC_NOT_MODIFIED };
+        }
         return new int[] { HttpStatus.SC_OK };
     }
 
@@ -54,6 +75,9 @@ public class GetUnixFileContentZosmfRunner extends AbstractZosmfUnixFilesRequest
         if (convert) {
             requestBuilder.addHeader("X-IBM-Data-Type", "binary");
         }
+        if (ifNoneMatch != null) {
+            requestBuilder.addHeader("If-None-Match", RequestHeaders.unquoteEtag(ifNoneMatch));
+        }
         return requestBuilder;
     }
 
@@ -68,6 +92,10 @@ public class GetUnixFileContentZosmfRunner extends AbstractZosmfUnixFilesRequest
 
     @Override
     protected UnixFileContentWithETag getResult(ResponseCache responseCache) throws IOException {
+        notModified = responseCache.getStatus() == HttpStatus.SC_NOT_MODIFIED;
+        if (notModified) {
+            return null;
+        }
         UnixFileContent content = getContent(responseCache);
         
         String eTag = null;
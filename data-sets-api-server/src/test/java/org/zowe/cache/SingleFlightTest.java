@@ -0,0 +1,182 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.cache;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    private ExecutorService executor;
+    private AtomicInteger calls;
+    private CountDownLatch release;
+
+    @Before
+    public void setUp() {
+        executor = Executors.newFixedThreadPool(CALLERS);
+        calls = new AtomicInteger();
+        release = new CountDownLatch(1);
+    }
+
+    @After
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private String blockingCall(String value) {
+        calls.incrementAndGet();
+        try {
+            release.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+
+    private List<Future<String>> submit(SingleFlight<String, String> singleFlight, String key) throws Exception {
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute(key, () -> blockingCall(key.toUpperCase()))));
+        }
+        return results;
+    }
+
+    private static void awaitWaiting(SingleFlight<String, String> singleFlight, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (singleFlight.getExecutedCount() + singleFlight.getSharedCount() < count) {
+            assertTrue("callers did not arrive", System.nanoTime() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    @Test
+    public void concurrent_calls_for_a_key_should_share_one_execution() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true);
+
+        List<Future<String>> results = submit(singleFlight, "a");
+        awaitWaiting(singleFlight, CALLERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("A", result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, calls.get());
+        assertEquals(1, singleFlight.getExecutedCount());
+        assertEquals(CALLERS - 1, singleFlight.getSharedCount());
+        assertEquals(0, singleFlight.inFlightCount());
+    }
+
+    @Test
+    public void calls_for_different_keys_should_each_execute() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true);
+
+        Future<String> a = executor.submit(() -> singleFlight.execute("a", () -> blockingCall("A")));
+        Future<String> b = executor.submit(() -> singleFlight.execute("b", () -> blockingCall("B")));
+        awaitWaiting(singleFlight, 2);
+        release.countDown();
+
+        assertEquals("A", a.get(10, TimeUnit.SECONDS));
+        assertEquals("B", b.get(10, TimeUnit.SECONDS));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void callers_should_share_the_exception() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true);
+        IllegalStateException failure = new IllegalStateException("z/OSMF failed");
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("a", () -> {
+                blockingCall("A");
+                throw failure;
+            })));
+        }
+        awaitWaiting(singleFlight, CALLERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            try {
+                result.get(10, TimeUnit.SECONDS);
+                fail("expected the call to fail");
+            } catch (ExecutionException e) {
+                assertSame(failure, e.getCause());
+            }
+        }
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void completed_calls_should_not_be_shared() {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true);
+        release.countDown();
+
+        singleFlight.execute("a", () -> blockingCall("A"));
+        singleFlight.execute("a", () -> blockingCall("A"));
+
+        assertEquals(2, calls.get());
+        assertEquals(0, singleFlight.getSharedCount());
+    }
+
+    @Test
+    public void callers_after_forget_should_execute_again_for_forgotten_keys_only() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", true);
+
+        Future<String> first = executor.submit(() -> singleFlight.execute("a", () -> blockingCall("A")));
+        Future<String> other = executor.submit(() -> singleFlight.execute("b", () -> blockingCall("B")));
+        awaitWaiting(singleFlight, 2);
+        singleFlight.forgetIf("a"::equals);
+        Future<String> second = executor.submit(() -> singleFlight.execute("a", () -> blockingCall("A")));
+        Future<String> sharedOther = executor.submit(() -> singleFlight.execute("b", () -> blockingCall("B")));
+        awaitWaiting(singleFlight, 4);
+        release.countDown();
+
+        assertEquals("A", first.get(10, TimeUnit.SECONDS));
+        assertEquals("A", second.get(10, TimeUnit.SECONDS));
+        assertEquals("B", other.get(10, TimeUnit.SECONDS));
+        assertEquals("B", sharedOther.get(10, TimeUnit.SECONDS));
+        assertEquals(3, calls.get());
+        assertEquals(1, singleFlight.getSharedCount());
+    }
+
+    @Test
+    public void disabled_single_flight_should_execute_every_call() throws Exception {
+        SingleFlight<String, String> singleFlight = new SingleFlight<>("test", false);
+
+        List<Future<String>> results = submit(singleFlight, "a");
+        awaitWaiting(singleFlight, CALLERS);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("A", result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(CALLERS, calls.get());
+        assertEquals(0, singleFlight.getSharedCount());
+    }
+}
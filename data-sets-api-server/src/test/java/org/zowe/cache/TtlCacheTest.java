@@ -0,0 +1,116 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.cache;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class TtlCacheTest {
+
+    private AtomicLong now;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong();
+        loads = new AtomicInteger();
+    }
+
+    private String load(String key) {
+        loads.incrementAndGet();
+        return key.toUpperCase();
+    }
+
+    @Test
+    public void get_should_load_once_and_then_hit() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 60, TimeUnit.SECONDS, now::get);
+
+        assertEquals("A", cache.get("a", this::load));
+        assertEquals("A", cache.get("a", this::load));
+
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void entries_should_expire_after_ttl() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 60, TimeUnit.SECONDS, now::get);
+
+        cache.get("a", this::load);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        cache.get("a", this::load);
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        cache.get("a", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void least_recently_used_entry_should_be_evicted_when_full() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 2, 60, TimeUnit.SECONDS, now::get);
+
+        cache.put("a", "A");
+        cache.put("b", "B");
+        cache.getIfPresent("a");
+        cache.put("c", "C");
+
+        assertEquals(2, cache.size());
+        assertEquals("A", cache.getIfPresent("a"));
+        assertNull(cache.getIfPresent("b"));
+        assertEquals("C", cache.getIfPresent("c"));
+    }
+
+    @Test
+    public void invalidate_if_should_remove_matching_entries() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 60, TimeUnit.SECONDS, now::get);
+
+        cache.put("/u/a", "A");
+        cache.put("/u/a/b", "B");
+        cache.put("/u/c", "C");
+        cache.invalidateIf(key -> key.startsWith("/u/a"));
+
+        assertNull(cache.getIfPresent("/u/a"));
+        assertNull(cache.getIfPresent("/u/a/b"));
+        assertEquals("C", cache.getIfPresent("/u/c"));
+    }
+
+    @Test
+    public void null_values_should_not_be_cached() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 10, 60, TimeUnit.SECONDS, now::get);
+
+        assertNull(cache.get("a", key -> {
+            loads.incrementAndGet();
+            return null;
+        }));
+        cache.get("a", this::load);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void zero_size_cache_should_always_load() {
+        TtlCache<String, String> cache = new TtlCache<>("test", 0, 60, TimeUnit.SECONDS, now::get);
+
+        cache.get("a", this::load);
+        cache.get("a", this::load);
+
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.cache;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.servlet.http.Cookie;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class UserScopedKeyTest {
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private void setRequest(MockHttpServletRequest request) {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @Test
+    public void no_request_should_be_anonymous() {
+        assertEquals(UserScopedKey.ANONYMOUS, UserScopedKey.currentUser());
+    }
+
+    @Test
+    public void authenticated_request_should_use_remote_user() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteUser("IBMUSER");
+        setRequest(request);
+
+        assertEquals(new UserScopedKey<>("user:IBMUSER", "/u/a"), UserScopedKey.forCurrentUser("/u/a"));
+    }
+
+    @Test
+    public void different_credentials_should_give_different_users() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Basic SUJNVVNFUjpTWVMx");
+        setRequest(request);
+        String basicUser = UserScopedKey.currentUser();
+
+        request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("LtpaToken2", "token"));
+        setRequest(request);
+        String tokenUser = UserScopedKey.currentUser();
+
+        assertTrue(basicUser.startsWith("credentials:"));
+        assertTrue(tokenUser.startsWith("credentials:"));
+        assertNotEquals(basicUser, tokenUser);
+        assertTrue(!basicUser.contains("SUJNVVNFUjpTWVMx"));
+    }
+
+    @Test
+    public void unrelated_cookies_should_be_ignored() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setCookies(new Cookie("JSESSIONID", "session"));
+        setRequest(request);
+
+        assertEquals(UserScopedKey.ANONYMOUS, UserScopedKey.currentUser());
+    }
+}
@@ -12,13 +12,20 @@ package org.zowe.data.sets.controller;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
 import org.springframework.http.HttpStatus;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.springframework.web.util.UriComponents;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -30,13 +37,23 @@ import org.zowe.api.common.utils.JsonUtils;
 import org.zowe.data.sets.model.*;
 import org.zowe.data.sets.services.DataSetService;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.text.MessageFormat;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+import java.util.zip.ZipOutputStream;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -51,6 +68,9 @@ public class DataSetsControllerTest extends ApiControllerTest {
     @Mock
     private DataSetService dataSetService;
 
+    @Spy
+    private SyncTaskExecutor zosmfExecutor = new SyncTaskExecutor();
+
     @InjectMocks
     private DataSetsControllerV1 datasetsController;
 
@@ -59,6 +79,11 @@ public class DataSetsControllerTest extends ApiControllerTest {
         return datasetsController;
     }
 
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
     @Test
     public void get_data_set_member_names_success() throws Exception {
 
@@ -68,7 +93,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSetMembers(pdsName)).thenReturn(items);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{dsn}/members", pdsName)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/members", pdsName)).andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(content().string(JsonUtils.convertToJsonString(items)));
 
@@ -76,6 +101,22 @@ public class DataSetsControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(dataSetService);
     }
 
+    @Test
+    public void get_data_set_member_names_page_success() throws Exception {
+
+        PagedItemsWrapper<String> page = new PagedItemsWrapper<>(Arrays.asList("MEMBER1", "MEMBER2"), "MEMBER3", 40000);
+        String pdsName = "TEST.LOADLIB";
+
+        when(dataSetService.listDataSetMembers(pdsName, 2, "MEMBER1", "MEM*")).thenReturn(page);
+
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/members?limit=2&start=MEMBER1&pattern=MEM*", pdsName))
+                .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(content().string(JsonUtils.convertToJsonString(page)));
+
+        verify(dataSetService, times(1)).listDataSetMembers(pdsName, 2, "MEMBER1", "MEM*");
+        verifyNoMoreInteractions(dataSetService);
+    }
+
     @Test
     public void get_data_set_member_names_empty_body() throws Exception {
 
@@ -83,7 +124,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSetMembers(pdsName)).thenReturn(new ItemsWrapper<>(Collections.emptyList()));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{dsn}/members", pdsName)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/members", pdsName)).andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(content().string(EMPTY_ITEMS));
 
@@ -101,7 +142,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSetMembers(invalidPdsName)).thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{dsn}/members", invalidPdsName))
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/members", invalidPdsName))
                 .andExpect(status().is(expectedError.getStatus().value()))
                 .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
                 .andExpect(jsonPath("$.message").value(errorMessage));
@@ -119,7 +160,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.getContent(memberName)).thenReturn(response);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{dsn}/content", memberName)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/content", memberName)).andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(content().string(JsonUtils.convertToJsonString(expected)))
                 .andExpect(header().string("ETag", equalTo(null)));
@@ -138,7 +179,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.getContent(memberName)).thenReturn(response);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{dsn}/content", memberName).header("X-Return-Etag", "true"))
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/content", memberName).header("X-Return-Etag", "true"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(content().string(JsonUtils.convertToJsonString(expected)))
@@ -148,6 +189,134 @@ public class DataSetsControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(dataSetService);
     }
 
+    @Test
+    public void get_data_set_content_with_matching_if_none_match_returns_not_modified() throws Exception {
+
+        String memberName = "TEST.JCL(MEMBER)";
+        String eTag = "\"A7F90DCB9C2F4D4A582E36F85\"";
+        DataSetContentWithEtag response = new DataSetContentWithEtag(null, eTag);
+
+        when(dataSetService.getContent(memberName, eTag)).thenReturn(response);
+
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/content", memberName).header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""))
+                .andExpect(header().string("ETag", equalTo(eTag)));
+
+        verify(dataSetService, times(1)).getContent(memberName, eTag);
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void get_data_set_content_with_stale_if_none_match_returns_content() throws Exception {
+
+        String memberName = "TEST.JCL(MEMBER)";
+        DataSetContent expected = new DataSetContent("Test\nFile");
+        String eTag = "\"A7F90DCB9C2F4D4A582E36F85\"";
+        DataSetContentWithEtag response = new DataSetContentWithEtag(expected, eTag);
+
+        when(dataSetService.getContent(memberName, "\"STALE\"")).thenReturn(response);
+
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/content", memberName).header("If-None-Match", "\"STALE\"")
+                .header("X-Return-Etag", "true"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(JsonUtils.convertToJsonString(expected)))
+                .andExpect(header().string("ETag", equalTo(eTag)));
+
+        verify(dataSetService, times(1)).getContent(memberName, "\"STALE\"");
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void get_data_set_content_with_if_none_match_list_reads_unconditionally() throws Exception {
+
+        String memberName = "TEST.JCL(MEMBER)";
+        DataSetContent expected = new DataSetContent("Test\nFile");
+        String eTag = "\"A7F90DCB9C2F4D4A582E36F85\"";
+        DataSetContentWithEtag response = new DataSetContentWithEtag(expected, eTag);
+
+        when(dataSetService.getContent(memberName)).thenReturn(response);
+
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/content", memberName).header("If-None-Match", "\"STALE\", " + eTag))
+                .andExpect(status().isOk())
+                .andExpect(content().string(JsonUtils.convertToJsonString(expected)));
+
+        verify(dataSetService, times(1)).getContent(memberName);
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void get_data_set_content_stream_success() throws Exception {
+
+        String memberName = "TEST.JCL(MEMBER)";
+        String records = "Test\nFile";
+        String eTag = "\"A7F90DCB9C2F4D4A582E36F85\"";
+        DataSetContentStreamWithEtag response = new DataSetContentStreamWithEtag(
+                new ByteArrayInputStream(records.getBytes(StandardCharsets.UTF_8)), eTag);
+
+        when(dataSetService.getContentStream(memberName, false)).thenReturn(response);
+
+        MvcResult result = performAsync(
+                get(ENDPOINT_ROOT + "/{dsn}/content/raw", memberName).header("X-Return-Etag", "true"))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_PLAIN))
+                .andExpect(content().string(records))
+                .andExpect(header().string("ETag", equalTo(eTag)));
+
+        verify(dataSetService, times(1)).getContentStream(memberName, false);
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void get_data_set_content_stream_binary_success() throws Exception {
+
+        String dataSetName = "TEST.LOADLIB(PROGRAM)";
+        byte[] bytes = new byte[] { 0x00, (byte) 0xC1, (byte) 0xFF, 0x15 };
+        DataSetContentStreamWithEtag response = new DataSetContentStreamWithEtag(new ByteArrayInputStream(bytes), null);
+
+        when(dataSetService.getContentStream(dataSetName, true)).thenReturn(response);
+
+        MvcResult result = performAsync(
+                get(ENDPOINT_ROOT + "/{dsn}/content/raw", dataSetName).param("binary", "true"))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_OCTET_STREAM))
+                .andExpect(content().bytes(bytes));
+
+        verify(dataSetService, times(1)).getContentStream(dataSetName, true);
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void get_members_zip_success() throws Exception {
+
+        String pdsName = "TEST.JCL";
+        PagedItemsWrapper<String> page = new PagedItemsWrapper<>(Arrays.asList("MEMBER1"));
+        when(dataSetService.listDataSetMembers(pdsName, 1000, null, "MEM*")).thenReturn(page);
+        when(dataSetService.getContentStream("TEST.JCL(MEMBER1)", false)).thenReturn(new DataSetContentStreamWithEtag(
+                new ByteArrayInputStream("Test".getBytes(StandardCharsets.UTF_8)), null));
+
+        MvcResult result = performAsync(get(ENDPOINT_ROOT + "/{dsn}/members/zip", pdsName).param("pattern", "MEM*"))
+                .andExpect(request().asyncStarted()).andReturn();
+
+        byte[] zip = mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+                .andExpect(content().contentType("application/zip"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"TEST.JCL.zip\""))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            assertEquals("MEMBER1", in.getNextEntry().getName());
+            assertEquals("Test", StreamUtils.copyToString(in, StandardCharsets.UTF_8));
+            assertNull(in.getNextEntry());
+        }
+        verify(dataSetService, times(1)).listDataSetMembers(pdsName, 1000, null, "MEM*");
+        verify(dataSetService, times(1)).getContentStream("TEST.JCL(MEMBER1)", false);
+        verifyNoMoreInteractions(dataSetService);
+    }
+
     @Test
     public void get_data_set_content_with_exception_should_be_converted_to_error_message() throws Exception {
 
@@ -158,7 +327,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.getContent(invalidPdsName)).thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{dsn}/content", invalidPdsName))
+        performAsync(get(ENDPOINT_ROOT + "/{dsn}/content", invalidPdsName))
                 .andExpect(status().is(expectedError.getStatus().value()))
                 .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
                 .andExpect(jsonPath("$.message").value(errorMessage));
@@ -173,8 +342,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
         DataSetContent content = new DataSetContent("Test\nFile");
         DataSetContentWithEtag request = new DataSetContentWithEtag(content, null);
 
-        mockMvc
-                .perform(put(ENDPOINT_ROOT + "/{dsn}/content", memberName)
+        performAsync(put(ENDPOINT_ROOT + "/{dsn}/content", memberName)
                         .contentType(MediaType.APPLICATION_JSON_VALUE).content(JsonUtils.convertToJsonString(content)))
                 .andExpect(status().isNoContent()).andExpect(content().string(""))
                 .andExpect(header().string("ETag", equalTo(null)));
@@ -191,8 +359,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
         String eTag = "A7F90DCB9C2F4D4A582EF85";
         when(dataSetService.putContent(memberName, request)).thenReturn(eTag);
 
-        mockMvc
-                .perform(put(ENDPOINT_ROOT + "/{dsn}/content", memberName)
+        performAsync(put(ENDPOINT_ROOT + "/{dsn}/content", memberName)
                         .header("X-Return-Etag", "true")
                         .contentType(MediaType.APPLICATION_JSON_VALUE).content(JsonUtils.convertToJsonString(content)))
                 .andExpect(status().isNoContent()).andExpect(content().string(""))
@@ -202,6 +369,65 @@ public class DataSetsControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(dataSetService);
     }
 
+    @Test
+    public void put_data_set_content_stream_success() throws Exception {
+        String memberName = "TEST.JCL(MEMBER)";
+        String records = "Test\nFile";
+        String eTag = "A7F90DCB9C2F4D4A582EF85";
+        when(dataSetService.putContentStream(eq(memberName), any(DataSetContentStreamWithEtag.class), eq(false)))
+                .thenReturn(eTag);
+
+        performAsync(put(ENDPOINT_ROOT + "/{dsn}/content/raw", memberName)
+                        .header("X-Return-Etag", "true").header("If-Match", "\"B2F4D4A\"")
+                        .contentType(MediaType.TEXT_PLAIN_VALUE).content(records))
+                .andExpect(status().isNoContent()).andExpect(content().string(""))
+                .andExpect(header().string("ETag", equalTo("\"" + eTag + "\"")));
+
+        ArgumentCaptor<DataSetContentStreamWithEtag> request = ArgumentCaptor.forClass(DataSetContentStreamWithEtag.class);
+        verify(dataSetService, times(1)).putContentStream(eq(memberName), request.capture(), eq(false));
+        assertEquals("\"B2F4D4A\"", request.getValue().getEtag());
+        assertEquals(records, StreamUtils.copyToString(request.getValue().getContent(), StandardCharsets.UTF_8));
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void put_members_zip_success() throws Exception {
+        String pdsName = "TEST.LOADLIB";
+        when(dataSetService.putContentStream(eq("TEST.LOADLIB(PROGRAM)"), any(DataSetContentStreamWithEtag.class),
+                eq(true))).thenReturn("A7F90DCB9C2F4D4A582EF85");
+        ByteArrayOutputStream archive = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(archive)) {
+            zip.putNextEntry(new ZipEntry("PROGRAM"));
+            zip.write(new byte[] { 0x00, (byte) 0xC1 });
+            zip.closeEntry();
+        }
+        DataSetMemberUploadStatus status = DataSetMemberUploadStatus.builder().entry("PROGRAM").member("PROGRAM")
+            .status("OK").etag("\"A7F90DCB9C2F4D4A582EF85\"").build();
+
+        performAsync(put(ENDPOINT_ROOT + "/{dsn}/members/zip", pdsName).param("binary", "true")
+                        .contentType("application/zip").content(archive.toByteArray()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(JsonUtils.convertToJsonString(new ItemsWrapper<>(Arrays.asList(status)))));
+
+        verify(dataSetService, times(1)).putContentStream(eq("TEST.LOADLIB(PROGRAM)"),
+                any(DataSetContentStreamWithEtag.class), eq(true));
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void put_data_set_content_stream_binary_success() throws Exception {
+        String dataSetName = "TEST.LOADLIB(PROGRAM)";
+        when(dataSetService.putContentStream(eq(dataSetName), any(DataSetContentStreamWithEtag.class), eq(true)))
+                .thenReturn("A7F90DCB9C2F4D4A582EF85");
+
+        performAsync(put(ENDPOINT_ROOT + "/{dsn}/content/raw", dataSetName)
+                        .contentType(MediaType.APPLICATION_OCTET_STREAM_VALUE).content(new byte[] { 0x00, 0x01 }))
+                .andExpect(status().isNoContent()).andExpect(content().string(""));
+
+        verify(dataSetService, times(1)).putContentStream(eq(dataSetName), any(DataSetContentStreamWithEtag.class), eq(true));
+        verifyNoMoreInteractions(dataSetService);
+    }
+
     @Test
     public void put_data_set_rename_success() throws Exception {
         String oldName = "TEST.JCL";
@@ -210,8 +436,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.renameDataSet(oldName, input)).thenReturn("");
 
-        mockMvc
-                .perform(put(ENDPOINT_ROOT + "/{dsn}/rename", oldName)
+        performAsync(put(ENDPOINT_ROOT + "/{dsn}/rename", oldName)
                         .content("{\"newName\":\"" + newName + "\"}")
                         .contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(status().isNoContent()).andExpect(content().string(""));
@@ -232,8 +457,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         doThrow(new ZoweApiErrorException(expectedError)).when(dataSetService).renameDataSet(oldName, request);
 
-        mockMvc
-                .perform(put(ENDPOINT_ROOT + "/{oldName}/rename", oldName)
+        performAsync(put(ENDPOINT_ROOT + "/{oldName}/rename", oldName)
                         .content(String.format("{\"newName\":\"%s\"}", newName))
                         .contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(status().is(expectedError.getStatus().value()))
@@ -253,8 +477,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
         String eTag = "A7F90DCB9C2F4D4A582EF85";
         when(dataSetService.putContent(memberName, request)).thenReturn(eTag);
 
-        mockMvc
-                .perform(put(ENDPOINT_ROOT + "/{dsn}/content", memberName)
+        performAsync(put(ENDPOINT_ROOT + "/{dsn}/content", memberName)
                         .header("If-Match", ifMatch)
                         .header("X-Return-Etag", "true")
                         .contentType(MediaType.APPLICATION_JSON_VALUE).content(JsonUtils.convertToJsonString(content)))
@@ -277,8 +500,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         doThrow(new ZoweApiErrorException(expectedError)).when(dataSetService).putContent(invalidPdsName, request);
 
-        mockMvc
-                .perform(put(ENDPOINT_ROOT + "/{dsn}/content", invalidPdsName)
+        performAsync(put(ENDPOINT_ROOT + "/{dsn}/content", invalidPdsName)
                         .contentType(MediaType.APPLICATION_JSON_VALUE).content(JsonUtils.convertToJsonString(content)))
                 .andExpect(status().is(expectedError.getStatus().value()))
                 .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
@@ -312,7 +534,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSets(filter)).thenReturn(wrapperList);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{filter}/list", filter)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{filter}/list", filter)).andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(content().string(JsonUtils.convertToJsonString(wrapperList)));
 
@@ -329,7 +551,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSets(anyString())).thenReturn(empty);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{filter}/list", dummy)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{filter}/list", dummy)).andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(content().string(EMPTY_ITEMS));
 
@@ -347,7 +569,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSets(invalidPdsName)).thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{filter}/list", invalidPdsName))
+        performAsync(get(ENDPOINT_ROOT + "/{filter}/list", invalidPdsName))
                 .andExpect(status().is(expectedError.getStatus().value()))
                 .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
                 .andExpect(jsonPath("$.message").value(errorMessage));
@@ -373,7 +595,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSetAttributes(filter)).thenReturn(wrapperList);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{filter}", filter)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{filter}", filter)).andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(content().string(JsonUtils.convertToJsonString(wrapperList)));
 
@@ -390,7 +612,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSetAttributes(anyString())).thenReturn(empty);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{filter}", dummy)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "/{filter}", dummy)).andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
                 .andExpect(content().string(EMPTY_ITEMS));
 
@@ -398,6 +620,107 @@ public class DataSetsControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(dataSetService);
     }
 
+    @Test
+    public void test_get_data_sets_attributes_page_success() throws Exception {
+
+        DataSetAttributes cobol = DataSetAttributes.builder().name("STEVENH.DEMO.COBOL").build();
+        DataSetAttributes jcl = DataSetAttributes.builder().name("STEVENH.DEMO.JCL").build();
+        PagedItemsWrapper<DataSetAttributes> page = new PagedItemsWrapper<>(Arrays.asList(cobol, jcl),
+                "STEVENH.DEMO.MIGRATED", 7);
+        String filter = "STEVENH*";
+
+        when(dataSetService.listDataSetAttributes(filter, 2, "STEVENH.DEMO.COBOL")).thenReturn(page);
+
+        performAsync(get(ENDPOINT_ROOT + "/{filter}?limit=2&start=STEVENH.DEMO.COBOL", filter))
+                .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(content().string(JsonUtils.convertToJsonString(page)))
+                .andExpect(jsonPath("$.next").value("STEVENH.DEMO.MIGRATED"))
+                .andExpect(jsonPath("$.totalRows").value(7));
+
+        verify(dataSetService, times(1)).listDataSetAttributes(filter, 2, "STEVENH.DEMO.COBOL");
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void post_data_set_attributes_batch_success() throws Exception {
+        DataSetAttributes cobol = DataSetAttributes.builder().name("STEVENH.DEMO.COBOL").build();
+        DataSetAttributes jcl = DataSetAttributes.builder().name("STEVENH.DEMO.JCL").build();
+        when(dataSetService.listDataSetAttributes("STEVENH.DEMO.*"))
+            .thenReturn(new ItemsWrapper<>(Arrays.asList(cobol, jcl)));
+        DataSetAttributesBatchRequest input = DataSetAttributesBatchRequest.builder()
+            .names(Arrays.asList("STEVENH.DEMO.JCL", "stevenh.demo.cobol", "STEVENH.DEMO.REXX")).build();
+
+        performAsync(post(ENDPOINT_ROOT + "/attributes").contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(JsonUtils.convertToJsonString(input)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].status").value("OK"))
+                .andExpect(jsonPath("$.items[0].attributes.name").value("STEVENH.DEMO.JCL"))
+                .andExpect(jsonPath("$.items[1].name").value("stevenh.demo.cobol"))
+                .andExpect(jsonPath("$.items[1].attributes.name").value("STEVENH.DEMO.COBOL"))
+                .andExpect(jsonPath("$.items[2].status").value("NOT_FOUND"));
+
+        verify(dataSetService, times(1)).listDataSetAttributes("STEVENH.DEMO.*");
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void search_data_sets_streams_ndjson() throws Exception {
+        when(dataSetService.listDataSetAttributes("PROD.**"))
+            .thenReturn(new ItemsWrapper<>(Arrays.asList(DataSetAttributes.builder().name("PROD.JCL").build())));
+        when(dataSetService.listDataSetAttributes("TEST.**"))
+            .thenReturn(new ItemsWrapper<>(Arrays.asList(DataSetAttributes.builder().name("PROD.JCL").build(),
+                    DataSetAttributes.builder().name("TEST.JCL").build())));
+
+        MvcResult result = mockMvc.perform(get(ENDPOINT_ROOT + "/search?filter=PROD.**&filter=TEST.**"))
+            .andExpect(request().asyncStarted()).andReturn();
+
+        String expected = "{\"filter\":\"PROD.**\",\"attributes\":{\"name\":\"PROD.JCL\"}}\n"
+                + "{\"filter\":\"TEST.**\",\"attributes\":{\"name\":\"TEST.JCL\"}}\n";
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(content().string(expected));
+
+        verify(dataSetService, times(1)).listDataSetAttributes("PROD.**");
+        verify(dataSetService, times(1)).listDataSetAttributes("TEST.**");
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void test_get_data_sets_attributes_fields_success() throws Exception {
+        DataSetAttributes cobol = DataSetAttributes.builder().name("STEVENH.DEMO.COBOL").volumeSerial("3BP001").build();
+        ItemsWrapper<DataSetAttributes> items = new ItemsWrapper<>(Arrays.asList(cobol));
+        String filter = "STEVENH*";
+        Set<String> fields = new LinkedHashSet<>(Arrays.asList("volumeSerial", "migrated"));
+
+        when(dataSetService.listDataSetAttributes(filter, fields)).thenReturn(items);
+
+        performAsync(get(ENDPOINT_ROOT + "/{filter}?fields=volumeSerial,migrated", filter))
+                .andExpect(status().isOk()).andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(content().string(JsonUtils.convertToJsonString(new PagedItemsWrapper<>(items.getItems()))));
+
+        verify(dataSetService, times(1)).listDataSetAttributes(filter, fields);
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void test_get_data_sets_page_success() throws Exception {
+
+        PagedItemsWrapper<DataSet> page = new PagedItemsWrapper<>(
+                Arrays.asList(DataSet.builder().name("STEVENH").build()), "STEVENH.DEMO.COBOL", null);
+        String filter = "STEVENH*";
+
+        when(dataSetService.listDataSets(filter, 1, null)).thenReturn(page);
+
+        performAsync(get(ENDPOINT_ROOT + "/{filter}/list?limit=1", filter)).andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(jsonPath("$.items[0].name").value("STEVENH"))
+                .andExpect(jsonPath("$.next").value("STEVENH.DEMO.COBOL"))
+                .andExpect(jsonPath("$.totalRows").doesNotExist());
+
+        verify(dataSetService, times(1)).listDataSets(filter, 1, null);
+        verifyNoMoreInteractions(dataSetService);
+    }
+
     @Test
     public void get_data_sets_attributes_with_exception_should_be_converted_to_error_message() throws Exception {
 
@@ -408,7 +731,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         when(dataSetService.listDataSetAttributes(invalidPdsName)).thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "/{filter}", invalidPdsName))
+        performAsync(get(ENDPOINT_ROOT + "/{filter}", invalidPdsName))
                 .andExpect(status().is(expectedError.getStatus().value()))
                 .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
                 .andExpect(jsonPath("$.message").value(errorMessage));
@@ -430,8 +753,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
         URI locationUri = new URI("https://dataSetsURI/datasets/" + dataSetName);
         mockDataSetUriConstruction(dataSetName, locationUri);
 
-        mockMvc
-                .perform(post(ENDPOINT_ROOT + "/").contentType(MediaType.APPLICATION_JSON_VALUE)
+        performAsync(post(ENDPOINT_ROOT + "/").contentType(MediaType.APPLICATION_JSON_VALUE)
                         .content(JsonUtils.convertToJsonString(request)))
                 .andExpect(status().isCreated()).andExpect(header().string("Location", locationUri.toString()));
 
@@ -443,7 +765,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
     public void test_delete_calls_service_properly() throws Exception {
         String dummy = "junk";
 
-        mockMvc.perform(delete(ENDPOINT_ROOT + "/{dsn}", dummy)).andExpect(status().isNoContent())
+        performAsync(delete(ENDPOINT_ROOT + "/{dsn}", dummy)).andExpect(status().isNoContent())
                 .andExpect(jsonPath("$").doesNotExist());
 
         verify(dataSetService, times(1)).deleteDataSet(dummy);
@@ -459,7 +781,7 @@ public class DataSetsControllerTest extends ApiControllerTest {
 
         doThrow(new ZoweApiErrorException(expectedError)).when(dataSetService).deleteDataSet(dummy);
 
-        mockMvc.perform(delete(ENDPOINT_ROOT + "/{dsn}", dummy)).andExpect(status().isIAmATeapot())
+        performAsync(delete(ENDPOINT_ROOT + "/{dsn}", dummy)).andExpect(status().isIAmATeapot())
                 .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
                 .andExpect(jsonPath("$.message").value(expectedError.getMessage()));
 
@@ -0,0 +1,110 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.mapper;
+
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+import org.junit.Test;
+import org.zowe.data.sets.model.DataSetAttributes;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+public class ZosmfDataSetItemTest {
+
+    @Test
+    public void data_set_attributes_should_match_mapper() throws Exception {
+        for (JsonElement element : loadItems("getDataSetsAttributes.json")) {
+            JsonObject zosObject = element.getAsJsonObject();
+            ZosmfDataSetItem item = read(zosObject.toString());
+            DataSetAttributes expected;
+            try {
+                expected = DataSetMapper.INSTANCE.zosToDataSetAttributesDTO(zosObject);
+            } catch (IllegalArgumentException e) {
+                shouldThrow(IllegalArgumentException.class, item::toDataSetAttributes);
+                continue;
+            }
+            assertEquals(expected, item.toDataSetAttributes());
+        }
+    }
+
+    @Test
+    public void data_sets_should_match_mapper() throws Exception {
+        for (JsonElement element : loadItems("getDataSets.json")) {
+            JsonObject zosObject = element.getAsJsonObject();
+            assertEquals(DataSetMapper.INSTANCE.zosToDataSetDTO(zosObject), read(zosObject.toString()).toDataSet());
+        }
+    }
+
+    @Test
+    public void unknown_values_should_be_null_and_unmapped_fields_skipped() throws Exception {
+        DataSetAttributes attributes = read(
+                "{\"dsname\":\"STEVENH.TEST\",\"vols\":\"?\",\"blksz\":\"?\",\"lrecl\":80,\"dsntp\":{\"a\":[1,2]},\"dev\":null}")
+                    .toDataSetAttributes();
+
+        assertEquals("STEVENH.TEST", attributes.getName());
+        assertNull(attributes.getVolumeSerial());
+        assertNull(attributes.getBlockSize());
+        assertNull(attributes.getDeviceType());
+        assertEquals(Integer.valueOf(80), attributes.getRecordLength());
+    }
+
+    @Test
+    public void only_requested_fields_should_be_mapped() throws Exception {
+        DataSetAttributes attributes = read(
+                "{\"dsname\":\"STEVENH.TEST\",\"vols\":\"3BP001\",\"spacu\":\"FURLONGS\",\"migr\":\"NO\",\"lrecl\":80}")
+                    .toDataSetAttributes(new HashSet<>(Arrays.asList("volumeSerial", "migrated")));
+
+        assertEquals(DataSetAttributes.builder().name("STEVENH.TEST").volumeSerial("3BP001").migrated(false).build(),
+                attributes);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void unknown_allocation_unit_should_throw() throws Exception {
+        read("{\"dsname\":\"STEVENH.TEST\",\"spacu\":\"FURLONGS\"}").toDataSetAttributes();
+    }
+
+    private static void shouldThrow(Class<? extends Exception> expected, Runnable runnable) {
+        try {
+            runnable.run();
+            fail("Expected " + expected.getSimpleName());
+        } catch (Exception e) {
+            assertEquals(expected, e.getClass());
+        }
+    }
+
+    private static ZosmfDataSetItem read(String json) throws IOException {
+        try (JsonReader reader = new JsonReader(new StringReader(json))) {
+            return ZosmfDataSetItem.read(reader);
+        }
+    }
+
+    private static Iterable<JsonElement> loadItems(String file) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                ZosmfDataSetItemTest.class.getResourceAsStream("/zosmfResponses/" + file), StandardCharsets.UTF_8))) {
+            String json = reader.lines().collect(Collectors.joining("\n"));
+            return JsonParser.parseString(json).getAsJsonObject().getAsJsonArray("items");
+        }
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiErrorException;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.data.sets.model.DataSetAttributes;
+import org.zowe.data.sets.model.DataSetAttributesResult;
+import org.zowe.data.sets.services.zosmf.AbstractListDataSetsZosmfRequestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class DataSetAttributesBatchTest {
+
+    private DataSetService dataSetService;
+
+    @Before
+    public void setUp() {
+        dataSetService = mock(DataSetService.class);
+        when(dataSetService.listDataSetAttributes(anyString()))
+            .thenReturn(new ItemsWrapper<>(Collections.emptyList()));
+    }
+
+    private static ItemsWrapper<DataSetAttributes> listing(String... names) {
+        return new ItemsWrapper<>(
+                Arrays.stream(names).map(name -> DataSetAttributes.builder().name(name).build()).collect(toList()));
+    }
+
+    private List<DataSetAttributesResult> lookup(String... names) {
+        return new DataSetAttributesBatch(dataSetService, new SyncTaskExecutor(), 2).lookup(Arrays.asList(names))
+            .join();
+    }
+
+    private static List<String> statuses(List<DataSetAttributesResult> results) {
+        return results.stream().map(DataSetAttributesResult::getStatus).collect(toList());
+    }
+
+    @Test
+    public void siblings_are_found_with_one_parent_listing() {
+        when(dataSetService.listDataSetAttributes("TEST.DEMO.*"))
+            .thenReturn(listing("TEST.DEMO.COBOL", "TEST.DEMO.JCL", "TEST.DEMO.REXX"));
+
+        List<DataSetAttributesResult> results = lookup("TEST.DEMO.JCL", "test.demo.cobol", "TEST.DEMO.JCL");
+
+        assertEquals(Arrays.asList("OK", "OK", "OK"), statuses(results));
+        assertEquals("test.demo.cobol", results.get(1).getName());
+        assertEquals("TEST.DEMO.COBOL", results.get(1).getAttributes().getName());
+        verify(dataSetService, times(1)).listDataSetAttributes("TEST.DEMO.*");
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void lone_names_are_listed_exactly() {
+        when(dataSetService.listDataSetAttributes("TEST.JCL")).thenReturn(listing("TEST.JCL"));
+
+        List<DataSetAttributesResult> results = lookup("TEST.JCL", "OTHER.JCL", "SINGLE");
+
+        assertEquals(Arrays.asList("OK", "NOT_FOUND", "NOT_FOUND"), statuses(results));
+        assertNull(results.get(1).getAttributes());
+        verify(dataSetService, times(1)).listDataSetAttributes("TEST.JCL");
+        verify(dataSetService, times(1)).listDataSetAttributes("OTHER.JCL");
+        verify(dataSetService, times(1)).listDataSetAttributes("SINGLE");
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void invalid_names_fail_without_a_listing() {
+        List<DataSetAttributesResult> results = lookup("TEST..JCL", "1TEST.JCL", "TEST.QUALIFIER9", null);
+
+        assertEquals(Arrays.asList("BAD_REQUEST", "BAD_REQUEST", "BAD_REQUEST", "BAD_REQUEST"), statuses(results));
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void listing_errors_apply_to_every_name_in_the_group() {
+        ApiError error = ApiError.builder().status(HttpStatus.FORBIDDEN).message("Not authorised").build();
+        when(dataSetService.listDataSetAttributes("SECRET.*")).thenThrow(new ZoweApiErrorException(error));
+        when(dataSetService.listDataSetAttributes("TEST.JCL")).thenReturn(listing("TEST.JCL"));
+
+        List<DataSetAttributesResult> results = lookup("SECRET.A", "TEST.JCL", "SECRET.B");
+
+        assertEquals(Arrays.asList("FORBIDDEN", "OK", "FORBIDDEN"), statuses(results));
+        assertEquals("Not authorised", results.get(2).getMessage());
+    }
+
+    @Test
+    public void names_missing_from_a_truncated_listing_are_listed_exactly() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < AbstractListDataSetsZosmfRequestRunner.ZOSMF_DEFAULT_MAX_ITEMS; i++) {
+            names.add(String.format("BIG.D%05d", i));
+        }
+        when(dataSetService.listDataSetAttributes("BIG.*")).thenReturn(listing(names.toArray(new String[0])));
+        when(dataSetService.listDataSetAttributes("BIG.LAST")).thenReturn(listing("BIG.LAST"));
+
+        List<DataSetAttributesResult> results = lookup("BIG.D00001", "BIG.LAST", "BIG.GONE");
+
+        assertEquals(Arrays.asList("OK", "OK", "NOT_FOUND"), statuses(results));
+        verify(dataSetService, times(1)).listDataSetAttributes("BIG.LAST");
+        verify(dataSetService, times(1)).listDataSetAttributes("BIG.GONE");
+    }
+}
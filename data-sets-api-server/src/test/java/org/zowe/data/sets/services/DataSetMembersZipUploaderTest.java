@@ -0,0 +1,187 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiErrorException;
+import org.zowe.data.sets.exceptions.InvalidArchiveException;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
+import org.zowe.data.sets.model.DataSetMemberUploadStatus;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DataSetMembersZipUploaderTest {
+
+    private static final String PDS = "TEST.JCL";
+
+    private DataSetService dataSetService;
+    private Map<String, String> written;
+
+    @Before
+    public void setUp() throws Exception {
+        dataSetService = mock(DataSetService.class);
+        written = new ConcurrentHashMap<>();
+        when(dataSetService.putContentStream(anyString(), any(DataSetContentStreamWithEtag.class), anyBoolean()))
+            .thenAnswer(invocation -> {
+                DataSetContentStreamWithEtag content = invocation.getArgument(1);
+                ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                int b;
+                while ((b = content.getContent().read()) != -1) {
+                    bytes.write(b);
+                }
+                written.put(invocation.getArgument(0), new String(bytes.toByteArray(), StandardCharsets.UTF_8));
+                return "ETAG" + written.size();
+            });
+    }
+
+    private static byte[] zip(String... namesAndContents) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream zip = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < namesAndContents.length; i += 2) {
+                zip.putNextEntry(new ZipEntry(namesAndContents[i]));
+                zip.write(namesAndContents[i + 1].getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return bytes.toByteArray();
+    }
+
+    private List<DataSetMemberUploadStatus> upload(byte[] archive) throws Exception {
+        return new DataSetMembersZipUploader(dataSetService, new SyncTaskExecutor(), 2).upload(PDS, false,
+                new ByteArrayInputStream(archive));
+    }
+
+    @Test
+    public void member_names_come_from_entry_file_names() {
+        assertEquals("MEMBER1", DataSetMembersZipUploader.memberName("MEMBER1"));
+        assertEquals("MEMBER1", DataSetMembersZipUploader.memberName("src/jcl/member1.jcl"));
+        assertEquals("$ABC#", DataSetMembersZipUploader.memberName("$abc#.txt"));
+        assertNull(DataSetMembersZipUploader.memberName("TOOLONGNAME"));
+        assertNull(DataSetMembersZipUploader.memberName("1ABC"));
+        assertNull(DataSetMembersZipUploader.memberName(".profile"));
+    }
+
+    @Test
+    public void writes_each_entry_to_a_member() throws Exception {
+        List<DataSetMemberUploadStatus> statuses = upload(zip("MEMBER1", "one", "jcl/member2.jcl", "two"));
+
+        assertEquals(2, statuses.size());
+        assertEquals(DataSetMemberUploadStatus.builder().entry("MEMBER1").member("MEMBER1").status("OK")
+            .etag("\"ETAG1\"").build(), statuses.get(0));
+        assertEquals("MEMBER2", statuses.get(1).getMember());
+        assertEquals("one", written.get("TEST.JCL(MEMBER1)"));
+        assertEquals("two", written.get("TEST.JCL(MEMBER2)"));
+    }
+
+    @Test
+    public void failed_entries_do_not_stop_the_others() throws Exception {
+        ApiError error = ApiError.builder().status(HttpStatus.FORBIDDEN).message("Not authorised").build();
+        when(dataSetService.putContentStream(eq("TEST.JCL(SECRET)"), any(DataSetContentStreamWithEtag.class),
+                anyBoolean())).thenThrow(new ZoweApiErrorException(error));
+
+        List<DataSetMemberUploadStatus> statuses = upload(
+                zip("SECRET", "x", "not a member", "y", DataSetMembersZipWriter.ERRORS_ENTRY, "z", "MEMBER1", "one"));
+
+        assertEquals(3, statuses.size());
+        assertEquals("FORBIDDEN", statuses.get(0).getStatus());
+        assertEquals("Not authorised", statuses.get(0).getMessage());
+        assertEquals("BAD_REQUEST", statuses.get(1).getStatus());
+        assertNull(statuses.get(1).getMember());
+        assertEquals("OK", statuses.get(2).getStatus());
+        assertEquals(Collections.singleton("TEST.JCL(MEMBER1)"), written.keySet());
+    }
+
+    @Test
+    public void later_entries_for_the_same_member_are_rejected() throws Exception {
+        List<DataSetMemberUploadStatus> statuses = upload(
+                zip("jcl/member1.jcl", "one", "MEMBER2", "two", "txt/Member1.txt", "again"));
+
+        assertEquals(3, statuses.size());
+        assertEquals("OK", statuses.get(0).getStatus());
+        assertEquals("OK", statuses.get(1).getStatus());
+        assertEquals(DataSetMemberUploadStatus.builder().entry("txt/Member1.txt").member("MEMBER1")
+            .status("BAD_REQUEST").message("Member 'MEMBER1' is already written by an earlier entry").build(),
+                statuses.get(2));
+        assertEquals("one", written.get("TEST.JCL(MEMBER1)"));
+        verify(dataSetService, times(2)).putContentStream(anyString(), any(DataSetContentStreamWithEtag.class),
+                anyBoolean());
+    }
+
+    @Test(expected = InvalidArchiveException.class)
+    public void invalid_archive_is_rejected() throws Exception {
+        byte[] archive = zip("MEMBER1", "one");
+        // an unknown compression method in the first local header
+        archive[8] = 99;
+
+        upload(archive);
+    }
+
+    @Test
+    public void runs_writes_itself_when_the_pool_is_busy() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(dataSetService.putContentStream(anyString(), any(DataSetContentStreamWithEtag.class), anyBoolean()))
+            .thenAnswer(invocation -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                Thread.sleep(5);
+                running.decrementAndGet();
+                return "ETAG";
+            });
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            entries.add("MEMBER" + i);
+            entries.add("content " + i);
+        }
+        // a single pool thread, so the upload has to run writes itself to reach the limit
+        ExecutorService executor = Executors.newFixedThreadPool(1);
+        List<DataSetMemberUploadStatus> statuses;
+        try {
+            statuses = executor.submit(() -> new DataSetMembersZipUploader(dataSetService, executor, 4).upload(PDS,
+                    true, new ByteArrayInputStream(zip(entries.toArray(new String[0]))))).get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(40, statuses.size());
+        assertTrue(statuses.stream().allMatch(status -> "OK".equals(status.getStatus())));
+        assertEquals("MEMBER39", statuses.get(39).getMember());
+        assertTrue(maxRunning.get() <= 4);
+    }
+}
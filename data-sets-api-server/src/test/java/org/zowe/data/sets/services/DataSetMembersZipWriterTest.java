@@ -0,0 +1,188 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiErrorException;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
+import org.zowe.data.sets.model.PagedItemsWrapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class DataSetMembersZipWriterTest {
+
+    private static final String PDS = "TEST.JCL";
+
+    private DataSetService dataSetService;
+
+    @Before
+    public void setUp() {
+        dataSetService = mock(DataSetService.class);
+        when(dataSetService.getContentStream(anyString(), anyBoolean())).thenAnswer(invocation -> {
+            String name = invocation.getArgument(0);
+            return new DataSetContentStreamWithEtag(
+                    new ByteArrayInputStream(("content of " + name).getBytes(StandardCharsets.UTF_8)), null);
+        });
+    }
+
+    private static PagedItemsWrapper<String> page(String next, String... members) {
+        return new PagedItemsWrapper<>(Arrays.asList(members), next, null);
+    }
+
+    private static Map<String, String> unzip(byte[] zip) throws IOException {
+        Map<String, String> entries = new TreeMap<>();
+        try (ZipInputStream in = new ZipInputStream(new ByteArrayInputStream(zip))) {
+            ZipEntry entry;
+            while ((entry = in.getNextEntry()) != null) {
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                byte[] buffer = new byte[1024];
+                int length;
+                while ((length = in.read(buffer)) != -1) {
+                    content.write(buffer, 0, length);
+                }
+                entries.put(entry.getName(), new String(content.toByteArray(), StandardCharsets.UTF_8));
+            }
+        }
+        return entries;
+    }
+
+    @Test
+    public void writes_an_entry_per_member() throws Exception {
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+
+        int written = new DataSetMembersZipWriter(dataSetService, new SyncTaskExecutor(), 2).write(PDS, null, false,
+                page(null, "MEMBER1", "MEMBER2"), zip);
+
+        assertEquals(2, written);
+        Map<String, String> entries = unzip(zip.toByteArray());
+        assertEquals(2, entries.size());
+        assertEquals("content of TEST.JCL(MEMBER1)", entries.get("MEMBER1"));
+        assertEquals("content of TEST.JCL(MEMBER2)", entries.get("MEMBER2"));
+    }
+
+    @Test
+    public void lists_following_pages() throws Exception {
+        when(dataSetService.listDataSetMembers(PDS, DataSetMembersZipWriter.PAGE_SIZE, "MEMBER2", "MEM*"))
+            .thenReturn(page("MEMBER3", "MEMBER2"));
+        when(dataSetService.listDataSetMembers(PDS, DataSetMembersZipWriter.PAGE_SIZE, "MEMBER3", "MEM*"))
+            .thenReturn(page(null, "MEMBER3"));
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+
+        int written = new DataSetMembersZipWriter(dataSetService, new SyncTaskExecutor(), 1).write(PDS, "MEM*", true,
+                page("MEMBER2", "MEMBER1"), zip);
+
+        assertEquals(3, written);
+        assertEquals(Arrays.asList("MEMBER1", "MEMBER2", "MEMBER3"),
+                Arrays.asList(unzip(zip.toByteArray()).keySet().toArray()));
+    }
+
+    @Test
+    public void unreadable_members_are_listed_in_errors_entry() throws Exception {
+        ApiError error = ApiError.builder().status(HttpStatus.FORBIDDEN).message("Not authorised").build();
+        when(dataSetService.getContentStream("TEST.JCL(SECRET)", false)).thenThrow(new ZoweApiErrorException(error));
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+
+        int written = new DataSetMembersZipWriter(dataSetService, new SyncTaskExecutor(), 2).write(PDS, null, false,
+                page(null, "MEMBER1", "SECRET"), zip);
+
+        assertEquals(1, written);
+        Map<String, String> entries = unzip(zip.toByteArray());
+        assertEquals("SECRET: Not authorised\n", entries.get(DataSetMembersZipWriter.ERRORS_ENTRY));
+        assertEquals(2, entries.size());
+    }
+
+    @Test
+    public void failed_writes_wait_for_running_reads_and_skip_queued_ones() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        when(dataSetService.getContentStream("TEST.JCL(MEMBER1)", false)).thenAnswer(invocation -> {
+            started.await();
+            return new DataSetContentStreamWithEtag(new ByteArrayInputStream(new byte[0]), null);
+        });
+        when(dataSetService.getContentStream("TEST.JCL(MEMBER2)", false)).thenAnswer(invocation -> {
+            running.incrementAndGet();
+            started.countDown();
+            Thread.sleep(100);
+            running.decrementAndGet();
+            return new DataSetContentStreamWithEtag(new ByteArrayInputStream(new byte[0]), null);
+        });
+        OutputStream failing = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Connection reset");
+            }
+        };
+        // MEMBER3 is queued behind MEMBER2 so it cannot start until the write has failed
+        ExecutorService first = Executors.newSingleThreadExecutor();
+        ExecutorService rest = Executors.newSingleThreadExecutor();
+        AtomicInteger dispatched = new AtomicInteger();
+        Executor executor = task -> (dispatched.getAndIncrement() == 0 ? first : rest).execute(task);
+        try {
+            new DataSetMembersZipWriter(dataSetService, executor, 3).write(PDS, null, false,
+                    page(null, "MEMBER1", "MEMBER2", "MEMBER3"), failing);
+            fail("Expected an IOException");
+        } catch (IOException e) {
+            assertEquals(0, running.get());
+            verify(dataSetService, never()).getContentStream("TEST.JCL(MEMBER3)", false);
+        } finally {
+            first.shutdownNow();
+            rest.shutdownNow();
+        }
+    }
+
+    @Test
+    public void reads_members_in_parallel() throws Exception {
+        String[] members = new String[50];
+        for (int i = 0; i < members.length; i++) {
+            members[i] = "MEMBER" + i;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        ByteArrayOutputStream zip = new ByteArrayOutputStream();
+        try {
+            int written = new DataSetMembersZipWriter(dataSetService, executor, 4).write(PDS, null, false,
+                    page(null, members), zip);
+            assertEquals(50, written);
+        } finally {
+            executor.shutdown();
+        }
+
+        Map<String, String> entries = unzip(zip.toByteArray());
+        assertEquals(50, entries.size());
+        assertEquals("content of TEST.JCL(MEMBER42)", entries.get("MEMBER42"));
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiErrorException;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.data.sets.model.DataSetAttributes;
+import org.zowe.data.sets.model.DataSetSearchEntry;
+import org.zowe.data.sets.services.zosmf.AbstractListDataSetsZosmfRequestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+public class DataSetSearchTest {
+
+    private DataSetService dataSetService;
+
+    @Before
+    public void setUp() {
+        dataSetService = mock(DataSetService.class);
+        when(dataSetService.listDataSetAttributes(anyString()))
+            .thenReturn(new ItemsWrapper<>(Collections.emptyList()));
+    }
+
+    private static ItemsWrapper<DataSetAttributes> listing(String... names) {
+        return new ItemsWrapper<>(
+                Arrays.stream(names).map(name -> DataSetAttributes.builder().name(name).build()).collect(toList()));
+    }
+
+    @Test
+    public void data_sets_found_by_several_filters_are_returned_once() throws Exception {
+        when(dataSetService.listDataSetAttributes("PROD.**")).thenReturn(listing("PROD.APP.JCL", "PROD.LOAD"));
+        when(dataSetService.listDataSetAttributes("PROD.APP.**")).thenReturn(listing("PROD.APP.JCL"));
+        when(dataSetService.listDataSetAttributes("SYS2.PARMLIB*")).thenReturn(listing("SYS2.PARMLIB"));
+        List<DataSetSearchEntry> entries = new ArrayList<>();
+
+        int found = new DataSetSearch(dataSetService, new SyncTaskExecutor(), 2)
+            .search(Arrays.asList("PROD.**", "PROD.APP.**", "sys2.parmlib*", "PROD.**"), entries::add);
+
+        assertEquals(3, found);
+        assertEquals(Arrays.asList("PROD.APP.JCL", "PROD.LOAD", "SYS2.PARMLIB"),
+                entries.stream().map(entry -> entry.getAttributes().getName()).collect(toList()));
+        assertEquals("SYS2.PARMLIB*", entries.get(2).getFilter());
+        verify(dataSetService, times(1)).listDataSetAttributes("PROD.**");
+        verify(dataSetService, times(1)).listDataSetAttributes("PROD.APP.**");
+        verify(dataSetService, times(1)).listDataSetAttributes("SYS2.PARMLIB*");
+        verifyNoMoreInteractions(dataSetService);
+    }
+
+    @Test
+    public void unlisted_filters_are_returned_as_errors() throws Exception {
+        ApiError error = ApiError.builder().status(HttpStatus.FORBIDDEN).message("Not authorised").build();
+        when(dataSetService.listDataSetAttributes("SECRET.**")).thenThrow(new ZoweApiErrorException(error));
+        when(dataSetService.listDataSetAttributes("TEST.**")).thenReturn(listing("TEST.JCL"));
+        List<DataSetSearchEntry> entries = new ArrayList<>();
+
+        int found = new DataSetSearch(dataSetService, new SyncTaskExecutor(), 2)
+            .search(Arrays.asList("SECRET.**", "TEST.**"), entries::add);
+
+        assertEquals(1, found);
+        assertEquals(DataSetSearchEntry.builder().filter("SECRET.**").error("Not authorised").build(), entries.get(0));
+        assertEquals("TEST.JCL", entries.get(1).getAttributes().getName());
+    }
+
+    @Test
+    public void truncated_listings_are_flagged() throws Exception {
+        String[] names = new String[AbstractListDataSetsZosmfRequestRunner.ZOSMF_DEFAULT_MAX_ITEMS];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = String.format("BIG.D%05d", i);
+        }
+        when(dataSetService.listDataSetAttributes("BIG.*")).thenReturn(listing(names));
+        List<DataSetSearchEntry> entries = new ArrayList<>();
+
+        new DataSetSearch(dataSetService, new SyncTaskExecutor(), 2).search(Arrays.asList("BIG.*"), entries::add);
+
+        assertEquals(names.length + 1, entries.size());
+        assertEquals("Listing stopped after 1000 data sets", entries.get(names.length).getError());
+    }
+
+    @Test
+    public void failed_searches_wait_for_running_filters_and_skip_queued_ones() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        when(dataSetService.listDataSetAttributes("A.**")).thenAnswer(invocation -> {
+            started.await();
+            return listing("A.ONE");
+        });
+        when(dataSetService.listDataSetAttributes("B.**")).thenAnswer(invocation -> {
+            running.incrementAndGet();
+            started.countDown();
+            Thread.sleep(100);
+            running.decrementAndGet();
+            return listing("B.ONE");
+        });
+        // C.** is queued behind B.** so it cannot start until the sink has failed
+        ExecutorService first = Executors.newSingleThreadExecutor();
+        ExecutorService rest = Executors.newSingleThreadExecutor();
+        AtomicInteger dispatched = new AtomicInteger();
+        Executor executor = task -> (dispatched.getAndIncrement() == 0 ? first : rest).execute(task);
+        try {
+            new DataSetSearch(dataSetService, executor, 2).search(Arrays.asList("A.**", "B.**", "C.**"), entry -> {
+                throw new IllegalStateException("Connection reset");
+            });
+            fail("Expected an IllegalStateException");
+        } catch (IllegalStateException e) {
+            assertEquals(0, running.get());
+            verify(dataSetService, never()).listDataSetAttributes("C.**");
+        } finally {
+            first.shutdownNow();
+            rest.shutdownNow();
+        }
+    }
+
+    @Test
+    public void filters_are_listed_concurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            when(dataSetService.listDataSetAttributes("A.**")).thenReturn(listing("A.ONE"));
+            when(dataSetService.listDataSetAttributes("B.**")).thenReturn(listing("B.ONE", "A.ONE"));
+            List<DataSetSearchEntry> entries = new ArrayList<>();
+
+            int found = new DataSetSearch(dataSetService, executor, 2).search(Arrays.asList("A.**", "B.**", "C.**"),
+                    entries::add);
+
+            assertEquals(2, found);
+            assertEquals(2, entries.size());
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services.zosmf;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.data.sets.model.DataSetAttributes;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DataSetCatalogIndexTest {
+
+    private static final String USER = "user";
+
+    private AtomicLong now;
+    private DataSetCatalogIndex index;
+
+    @Before
+    public void setUp() {
+        now = new AtomicLong();
+        index = new DataSetCatalogIndex("test", 10, 60, TimeUnit.SECONDS, now::get);
+        index.record(USER, "hlq.**", dataSets("HLQ.PROD.COBOL", "HLQ.PROD.COBOL.V2", "HLQ.PROD.JCL", "HLQ.TEST.COBOL",
+                "HLQ.PROD1.COBOL"));
+    }
+
+    private static List<DataSetAttributes> dataSets(String... names) {
+        return Arrays.stream(names).map(name -> DataSetAttributes.builder().name(name).build()).collect(toList());
+    }
+
+    private List<String> find(Object scope, String filter) {
+        List<DataSetAttributes> found = index.find(scope, filter);
+        return found == null ? null : found.stream().map(DataSetAttributes::getName).collect(toList());
+    }
+
+    @Test
+    public void narrower_filters_are_answered_from_the_listing() {
+        assertEquals(Arrays.asList("HLQ.PROD.COBOL", "HLQ.PROD.COBOL.V2", "HLQ.PROD.JCL"), find(USER, "HLQ.PROD.**"));
+        assertEquals(Arrays.asList("HLQ.PROD.COBOL", "HLQ.PROD.JCL"), find(USER, "HLQ.PROD.*"));
+        assertEquals(Arrays.asList("HLQ.PROD.COBOL", "HLQ.PROD1.COBOL", "HLQ.TEST.COBOL"), find(USER, "hlq.*.cobol"));
+        assertEquals(Arrays.asList("HLQ.PROD.COBOL", "HLQ.PROD.COBOL.V2", "HLQ.PROD1.COBOL", "HLQ.TEST.COBOL"),
+                find(USER, "HLQ.**.COBOL.**"));
+        assertEquals(Arrays.asList("HLQ.PROD.JCL"), find(USER, "HLQ.PRO%.J*"));
+        assertEquals(Arrays.asList(), find(USER, "HLQ.NONE.**"));
+        assertEquals(6, index.getHitCount());
+    }
+
+    @Test
+    public void filters_outside_the_listing_are_not_answered() {
+        assertNull(find(USER, "OTHER.**"));
+        assertNull(find(USER, "HL*.**"));
+        assertNull(find(USER, "HLQ.PROD.COBOL"));
+        assertNull(find("other user", "HLQ.PROD.*"));
+        assertEquals(4, index.getMissCount());
+    }
+
+    @Test
+    public void listings_expire_after_ttl() {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertEquals(2, find(USER, "HLQ.PROD.*").size());
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertNull(find(USER, "HLQ.PROD.*"));
+    }
+
+    @Test
+    public void narrower_listing_replaces_what_was_known_below_it() {
+        now.addAndGet(TimeUnit.SECONDS.toNanos(30));
+        index.record(USER, "HLQ.PROD.**", dataSets("HLQ.PROD.NEW"));
+
+        assertEquals(Arrays.asList("HLQ.PROD.NEW"), find(USER, "HLQ.PROD.*"));
+        now.addAndGet(TimeUnit.SECONDS.toNanos(40));
+        assertNull(find(USER, "HLQ.TEST.*"));
+        assertEquals(Arrays.asList("HLQ.PROD.NEW"), find(USER, "HLQ.PROD.*"));
+    }
+
+    @Test
+    public void only_prefix_listings_are_recorded() {
+        index.record(USER, "SYS1.*.LOAD", dataSets("SYS1.A.LOAD"));
+        index.record(USER, "SYS*.**", dataSets("SYS1.A.LOAD"));
+
+        assertNull(find(USER, "SYS1.**"));
+    }
+
+    @Test
+    public void invalidate_forgets_listings_including_the_data_set() {
+        index.invalidate("HLQ.PROD.JCL(MEMBER)");
+
+        assertNull(find(USER, "HLQ.PROD.*"));
+        assertNull(find(USER, "HLQ.TEST.*"));
+    }
+
+    @Test
+    public void results_are_in_catalog_order() {
+        index.record(USER, "A.**", dataSets("A.B1", "A.B", "A.B#", "A.B.C", "A.$"));
+
+        assertEquals(Arrays.asList("A.$", "A.B", "A.B.C", "A.B#", "A.B1"), find(USER, "A.**"));
+    }
+
+    @Test
+    public void matches_by_qualifier() {
+        assertTrue(DataSetCatalogIndex.matches(new String[] { "A", "**" }, 0, new String[] { "A" }, 0));
+        assertTrue(DataSetCatalogIndex.matches(new String[] { "**", "C" }, 0, new String[] { "A", "B", "C" }, 0));
+        assertFalse(DataSetCatalogIndex.matches(new String[] { "A", "*" }, 0, new String[] { "A", "B", "C" }, 0));
+        assertFalse(DataSetCatalogIndex.matches(new String[] { "A%" }, 0, new String[] { "A" }, 0));
+    }
+}
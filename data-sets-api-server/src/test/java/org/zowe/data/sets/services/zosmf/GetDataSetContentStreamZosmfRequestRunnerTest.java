@@ -0,0 +1,248 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services.zosmf;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.StatusLine;
+import org.apache.http.client.methods.RequestBuilder;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.zowe.api.common.connectors.zosmf.exceptions.DataSetNotFoundException;
+import org.zowe.api.common.test.services.zosmf.AbstractZosmfRequestRunnerTest;
+import org.zowe.data.sets.exceptions.UnauthorisedDataSetException;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ GetDataSetContentStreamZosmfRequestRunner.class })
+public class GetDataSetContentStreamZosmfRequestRunnerTest extends AbstractZosmfRequestRunnerTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final long MEGABYTE = 1024L * 1024L;
+
+    @Test
+    public void get_content_stream_should_call_zosmf_and_return_entity_stream() throws Exception {
+        String headerTag = "2A7F90DCB9C2F4D4A582E36F859AE41F";
+        String dataSetName = "STEVENH.TEST.JCL";
+        byte[] records = "//ATLJ0000 JOB (ADL),'ATLAS',MSGCLASS=X,CLASS=A,TIME=1440\n".getBytes(StandardCharsets.UTF_8);
+
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/ds/%s", dataSetName));
+        HttpResponse streamedResponse = mockStreamedResponse(new ByteArrayInputStream(records));
+        Header header = mock(Header.class);
+        when(header.getValue()).thenReturn(headerTag);
+        when(streamedResponse.getFirstHeader("ETag")).thenReturn(header);
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(streamedResponse);
+
+        DataSetContentStreamWithEtag result = new GetDataSetContentStreamZosmfRequestRunner(dataSetName, false,
+                new ArrayList<>()).stream(zosmfConnector);
+
+        assertEquals(headerTag, result.getEtag());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        copy(result.getContent(), out);
+        assertArrayEquals(records, out.toByteArray());
+        verify(requestBuilder).addHeader("X-IBM-Return-Etag", "true");
+        verify(requestBuilder, never()).addHeader("X-IBM-Data-Type", "binary");
+    }
+
+    @Test
+    public void get_content_stream_in_binary_mode_should_request_binary_data() throws Exception {
+        String dataSetName = "STEVENH.TEST.LOAD(PROGRAM)";
+
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/ds/%s", dataSetName));
+        HttpResponse streamedResponse = mockStreamedResponse(new ByteArrayInputStream(new byte[] { 0x00, 0x01 }));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(streamedResponse);
+
+        DataSetContentStreamWithEtag result = new GetDataSetContentStreamZosmfRequestRunner(dataSetName, true,
+                new ArrayList<>()).stream(zosmfConnector);
+
+        assertEquals(null, result.getEtag());
+        verify(requestBuilder).addHeader("X-IBM-Return-Etag", "true");
+        verify(requestBuilder).addHeader("X-IBM-Data-Type", "binary");
+    }
+
+    @Test
+    public void get_content_stream_heap_usage_should_not_grow_with_content_size() throws Exception {
+        long smallGrowth = streamAndMeasureHeapGrowth(8 * MEGABYTE);
+        long largeGrowth = streamAndMeasureHeapGrowth(256 * MEGABYTE);
+
+        // buffering the entity would retain at least the full 256MB
+        assertTrue("Heap grew by " + largeGrowth + " bytes streaming 256MB", largeGrowth < 32 * MEGABYTE);
+        assertTrue("Heap grew by " + largeGrowth + " bytes streaming 256MB compared to " + smallGrowth
+                + " bytes streaming 8MB", largeGrowth < smallGrowth + 16 * MEGABYTE);
+    }
+
+    private long streamAndMeasureHeapGrowth(long size) throws Exception {
+        String dataSetName = "STEVENH.LARGE.DATA";
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/ds/%s", dataSetName));
+        HttpResponse streamedResponse = mockStreamedResponse(new GeneratedInputStream(size));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(streamedResponse);
+
+        long baseline = usedHeapAfterGc();
+        DataSetContentStreamWithEtag result = new GetDataSetContentStreamZosmfRequestRunner(dataSetName, false,
+                new ArrayList<>()).stream(zosmfConnector);
+        HeapSamplingOutputStream out = new HeapSamplingOutputStream(size / 4);
+        copy(result.getContent(), out);
+
+        assertEquals(size, out.count);
+        return out.maxUsedHeap - baseline;
+    }
+
+    @Test
+    public void get_content_stream_for_unauthorised_user_throws_correct_error() throws Exception {
+        String dataSetName = "TSTRADM.JCL(JUNK)";
+
+        Exception expectedException = new UnauthorisedDataSetException(dataSetName);
+        checkGetContentStreamExceptionAndVerify(dataSetName, expectedException, HttpStatus.SC_INTERNAL_SERVER_ERROR,
+                "getContent_unauthorised.json");
+    }
+
+    @Test
+    public void get_content_stream_for_non_existing_member_throws_correct_error() throws Exception {
+        String dataSetName = "STEVENH.TEST.JCL(JUNK)";
+
+        Exception expectedException = new DataSetNotFoundException(dataSetName);
+        checkGetContentStreamExceptionAndVerify(dataSetName, expectedException, HttpStatus.SC_NOT_FOUND,
+                "getContent_noMember.json");
+    }
+
+    private void checkGetContentStreamExceptionAndVerify(String dataSetName, Exception expectedException,
+            int statusCode, String file) throws IOException, Exception {
+        mockJsonResponse(statusCode, loadTestFile(file));
+        StatusLine statusLine = mock(StatusLine.class);
+        when(statusLine.getStatusCode()).thenReturn(statusCode);
+        when(response.getStatusLine()).thenReturn(statusLine);
+
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/ds/%s", dataSetName));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        shouldThrow(expectedException,
+                () -> new GetDataSetContentStreamZosmfRequestRunner(dataSetName, false, new ArrayList<>())
+                        .stream(zosmfConnector));
+    }
+
+    private HttpResponse mockStreamedResponse(InputStream content) throws IOException {
+        HttpResponse streamedResponse = mock(HttpResponse.class);
+        StatusLine statusLine = mock(StatusLine.class);
+        when(statusLine.getStatusCode()).thenReturn(HttpStatus.SC_OK);
+        when(streamedResponse.getStatusLine()).thenReturn(statusLine);
+        HttpEntity entity = mock(HttpEntity.class);
+        when(entity.getContent()).thenReturn(content);
+        when(streamedResponse.getEntity()).thenReturn(entity);
+        return streamedResponse;
+    }
+
+    private static void copy(InputStream in, OutputStream out) throws IOException {
+        try (InputStream content = in) {
+            byte[] buffer = new byte[CHUNK_SIZE];
+            int read;
+            while ((read = content.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * Produces {@code size} bytes of record-like text without holding them in memory
+     */
+    private static class GeneratedInputStream extends InputStream {
+
+        private static final byte[] RECORD = "//UNIT     EXEC PGM=IEFBR14                                              \n"
+                .getBytes(StandardCharsets.UTF_8);
+
+        private final long size;
+        private long position;
+
+        GeneratedInputStream(long size) {
+            this.size = size;
+        }
+
+        @Override
+        public int read() {
+            if (position >= size) {
+                return -1;
+            }
+            return RECORD[(int) (position++ % RECORD.length)];
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (position >= size) {
+                return -1;
+            }
+            int count = (int) Math.min(len, size - position);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = RECORD[(int) (position++ % RECORD.length)];
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Discards what is written, sampling heap usage at a fixed interval
+     */
+    private static class HeapSamplingOutputStream extends OutputStream {
+
+        private final long sampleInterval;
+        private long count;
+        private long nextSample;
+        private long maxUsedHeap;
+
+        HeapSamplingOutputStream(long sampleInterval) {
+            this.sampleInterval = sampleInterval;
+            this.nextSample = sampleInterval;
+        }
+
+        @Override
+        public void write(int b) {
+            count++;
+            sample();
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+            sample();
+        }
+
+        private void sample() {
+            if (count >= nextSample) {
+                maxUsedHeap = Math.max(maxUsedHeap, usedHeapAfterGc());
+                nextSample += sampleInterval;
+            }
+        }
+    }
+}
@@ -26,6 +26,8 @@ import java.io.IOException;
 import java.util.ArrayList;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -79,6 +81,26 @@ public class GetDataSetContentZosmfRequestRunnerTest extends AbstractZosmfReques
 
     }
 
+    @Test
+    public void get_content_with_matching_etag_should_return_not_modified() throws Exception {
+        String headerTag = "2A7F90DCB9C2F4D4A582E36F859AE41F";
+        String dataSetName = "STEVENH.TEST.JCL";
+
+        mockTextResponse(HttpStatus.SC_NOT_MODIFIED, "");
+
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/ds/%s", dataSetName));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        GetDataSetContentZosmfRequestRunner runner = new GetDataSetContentZosmfRequestRunner(dataSetName, headerTag,
+                new ArrayList<>());
+        assertNull(runner.run(zosmfConnector));
+        assertTrue(runner.isNotModified());
+
+        verifyInteractions(requestBuilder);
+        verify(requestBuilder).addHeader("X-IBM-Return-Etag", "true");
+        verify(requestBuilder).addHeader("If-None-Match", headerTag);
+    }
+
     @Test
     public void get_content_for_unauthorised_user_throws_correct_error() throws Exception {
         String dataSetName = "TSTRADM.JCL(JUNK)";
@@ -15,6 +15,7 @@ import org.apache.http.client.methods.RequestBuilder;
 import org.junit.Test;
 import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.api.common.test.services.zosmf.AbstractZosmfRequestRunnerTest;
+import org.zowe.data.sets.exceptions.InvalidFieldException;
 import org.zowe.data.sets.model.AllocationUnitType;
 import org.zowe.data.sets.model.DataSetAttributes;
 import org.zowe.data.sets.model.DataSetOrganisationType;
@@ -22,6 +23,7 @@ import org.zowe.data.sets.model.DataSetOrganisationType;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
@@ -98,5 +100,38 @@ public class ListDataSetAttributesZosmfRequestRunnerTest extends AbstractZosmfRe
         verifyInteractions(requestBuilder, true);
     }
 
+    @Test
+    public void get_data_set_attributes_with_fields_should_ask_for_cheapest_attributes() throws Exception {
+        String filter = "STEVENH*";
+
+        mockJsonResponse(HttpStatus.SC_OK, loadTestFile("getDataSetsAttributes.json"));
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/ds?dslevel=%s", filter));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+        ItemsWrapper<DataSetAttributes> actual = new ListDataSetsAttributesZosmfRequestRunner(filter, null, null,
+                Collections.singleton("volumeSerial"), new ArrayList<>()).run(zosmfConnector);
+
+        assertEquals(DataSetAttributes.builder().name("STEVENH.DEMO.COBOL").volumeSerial("3BP001").build(),
+                actual.getItems().get(1));
+        verify(requestBuilder).addHeader("X-IBM-Attributes", "vol");
+        verifyInteractions(requestBuilder, true);
+    }
+
+    @Test
+    public void attributes_should_be_the_cheapest_with_every_field() throws Exception {
+        assertEquals("base", ListDataSetsAttributesZosmfRequestRunner.attributesFor(null));
+        assertEquals("dsname", ListDataSetsAttributesZosmfRequestRunner.attributesFor(Collections.emptySet()));
+        assertEquals("dsname", ListDataSetsAttributesZosmfRequestRunner.attributesFor(Collections.singleton("name")));
+        assertEquals("vol", ListDataSetsAttributesZosmfRequestRunner
+            .attributesFor(new HashSet<>(Arrays.asList("name", "volumeSerial"))));
+        assertEquals("base", ListDataSetsAttributesZosmfRequestRunner
+            .attributesFor(new HashSet<>(Arrays.asList("volumeSerial", "migrated"))));
+    }
+
+    @Test(expected = InvalidFieldException.class)
+    public void get_data_set_attributes_with_unknown_field_should_throw() throws Exception {
+        new ListDataSetsAttributesZosmfRequestRunner("STEVENH*", null, null, Collections.singleton("primary"),
+                new ArrayList<>());
+    }
+
     // TODO - error tests get datasets once we can work out what they are
 }
@@ -16,6 +16,7 @@ import org.junit.Test;
 import org.zowe.api.common.connectors.zosmf.exceptions.DataSetNotFoundException;
 import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.api.common.test.services.zosmf.AbstractZosmfRequestRunnerTest;
+import org.zowe.data.sets.exceptions.InvalidPageLimitException;
 import org.zowe.data.sets.exceptions.UnauthorisedDataSetException;
 
 import java.io.IOException;
@@ -24,6 +25,8 @@ import java.util.Arrays;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class ListDataSetMembersZosmfRequestRunnerTest extends AbstractZosmfRequestRunnerTest {
@@ -43,6 +46,48 @@ public class ListDataSetMembersZosmfRequestRunnerTest extends AbstractZosmfReque
         verifyInteractions(requestBuilder);
     }
 
+    @Test
+    public void list_member_names_page_should_request_one_extra_member_and_return_it_as_next() throws Exception {
+        ItemsWrapper<String> expected = new ItemsWrapper<>(Arrays.asList("IEFBR14"));
+        String dataSetName = "STEVENH.TEST.JCL";
+
+        mockJsonResponse(HttpStatus.SC_OK, loadTestFile("zosmf_getMembers.json"));
+        RequestBuilder requestBuilder = mockGetBuilder(
+                String.format("restfiles/ds/%s/member?start=IEFBR14&pattern=*", dataSetName));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        ListDataSetMembersZosmfRequestRunner runner = new ListDataSetMembersZosmfRequestRunner(dataSetName, 1,
+                "IEFBR14", "*", new ArrayList<>());
+        assertEquals(expected, runner.run(zosmfConnector));
+        assertEquals("JOB1DD", runner.getNext());
+        assertNull(runner.getTotalRows());
+
+        verify(requestBuilder).addHeader("X-IBM-Max-Items", "2");
+        verifyInteractions(requestBuilder, true);
+    }
+
+    @Test
+    public void list_member_names_last_page_should_have_no_next() throws Exception {
+        String dataSetName = "STEVENH.TEST.JCL";
+
+        mockJsonResponse(HttpStatus.SC_OK, loadTestFile("zosmf_getMembers.json"));
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/ds/%s/member", dataSetName));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        ListDataSetMembersZosmfRequestRunner runner = new ListDataSetMembersZosmfRequestRunner(dataSetName, 2, null,
+                null, new ArrayList<>());
+        assertEquals(Arrays.asList("IEFBR14", "JOB1DD"), runner.run(zosmfConnector).getItems());
+        assertNull(runner.getNext());
+
+        verify(requestBuilder).addHeader("X-IBM-Max-Items", "3");
+    }
+
+    @Test
+    public void list_member_names_with_invalid_limit_throws_correct_error() throws Exception {
+        shouldThrow(new InvalidPageLimitException(-1),
+                () -> new ListDataSetMembersZosmfRequestRunner("STEVENH.TEST.JCL", -1, null, null, new ArrayList<>()));
+    }
+
     @Test
     public void list_member_names_for_unauthorised_user_throws_correct_error() throws Exception {
         String dataSetName = "STEVENH.TEST.JCL";
@@ -15,6 +15,7 @@ import org.apache.http.client.methods.RequestBuilder;
 import org.junit.Test;
 import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.api.common.test.services.zosmf.AbstractZosmfRequestRunnerTest;
+import org.zowe.data.sets.exceptions.InvalidPageLimitException;
 import org.zowe.data.sets.model.DataSet;
 
 import java.util.ArrayList;
@@ -23,6 +24,7 @@ import java.util.Collections;
 import java.util.List;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -77,5 +79,49 @@ public class ListDataSetZosmfRequestRunnerTest extends AbstractZosmfRequestRunne
         verifyInteractions(requestBuilder, true);
     }
 
+    @Test
+    public void get_data_set_page_should_request_one_extra_item_and_return_it_as_next() throws Exception {
+        DataSet cobol = DataSet.builder().name("STEVENH.DEMO.COBOL").build();
+        DataSet jcl = DataSet.builder().name("STEVENH.DEMO.JCL").build();
+        ItemsWrapper<DataSet> expected = new ItemsWrapper<>(Arrays.asList(cobol, jcl));
+        String filter = "STEVENH*";
+
+        mockJsonResponse(HttpStatus.SC_OK, loadTestFile("getDataSets_page.json"));
+        RequestBuilder requestBuilder = mockGetBuilder(
+                String.format("restfiles/ds?dslevel=%s&start=%s", filter, "STEVENH.DEMO.COBOL"));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        ListDataSetsZosmfRequestRunner runner = new ListDataSetsZosmfRequestRunner(filter, 2, "STEVENH.DEMO.COBOL",
+                new ArrayList<>());
+        assertEquals(expected, runner.run(zosmfConnector));
+        assertEquals("STEVENH.DEMO.MIGRATED", runner.getNext());
+        assertEquals(Integer.valueOf(7), runner.getTotalRows());
+
+        verify(requestBuilder).addHeader("X-IBM-Attributes", "dsname");
+        verify(requestBuilder).addHeader("X-IBM-Max-Items", "3");
+        verifyInteractions(requestBuilder, true);
+    }
+
+    @Test
+    public void get_data_set_last_page_should_have_no_next() throws Exception {
+        String filter = "STEVENH*";
+
+        mockJsonResponse(HttpStatus.SC_OK, loadTestFile("getDataSets_page.json"));
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/ds?dslevel=%s", filter));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        ListDataSetsZosmfRequestRunner runner = new ListDataSetsZosmfRequestRunner(filter, 3, null, new ArrayList<>());
+        assertEquals(3, runner.run(zosmfConnector).getItems().size());
+        assertNull(runner.getNext());
+
+        verify(requestBuilder).addHeader("X-IBM-Max-Items", "4");
+    }
+
+    @Test
+    public void get_data_set_page_with_invalid_limit_throws_correct_error() throws Exception {
+        shouldThrow(new InvalidPageLimitException(0),
+                () -> new ListDataSetsZosmfRequestRunner("STEVENH*", 0, null, new ArrayList<>()));
+    }
+
     // TODO - error tests get datasets once we can work out what they are
 }
@@ -0,0 +1,153 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services.zosmf;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ContentType;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.powermock.api.mockito.PowerMockito;
+import org.powermock.core.classloader.annotations.PrepareForTest;
+import org.powermock.modules.junit4.PowerMockRunner;
+import org.zowe.api.common.connectors.zosmf.exceptions.DataSetNotFoundException;
+import org.zowe.api.common.exceptions.PreconditionFailedException;
+import org.zowe.api.common.test.services.zosmf.AbstractZosmfRequestRunnerTest;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.data.sets.exceptions.UnauthorisedDataSetException;
+import org.zowe.data.sets.model.DataSetContentStreamWithEtag;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(PowerMockRunner.class)
+@PrepareForTest({ PutDataSetContentStreamZosmfRequestRunner.class, RequestBuilder.class })
+public class PutDataSetContentStreamZosmfRequestRunnerTest extends AbstractZosmfRequestRunnerTest {
+
+    private static final String JCL = "//ATLJ0000 JOB (ADL),'ATLAS',MSGCLASS=X,CLASS=A,TIME=1440\n"
+            + "//*        TEST JOB\n" + "//UNIT     EXEC PGM=IEFBR14\n";
+
+    @Test
+    public void put_content_stream_should_send_chunked_entity_and_return_etag() throws Exception {
+        putContentStreamTest("", false);
+    }
+
+    @Test
+    public void put_content_stream_with_if_match_should_strip_quotes() throws Exception {
+        putContentStreamTest("\"anETag\"", false);
+    }
+
+    @Test
+    public void put_content_stream_in_binary_mode_should_request_binary_write() throws Exception {
+        putContentStreamTest("", true);
+    }
+
+    private void putContentStreamTest(String eTag, boolean binary) throws Exception {
+        String putETag = "2A7F90DCB9C2F4D4A582E36F859AEF";
+        String dataSetName = "STEVENH.TEST.JCL";
+        InputStream content = new ByteArrayInputStream(JCL.getBytes(StandardCharsets.UTF_8));
+        DataSetContentStreamWithEtag request = new DataSetContentStreamWithEtag(content, eTag);
+
+        ResponseCache responseCache = mockResponseCache(HttpStatus.SC_NO_CONTENT);
+        Header header = mock(Header.class);
+        when(header.getValue()).thenReturn(putETag);
+        when(responseCache.getFirstHeader("ETag")).thenReturn(header);
+        RequestBuilder requestBuilder = mockStreamedPutBuilder(String.format("restfiles/ds/%s", dataSetName));
+
+        assertEquals(putETag, new PutDataSetContentStreamZosmfRequestRunner(dataSetName, request, binary,
+                new ArrayList<>()).run(zosmfConnector));
+
+        ArgumentCaptor<HttpEntity> entity = ArgumentCaptor.forClass(HttpEntity.class);
+        verify(requestBuilder).setEntity(entity.capture());
+        assertTrue(entity.getValue().isChunked());
+        assertFalse(entity.getValue().isRepeatable());
+        assertEquals(-1, entity.getValue().getContentLength());
+        assertSame(content, entity.getValue().getContent());
+
+        ContentType contentType = binary ? ContentType.APPLICATION_OCTET_STREAM : ContentType.TEXT_PLAIN;
+        verify(requestBuilder).addHeader("Content-type", contentType.getMimeType());
+        if (binary) {
+            verify(requestBuilder).addHeader("X-IBM-Data-Type", "binary");
+        } else {
+            verify(requestBuilder, never()).addHeader("X-IBM-Data-Type", "binary");
+        }
+        if (eTag.isEmpty()) {
+            verify(requestBuilder, never()).addHeader(eq("If-Match"), anyString());
+        } else {
+            verify(requestBuilder).addHeader("If-Match", eTag.replaceAll("\"", ""));
+        }
+    }
+
+    @Test
+    public void put_content_stream_for_unauthorised_user_throws_correct_error() throws Exception {
+        String dataSetName = "TSTRADM.JCL(JUNK)";
+
+        mockJsonResponse(HttpStatus.SC_INTERNAL_SERVER_ERROR, loadTestFile("putContent_unauthorised.json"));
+        checkPutContentStreamException(dataSetName, new UnauthorisedDataSetException(dataSetName));
+    }
+
+    @Test
+    public void put_content_stream_for_non_existing_sds_throws_correct_error() throws Exception {
+        String dataSetName = "STEVENH.TEST";
+
+        mockJsonResponse(HttpStatus.SC_NOT_FOUND, loadTestFile("putContent_noDataSet.json"));
+        checkPutContentStreamException(dataSetName, new DataSetNotFoundException(dataSetName));
+    }
+
+    @Test
+    public void put_content_stream_with_invalid_if_match_throws_correct_error() throws Exception {
+        String dataSetName = "TSTRADM.JCL(JUNK)";
+
+        mockResponseCache(HttpStatus.SC_PRECONDITION_FAILED);
+        checkPutContentStreamException(dataSetName, new PreconditionFailedException(dataSetName));
+    }
+
+    private void checkPutContentStreamException(String dataSetName, Exception expectedException) throws Exception {
+        mockStreamedPutBuilder(String.format("restfiles/ds/%s", dataSetName));
+        DataSetContentStreamWithEtag request = new DataSetContentStreamWithEtag(
+                new ByteArrayInputStream(JCL.getBytes(StandardCharsets.UTF_8)), "");
+
+        shouldThrow(expectedException,
+                () -> new PutDataSetContentStreamZosmfRequestRunner(dataSetName, request, false, new ArrayList<>())
+                        .run(zosmfConnector));
+    }
+
+    private RequestBuilder mockStreamedPutBuilder(String relativeUri) throws Exception {
+        URI uri = new URI("https://dummy.com/zosmf/" + relativeUri);
+        when(zosmfConnector.getFullUrl(relativeUri)).thenReturn(uri);
+
+        RequestBuilder builder = mock(RequestBuilder.class);
+        PowerMockito.mockStatic(RequestBuilder.class);
+        when(RequestBuilder.put(uri)).thenReturn(builder);
+        when(builder.setEntity(any(HttpEntity.class))).thenReturn(builder);
+        when(builder.getUri()).thenReturn(uri);
+        when(zosmfConnector.executeRequest(builder)).thenReturn(response);
+        return builder;
+    }
+}
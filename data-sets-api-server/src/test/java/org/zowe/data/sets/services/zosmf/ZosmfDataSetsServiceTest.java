@@ -12,6 +12,7 @@ package org.zowe.data.sets.services.zosmf;
 
 import org.apache.http.Header;
 import org.apache.http.message.BasicHeader;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -19,24 +20,43 @@ import org.mockito.Mock;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.zowe.api.common.connectors.zosmf.ZosmfConnectorLtpaAuth;
 import org.zowe.api.common.connectors.zosmf.exceptions.DataSetNotFoundException;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
 import org.zowe.api.common.model.ItemsWrapper;
 import org.zowe.api.common.test.ZoweApiTest;
+import org.zowe.cache.SingleFlight;
+import org.zowe.cache.UserScopedKey;
 import org.zowe.data.sets.model.*;
 
 import javax.servlet.http.HttpServletRequest;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,6 +75,11 @@ public class ZosmfDataSetsServiceTest extends ZoweApiTest {
         dataService.zosmfConnector = zosmfConnector;
     }
 
+    @After
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
     @Test
     public void testListDataSetMembersRunnerValueCorrectlyReturned() throws Exception {
         String dataSetName = "DATA.SET.NAME";
@@ -68,6 +93,23 @@ public class ZosmfDataSetsServiceTest extends ZoweApiTest {
         assertEquals(expected, dataService.listDataSetMembers(dataSetName));
     }
 
+    @Test
+    public void testListDataSetMembersPageRunnerValueCorrectlyReturned() throws Exception {
+        String dataSetName = "DATA.SET.NAME";
+
+        List<String> members = Arrays.asList("MEMBER1", "MEMBER2");
+
+        ListDataSetMembersZosmfRequestRunner runner = mock(ListDataSetMembersZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(members));
+        when(runner.getNext()).thenReturn("MEMBER3");
+        when(runner.getTotalRows()).thenReturn(3);
+        PowerMockito.whenNew(ListDataSetMembersZosmfRequestRunner.class)
+            .withArguments(dataSetName, 2, "MEMBER1", "MEM*", new ArrayList<>()).thenReturn(runner);
+
+        PagedItemsWrapper<String> expected = new PagedItemsWrapper<>(members, "MEMBER3", 3);
+        assertEquals(expected, dataService.listDataSetMembers(dataSetName, 2, "MEMBER1", "MEM*"));
+    }
+
     @Test
     public void testListDataSetMembersRunnerExceptionThrown() throws Exception {
         String dataSetName = "DATA.SET.NAME";
@@ -111,6 +153,283 @@ public class ZosmfDataSetsServiceTest extends ZoweApiTest {
         assertEquals(expected, dataService.listDataSetAttributes(filter));
     }
 
+    @Test
+    public void testListDataSetAttributesFieldsCachedApartFromWholeAttributes() throws Exception {
+        String filter = "DATA.SET.NAME*";
+        Set<String> fields = new TreeSet<>(Arrays.asList("volumeSerial"));
+        ItemsWrapper<DataSetAttributes> whole = new ItemsWrapper<>(
+                Arrays.asList(DataSetAttributes.builder().name("dataset1").volumeSerial("VOL001").used(5).build()));
+        ItemsWrapper<DataSetAttributes> projected = new ItemsWrapper<>(
+                Arrays.asList(DataSetAttributes.builder().name("dataset1").volumeSerial("VOL001").build()));
+
+        ListDataSetsAttributesZosmfRequestRunner runner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(whole);
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class).withArguments(filter, new ArrayList<>()).thenReturn(runner);
+        ListDataSetsAttributesZosmfRequestRunner fieldsRunner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(fieldsRunner.run(zosmfConnector)).thenReturn(projected);
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class)
+            .withArguments(filter, null, null, fields, new ArrayList<>()).thenReturn(fieldsRunner);
+
+        assertEquals(whole, dataService.listDataSetAttributes(filter));
+        assertEquals(projected, dataService.listDataSetAttributes(filter, Collections.singleton("volumeSerial")));
+        assertEquals(projected, dataService.listDataSetAttributes(filter, Collections.singleton("volumeSerial")));
+        assertEquals(whole, dataService.listDataSetAttributes(filter, (Set<String>) null));
+
+        verify(runner, times(1)).run(zosmfConnector);
+        verify(fieldsRunner, times(1)).run(zosmfConnector);
+    }
+
+    @Test
+    public void testWriteForgetsOverlappingReadsInFlightForEveryUser() throws Exception {
+        SingleFlight<UserScopedKey<List<Object>>, Object> singleFlight = dataService.getSingleFlight();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(5);
+        try {
+            List<UserScopedKey<List<Object>>> keys = Arrays.asList(
+                    UserScopedKey.forCurrentUser(Arrays.asList(Object.class, Arrays.asList("HLQ.*"), Collections.emptyList())),
+                    UserScopedKey.forCurrentUser(Arrays.asList(Object.class, Arrays.asList("hlq.jcl(other)"), Collections.emptyList())),
+                    UserScopedKey.forCurrentUser(Arrays.asList(Object.class, Arrays.asList("OTHER.JCL"), Collections.emptyList())),
+                    new UserScopedKey<>("user:other", Arrays.asList(Object.class, Arrays.asList("HLQ.*"), Collections.emptyList())),
+                    new UserScopedKey<>("user:other", Arrays.asList(Object.class, Arrays.asList("OTHER.JCL"), Collections.emptyList())));
+            for (UserScopedKey<List<Object>> key : keys) {
+                executor.submit(() -> singleFlight.execute(key, () -> {
+                    try {
+                        return release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (singleFlight.inFlightCount() < keys.size()) {
+                assertTrue("reads did not start", System.nanoTime() < deadline);
+                Thread.sleep(5);
+            }
+
+            dataService.forgetReads("HLQ.JCL(MEMBER)");
+
+            assertEquals(2, singleFlight.inFlightCount());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testListDataSetsServedFromListingCache() throws Exception {
+        String filter = "DATA.SET.NAME*";
+        ItemsWrapper<DataSet> expected = new ItemsWrapper<>(Arrays.asList(DataSet.builder().name("dataset1").build()));
+
+        ListDataSetsZosmfRequestRunner runner = mock(ListDataSetsZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(expected);
+        PowerMockito.whenNew(ListDataSetsZosmfRequestRunner.class).withArguments(filter, new ArrayList<>()).thenReturn(runner);
+
+        assertEquals(expected, dataService.listDataSets(filter));
+        assertEquals(expected, dataService.listDataSets(filter));
+
+        verify(runner, times(1)).run(zosmfConnector);
+    }
+
+    @Test
+    public void testListDataSetsNoCacheBypassesListingCache() throws Exception {
+        String filter = "DATA.SET.NAME*";
+        ItemsWrapper<DataSet> cached = new ItemsWrapper<>(Arrays.asList(DataSet.builder().name("dataset1").build()));
+        ItemsWrapper<DataSet> fresh = new ItemsWrapper<>(Arrays.asList(DataSet.builder().name("dataset2").build()));
+
+        ListDataSetsZosmfRequestRunner runner = mock(ListDataSetsZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(cached, fresh);
+        PowerMockito.whenNew(ListDataSetsZosmfRequestRunner.class).withArguments(filter, new ArrayList<>()).thenReturn(runner);
+        assertEquals(cached, dataService.listDataSets(filter));
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Cache-Control", "max-age=0, no-cache");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        assertEquals(fresh, dataService.listDataSets(filter));
+
+        RequestContextHolder.resetRequestAttributes();
+        assertEquals(fresh, dataService.listDataSets(filter));
+        verify(runner, times(2)).run(zosmfConnector);
+    }
+
+    @Test
+    public void testListDataSetAttributesAnswersNarrowerFilterFromCatalogIndex() throws Exception {
+        DataSetAttributes cobol = DataSetAttributes.builder().name("HLQ.PROD.COBOL").build();
+        DataSetAttributes jcl = DataSetAttributes.builder().name("HLQ.TEST.JCL").build();
+
+        ListDataSetsAttributesZosmfRequestRunner runner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(Arrays.asList(cobol, jcl)));
+        when(runner.getTotalRows()).thenReturn(2);
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class).withArguments("HLQ.**", new ArrayList<>()).thenReturn(runner);
+
+        dataService.listDataSetAttributes("HLQ.**");
+        assertEquals(new ItemsWrapper<>(Arrays.asList(cobol)), dataService.listDataSetAttributes("HLQ.PROD.*"));
+
+        verify(runner, times(1)).run(zosmfConnector);
+        assertEquals(1, dataService.getCatalogIndex().getHitCount());
+    }
+
+    @Test
+    public void testListDataSetAttributesDoesNotIndexTruncatedListing() throws Exception {
+        DataSetAttributes cobol = DataSetAttributes.builder().name("HLQ.PROD.COBOL").build();
+
+        ListDataSetsAttributesZosmfRequestRunner runner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(Arrays.asList(cobol)));
+        when(runner.getTotalRows()).thenReturn(5000);
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class).withArguments("HLQ.**", new ArrayList<>()).thenReturn(runner);
+        ListDataSetsAttributesZosmfRequestRunner narrowRunner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(narrowRunner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(Arrays.asList(cobol)));
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class).withArguments("HLQ.PROD.*", new ArrayList<>()).thenReturn(narrowRunner);
+
+        dataService.listDataSetAttributes("HLQ.**");
+        dataService.listDataSetAttributes("HLQ.PROD.*");
+
+        verify(narrowRunner, times(1)).run(zosmfConnector);
+    }
+
+    @Test
+    public void testListingReadDuringWriteIsNotCached() throws Exception {
+        DataSetAttributes cobol = DataSetAttributes.builder().name("HLQ.PROD.COBOL").build();
+        DeleteDataSetZosmfRequestRunner deleteRunner = mock(DeleteDataSetZosmfRequestRunner.class);
+        PowerMockito.whenNew(DeleteDataSetZosmfRequestRunner.class).withArguments("HLQ.PROD.COBOL", new ArrayList<>()).thenReturn(deleteRunner);
+
+        ListDataSetsAttributesZosmfRequestRunner runner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenAnswer(invocation -> {
+            // the delete lands while z/OSMF is still listing
+            dataService.deleteDataSet("HLQ.PROD.COBOL");
+            return new ItemsWrapper<>(Arrays.asList(cobol));
+        }).thenReturn(new ItemsWrapper<>(new ArrayList<>()));
+        when(runner.getTotalRows()).thenReturn(1);
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class).withArguments("HLQ.**", new ArrayList<>()).thenReturn(runner);
+        ListDataSetsAttributesZosmfRequestRunner narrowRunner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(narrowRunner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(new ArrayList<>()));
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class).withArguments("HLQ.PROD.*", new ArrayList<>()).thenReturn(narrowRunner);
+
+        assertEquals(new ItemsWrapper<>(Arrays.asList(cobol)), dataService.listDataSetAttributes("HLQ.**"));
+        assertEquals(0, dataService.getListingCache().size());
+        assertEquals(new ItemsWrapper<>(new ArrayList<>()), dataService.listDataSetAttributes("HLQ.PROD.*"));
+        assertEquals(new ItemsWrapper<>(new ArrayList<>()), dataService.listDataSetAttributes("HLQ.**"));
+
+        verify(runner, times(2)).run(zosmfConnector);
+        verify(narrowRunner, times(1)).run(zosmfConnector);
+        assertEquals(0, dataService.getCatalogIndex().getHitCount());
+    }
+
+    @Test
+    public void testOtherUsersListingInFlightDuringWriteIsNotCached() throws Exception {
+        ItemsWrapper<DataSetAttributes> before = new ItemsWrapper<>(
+                Arrays.asList(DataSetAttributes.builder().name("HLQ.PROD.COBOL").build()));
+        ItemsWrapper<DataSetAttributes> after = new ItemsWrapper<>(new ArrayList<>());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ListDataSetsAttributesZosmfRequestRunner staleRunner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(staleRunner.run(zosmfConnector)).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(10, TimeUnit.SECONDS);
+            return before;
+        });
+        ListDataSetsAttributesZosmfRequestRunner freshRunner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(freshRunner.run(zosmfConnector)).thenReturn(after);
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class).withArguments("HLQ.**", new ArrayList<>())
+            .thenReturn(staleRunner, freshRunner);
+        DeleteDataSetZosmfRequestRunner deleteRunner = mock(DeleteDataSetZosmfRequestRunner.class);
+        PowerMockito.whenNew(DeleteDataSetZosmfRequestRunner.class).withArguments("HLQ.PROD.COBOL", new ArrayList<>()).thenReturn(deleteRunner);
+
+        MockHttpServletRequest otherUser = new MockHttpServletRequest();
+        otherUser.setRemoteUser("other");
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Callable<ItemsWrapper<DataSetAttributes>> list = () -> {
+                RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(otherUser));
+                try {
+                    return dataService.listDataSetAttributes("HLQ.**");
+                } finally {
+                    RequestContextHolder.resetRequestAttributes();
+                }
+            };
+            Future<ItemsWrapper<DataSetAttributes>> inFlight = executor.submit(list);
+            assertTrue("listing did not start", started.await(10, TimeUnit.SECONDS));
+
+            dataService.deleteDataSet("HLQ.PROD.COBOL");
+            assertEquals(after, executor.submit(list).get(10, TimeUnit.SECONDS));
+            release.countDown();
+            assertEquals(before, inFlight.get(10, TimeUnit.SECONDS));
+
+            assertEquals(after, executor.submit(list).get(10, TimeUnit.SECONDS));
+            verify(freshRunner, times(1)).run(zosmfConnector);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDeleteDataSetInvalidatesMatchingListings() throws Exception {
+        ItemsWrapper<DataSet> listing = new ItemsWrapper<>(new ArrayList<>());
+        for (String filter : Arrays.asList("DATA.**", "data.set", "**.NAME", "DATA.SET.N%ME*", "OTHER.**", "DATA.SET.X*")) {
+            ListDataSetsZosmfRequestRunner runner = mock(ListDataSetsZosmfRequestRunner.class);
+            when(runner.run(zosmfConnector)).thenReturn(listing);
+            PowerMockito.whenNew(ListDataSetsZosmfRequestRunner.class).withArguments(filter, new ArrayList<>()).thenReturn(runner);
+            dataService.listDataSets(filter);
+        }
+        assertEquals(6, dataService.getListingCache().size());
+
+        String dataSetName = "DATA.SET.NAME(MEMBER)";
+        DeleteDataSetZosmfRequestRunner runner = mock(DeleteDataSetZosmfRequestRunner.class);
+        PowerMockito.whenNew(DeleteDataSetZosmfRequestRunner.class).withArguments(dataSetName, new ArrayList<>()).thenReturn(runner);
+        dataService.deleteDataSet(dataSetName);
+
+        assertEquals(2, dataService.getListingCache().size());
+    }
+
+    @Test
+    public void testFilterPatternMatchesDataSetsTheFilterCouldList() throws Exception {
+        assertTrue(AbstractZosmfDataSetService.filterPattern("HLQ").matcher("HLQ.A.B").matches());
+        assertTrue(AbstractZosmfDataSetService.filterPattern("HLQ.**").matcher("HLQ.A.B").matches());
+        assertTrue(AbstractZosmfDataSetService.filterPattern("**.B").matcher("B").matches());
+        assertTrue(AbstractZosmfDataSetService.filterPattern("HLQ.*.B").matcher("HLQ.A.B").matches());
+        assertTrue(AbstractZosmfDataSetService.filterPattern("HLQ.A%").matcher("HLQ.AB").matches());
+        assertFalse(AbstractZosmfDataSetService.filterPattern("HLQ.*.B").matcher("HLQ.A.C.B").matches());
+        assertFalse(AbstractZosmfDataSetService.filterPattern("HLQ.A%").matcher("HLQ.ABC").matches());
+        assertFalse(AbstractZosmfDataSetService.filterPattern("HLQ").matcher("HLQX.A").matches());
+    }
+
+    @Test
+    public void testListDataSetAttributesPageRunnerValueCorrectlyReturned() throws Exception {
+        String filter = "DATA.SET.NAME*";
+
+        DataSetAttributes att1 = DataSetAttributes.builder().name("DATA.SET.NAME1").build();
+        DataSetAttributes att2 = DataSetAttributes.builder().name("DATA.SET.NAME2").build();
+        List<DataSetAttributes> items = Arrays.asList(att1, att2);
+
+        ListDataSetsAttributesZosmfRequestRunner runner = mock(ListDataSetsAttributesZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(items));
+        when(runner.getNext()).thenReturn("DATA.SET.NAME3");
+        when(runner.getTotalRows()).thenReturn(5);
+        PowerMockito.whenNew(ListDataSetsAttributesZosmfRequestRunner.class)
+            .withArguments(filter, 2, "DATA.SET.NAME1", new ArrayList<>()).thenReturn(runner);
+
+        PagedItemsWrapper<DataSetAttributes> expected = new PagedItemsWrapper<>(items, "DATA.SET.NAME3", 5);
+        assertEquals(expected, dataService.listDataSetAttributes(filter, 2, "DATA.SET.NAME1"));
+    }
+
+    @Test
+    public void testListDataSetsPageRunnerValueCorrectlyReturned() throws Exception {
+        String filter = "DATA.SET.NAME*";
+
+        List<DataSet> items = Collections.singletonList(DataSet.builder().name("DATA.SET.NAME1").build());
+
+        ListDataSetsZosmfRequestRunner runner = mock(ListDataSetsZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(new ItemsWrapper<>(items));
+        when(runner.getNext()).thenReturn("DATA.SET.NAME2");
+        when(runner.getTotalRows()).thenReturn(2);
+        PowerMockito.whenNew(ListDataSetsZosmfRequestRunner.class)
+            .withArguments(filter, 1, null, new ArrayList<>()).thenReturn(runner);
+
+        PagedItemsWrapper<DataSet> expected = new PagedItemsWrapper<>(items, "DATA.SET.NAME2", 2);
+        assertEquals(expected, dataService.listDataSets(filter, 1, null));
+    }
+
     @Test
     public void testListDataSetsRunnerExceptionThrown() throws Exception {
         String filter = "DATA.SET.NAME";
@@ -145,7 +464,7 @@ public class ZosmfDataSetsServiceTest extends ZoweApiTest {
 
         GetDataSetContentZosmfRequestRunner runner = mock(GetDataSetContentZosmfRequestRunner.class);
         when(runner.run(zosmfConnector)).thenReturn(expected);
-        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, new ArrayList<>()).thenReturn(runner);
+        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, null, new ArrayList<>()).thenReturn(runner);
         assertEquals(expected, dataService.getContent(dataSetName));
     }
 
@@ -157,11 +476,128 @@ public class ZosmfDataSetsServiceTest extends ZoweApiTest {
 
         GetDataSetContentZosmfRequestRunner runner = mock(GetDataSetContentZosmfRequestRunner.class);
         when(runner.run(zosmfConnector)).thenThrow(expectedException);
-        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, new ArrayList<>()).thenReturn(runner);
+        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, null, new ArrayList<>()).thenReturn(runner);
 
         shouldThrow(expectedException, () -> dataService.getContent(dataSetName));
     }
 
+    @Test
+    public void testGetDataSetContentRevalidatesCachedContent() throws Exception {
+        String dataSetName = "DATA.SET.NAME";
+
+        DataSetContentWithEtag expected = new DataSetContentWithEtag(new DataSetContent("record"), "EEEE");
+
+        GetDataSetContentZosmfRequestRunner runner = mock(GetDataSetContentZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(expected);
+        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, null, new ArrayList<>()).thenReturn(runner);
+        GetDataSetContentZosmfRequestRunner revalidateRunner = mock(GetDataSetContentZosmfRequestRunner.class);
+        when(revalidateRunner.isNotModified()).thenReturn(true);
+        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, "EEEE", new ArrayList<>())
+            .thenReturn(revalidateRunner);
+
+        assertEquals(expected, dataService.getContent(dataSetName));
+        assertEquals(expected, dataService.getContent(dataSetName));
+
+        verify(runner).run(zosmfConnector);
+        verify(revalidateRunner).run(zosmfConnector);
+    }
+
+    @Test
+    public void testGetDataSetContentReplacesChangedCachedContent() throws Exception {
+        String dataSetName = "DATA.SET.NAME";
+
+        DataSetContentWithEtag original = new DataSetContentWithEtag(new DataSetContent("record"), "EEEE");
+        DataSetContentWithEtag changed = new DataSetContentWithEtag(new DataSetContent("changed"), "FFFF");
+
+        GetDataSetContentZosmfRequestRunner runner = mock(GetDataSetContentZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(original);
+        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, null, new ArrayList<>()).thenReturn(runner);
+        GetDataSetContentZosmfRequestRunner revalidateRunner = mock(GetDataSetContentZosmfRequestRunner.class);
+        when(revalidateRunner.run(zosmfConnector)).thenReturn(changed);
+        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, "EEEE", new ArrayList<>())
+            .thenReturn(revalidateRunner);
+
+        assertEquals(original, dataService.getContent(dataSetName));
+        assertEquals(changed, dataService.getContent(dataSetName));
+        assertEquals(changed, dataService.getContentCache().getIfPresent(contentKey(dataSetName)));
+    }
+
+    @Test
+    public void testGetDataSetContentCachedApartForOtherIbmHeaders() throws Exception {
+        String dataSetName = "DATA.SET.NAME";
+
+        DataSetContentWithEtag text = new DataSetContentWithEtag(new DataSetContent("record"), "EEEE");
+        DataSetContentWithEtag binary = new DataSetContentWithEtag(new DataSetContent("binary"), "EEEE");
+
+        GetDataSetContentZosmfRequestRunner textRunner = mock(GetDataSetContentZosmfRequestRunner.class);
+        when(textRunner.run(zosmfConnector)).thenReturn(text);
+        GetDataSetContentZosmfRequestRunner binaryRunner = mock(GetDataSetContentZosmfRequestRunner.class);
+        when(binaryRunner.run(zosmfConnector)).thenReturn(binary);
+        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withAnyArguments().thenReturn(textRunner,
+                binaryRunner);
+
+        assertEquals(text, dataService.getContent(dataSetName));
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-IBM-Data-Type", "binary");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        try {
+            assertEquals(binary, dataService.getContent(dataSetName));
+            PowerMockito.verifyNew(GetDataSetContentZosmfRequestRunner.class, times(2)).withArguments(eq(dataSetName),
+                    isNull(), any());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+        }
+        assertEquals(2, dataService.getContentCache().size());
+        assertEquals(text, dataService.getContentCache().getIfPresent(contentKey(dataSetName)));
+    }
+
+    private static UserScopedKey<List<Object>> contentKey(String dataSetName) {
+        return UserScopedKey.forCurrentUser(Arrays.asList(dataSetName, Collections.emptyList()));
+    }
+
+    @Test
+    public void testGetDataSetContentIfNoneMatchReturnsNotModified() throws Exception {
+        String dataSetName = "DATA.SET.NAME";
+        String eTag = "\"EEEE\"";
+
+        GetDataSetContentZosmfRequestRunner runner = mock(GetDataSetContentZosmfRequestRunner.class);
+        when(runner.isNotModified()).thenReturn(true);
+        PowerMockito.whenNew(GetDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, eTag, new ArrayList<>()).thenReturn(runner);
+
+        assertEquals(new DataSetContentWithEtag(null, eTag), dataService.getContent(dataSetName, eTag));
+        verify(runner).run(zosmfConnector);
+    }
+
+    @Test
+    public void testPutDataSetContentInvalidatesCachedContent() throws Exception {
+        String dataSetName = "DATA.SET.NAME";
+        DataSetContentWithEtag content = new DataSetContentWithEtag(new DataSetContent("record"), "EEEE");
+        dataService.getContentCache().put(contentKey(dataSetName), content);
+        dataService.getContentCache().put(contentKey(dataSetName + "(MEMBER)"), content);
+        dataService.getContentCache().put(contentKey("DATA.SET.NAMES"), content);
+
+        PutDataSetContentZosmfRequestRunner runner = mock(PutDataSetContentZosmfRequestRunner.class);
+        PowerMockito.whenNew(PutDataSetContentZosmfRequestRunner.class).withArguments(dataSetName, content, new ArrayList<>())
+                .thenReturn(runner);
+        dataService.putContent(dataSetName, content);
+
+        assertEquals(1, dataService.getContentCache().size());
+        assertEquals(content, dataService.getContentCache().getIfPresent(contentKey("DATA.SET.NAMES")));
+    }
+
+    @Test
+    public void testGetDataSetContentStreamRunnerValueCorrectlyReturned() throws Exception {
+        String dataSetName = "DATA.SET.NAME";
+
+        DataSetContentStreamWithEtag expected = new DataSetContentStreamWithEtag(
+                new ByteArrayInputStream("record".getBytes()), "EEEE");
+
+        GetDataSetContentStreamZosmfRequestRunner runner = mock(GetDataSetContentStreamZosmfRequestRunner.class);
+        when(runner.stream(zosmfConnector)).thenReturn(expected);
+        PowerMockito.whenNew(GetDataSetContentStreamZosmfRequestRunner.class).withArguments(dataSetName, true, new ArrayList<>()).thenReturn(runner);
+        assertEquals(expected, dataService.getContentStream(dataSetName, true));
+    }
+
     @Test
     public void testPutDataSetContentRunnerValueCorrectlyReturned() throws Exception {
         String dataSetName = "DATA.SET.NAME";
@@ -176,6 +612,21 @@ public class ZosmfDataSetsServiceTest extends ZoweApiTest {
         assertEquals(etag, dataService.putContent(dataSetName, content));
     }
 
+    @Test
+    public void testPutDataSetContentStreamRunnerValueCorrectlyReturned() throws Exception {
+        String dataSetName = "DATA.SET.NAME";
+        DataSetContentStreamWithEtag content = new DataSetContentStreamWithEtag(
+                new ByteArrayInputStream("record".getBytes()), "EEEE");
+
+        String etag = "EFEEF";
+
+        PutDataSetContentStreamZosmfRequestRunner runner = mock(PutDataSetContentStreamZosmfRequestRunner.class);
+        when(runner.run(zosmfConnector)).thenReturn(etag);
+        PowerMockito.whenNew(PutDataSetContentStreamZosmfRequestRunner.class)
+                .withArguments(dataSetName, content, false, new ArrayList<>()).thenReturn(runner);
+        assertEquals(etag, dataService.putContentStream(dataSetName, content, false));
+    }
+
     @Test
     public void testPutDataSetContentRunnerExceptionThrown() throws Exception {
         String dataSetName = "DATA.SET.NAME";
@@ -250,7 +701,7 @@ public class ZosmfDataSetsServiceTest extends ZoweApiTest {
         Enumeration<String> enumerationHeaderNames = Collections.enumeration(headerNames); 
 
         HttpServletRequest request = mock(HttpServletRequest.class);
-        dataService.setRequest(request);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
 
         when(request.getHeaderNames()).thenReturn(enumerationHeaderNames);
         request = mockRequestGetHeaders(testHeaders, request);
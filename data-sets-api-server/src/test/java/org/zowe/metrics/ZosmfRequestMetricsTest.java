@@ -0,0 +1,129 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.metrics;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.aopalliance.intercept.MethodInvocation;
+import org.apache.http.HttpResponse;
+import org.apache.http.HttpStatus;
+import org.apache.http.HttpVersion;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.util.EntityUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.api.common.connectors.zosmf.ZosmfConnector;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ZosmfRequestMetricsTest {
+
+    private SimpleMeterRegistry registry;
+
+    @Before
+    public void setUp() {
+        registry = new SimpleMeterRegistry();
+        ZosmfRequestMetrics.setRegistry(registry);
+    }
+
+    @After
+    public void tearDown() {
+        ZosmfRequestMetrics.setRegistry(Metrics.globalRegistry);
+    }
+
+    @Test
+    public void run_should_record_runner_and_zosmf_time_with_status_and_size() throws Throwable {
+        String body = ZosmfRequestMetricsTest.class.getName();
+
+        String result = ZosmfRequestMetrics.record(ZosmfRequestMetricsTest.class, () -> {
+            try {
+                HttpResponse response = executeRequest(HttpStatus.SC_OK, body);
+                return EntityUtils.toString(response.getEntity());
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertEquals(body, result);
+        Timer runner = findTimer(ZosmfRequestMetrics.RUNNER_TIMER, "200", "none", "<1KiB");
+        assertEquals(1, runner.count());
+        Timer request = findTimer(ZosmfRequestMetrics.REQUEST_TIMER, "200", "none", "<1KiB");
+        assertEquals(1, request.count());
+    }
+
+    @Test
+    public void run_should_record_exception_type() throws Throwable {
+        try {
+            ZosmfRequestMetrics.record(ZosmfRequestMetricsTest.class, () -> {
+                try {
+                    executeRequest(HttpStatus.SC_NOT_FOUND, "");
+                } catch (Throwable e) {
+                    throw new IllegalStateException(e);
+                }
+                throw new UncheckedIOException(new IOException("not found"));
+            });
+            fail("Expected UncheckedIOException");
+        } catch (UncheckedIOException e) {
+            // expected
+        }
+
+        assertEquals(1, findTimer(ZosmfRequestMetrics.RUNNER_TIMER, "404", "UncheckedIOException", "0").count());
+    }
+
+    @Test
+    public void run_without_zosmf_request_should_only_record_runner_time() {
+        ZosmfRequestMetrics.record(ZosmfRequestMetricsTest.class, () -> "result");
+
+        assertEquals(1, findTimer(ZosmfRequestMetrics.RUNNER_TIMER, "none", "none", "0").count());
+        assertNull(registry.find(ZosmfRequestMetrics.REQUEST_TIMER).timer());
+    }
+
+    @Test
+    public void size_buckets_should_use_binary_units() {
+        assertEquals("0", ZosmfRequestMetrics.sizeBucket(-1));
+        assertEquals("<1KiB", ZosmfRequestMetrics.sizeBucket(1023));
+        assertEquals("<64KiB", ZosmfRequestMetrics.sizeBucket(1024));
+        assertEquals("<1MiB", ZosmfRequestMetrics.sizeBucket(64 * 1024));
+        assertEquals(">=1MiB", ZosmfRequestMetrics.sizeBucket(1024 * 1024));
+    }
+
+    private HttpResponse executeRequest(int status, String body) throws Throwable {
+        HttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, status, null);
+        response.setEntity(new StringEntity(body));
+        MethodInvocation invocation = mock(MethodInvocation.class);
+        when(invocation.getMethod()).thenReturn(ZosmfConnector.class.getMethod("executeRequest", RequestBuilder.class));
+        when(invocation.proceed()).thenReturn(response);
+
+        return (HttpResponse) new ZosmfConnectorMetricsPostProcessor.ExecuteRequestInterceptor().invoke(invocation);
+    }
+
+    private Timer findTimer(String name, String status, String exception, String size) {
+        Timer timer = registry.find(name)
+            .tags("runner", ZosmfRequestMetricsTest.class.getSimpleName(), "status", status, "exception", exception,
+                    "size", size)
+            .timer();
+        assertNotNull(timer);
+        return timer;
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.spring;
+
+import org.junit.After;
+import org.junit.Test;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class RequestContextTaskDecoratorTest {
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+        MDC.clear();
+    }
+
+    @Test
+    public void decorated_task_should_run_with_submitting_request_context() throws Exception {
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+        MDC.put("user", "IBMUSER");
+        AtomicReference<RequestAttributes> taskAttributes = new AtomicReference<>();
+        AtomicReference<String> taskUser = new AtomicReference<>();
+
+        Runnable task = new RequestContextTaskDecorator().decorate(() -> {
+            taskAttributes.set(RequestContextHolder.getRequestAttributes());
+            taskUser.set(MDC.get("user"));
+        });
+        Thread thread = new Thread(task);
+        thread.start();
+        thread.join();
+
+        assertSame(attributes, taskAttributes.get());
+        assertEquals("IBMUSER", taskUser.get());
+    }
+
+    @Test
+    public void decorated_task_should_restore_context_of_thread_running_it() {
+        Runnable task = new RequestContextTaskDecorator().decorate(() -> {
+        });
+        RequestAttributes attributes = new ServletRequestAttributes(new MockHttpServletRequest());
+        RequestContextHolder.setRequestAttributes(attributes);
+
+        task.run();
+
+        assertSame(attributes, RequestContextHolder.getRequestAttributes());
+        assertNull(MDC.get("user"));
+    }
+}
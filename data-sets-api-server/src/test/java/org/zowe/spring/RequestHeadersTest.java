@@ -0,0 +1,136 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.spring;
+
+import org.apache.http.Header;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.zowe.data.sets.services.DataSetService;
+import org.zowe.data.sets.services.zosmf.ZosmfDataSetServiceV2;
+import org.zowe.unix.files.services.UnixFilesService;
+import org.zowe.unix.files.services.zosmf.ZosmfUnixFilesServiceV2;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class RequestHeadersTest {
+
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS_PER_CLIENT = 500;
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    public void ibm_headers_should_be_read_from_current_request() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("X-IBM-Migrated-Recall", "wait");
+        request.addHeader("X-CSRF-ZOSMF-HEADER", "");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+
+        List<Header> headers = RequestHeaders.ibmHeaders();
+
+        assertEquals(1, headers.size());
+        assertEquals("X-IBM-MIGRATED-RECALL", headers.get(0).getName());
+        assertEquals("wait", headers.get(0).getValue());
+    }
+
+    @Test
+    public void single_strong_etag_should_be_passed_on_quoted_or_not() {
+        assertEquals("\"A7F90DCB\"", RequestHeaders.singleStrongEtag(" \"A7F90DCB\" "));
+        assertEquals("A7F90DCB", RequestHeaders.singleStrongEtag("A7F90DCB"));
+    }
+
+    @Test
+    public void etag_lists_weak_tags_and_wildcards_should_not_be_passed_on() {
+        assertNull(RequestHeaders.singleStrongEtag(null));
+        assertNull(RequestHeaders.singleStrongEtag("\"A7F90DCB\", \"B8E01FDC\""));
+        assertNull(RequestHeaders.singleStrongEtag("W/\"A7F90DCB\""));
+        assertNull(RequestHeaders.singleStrongEtag("*"));
+        assertNull(RequestHeaders.singleStrongEtag(""));
+    }
+
+    @Test
+    public void unquote_etag_should_only_strip_enclosing_quotes() {
+        assertEquals("A7F90DCB", RequestHeaders.unquoteEtag("\"A7F90DCB\""));
+        assertEquals("A7F90DCB", RequestHeaders.unquoteEtag("A7F90DCB"));
+    }
+
+    @Test
+    public void ibm_headers_outside_a_request_should_be_empty() {
+        assertTrue(RequestHeaders.ibmHeaders().isEmpty());
+    }
+
+    @Test
+    public void concurrent_requests_should_only_see_their_own_headers() throws Exception {
+        DataSetService dataSetService = new ZosmfDataSetServiceV2();
+        UnixFilesService unixFilesService = new ZosmfUnixFilesServiceV2();
+        ThreadPoolTaskExecutor zosmfExecutor = new ThreadPoolTaskExecutor();
+        zosmfExecutor.setCorePoolSize(8);
+        zosmfExecutor.setTaskDecorator(new RequestContextTaskDecorator());
+        zosmfExecutor.initialize();
+        ExecutorService clients = Executors.newFixedThreadPool(CLIENTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < CLIENTS; i++) {
+                String client = "client-" + i;
+                results.add(clients.submit(() -> {
+                    start.await();
+                    int mismatches = 0;
+                    for (int j = 0; j < REQUESTS_PER_CLIENT; j++) {
+                        String value = client + "-" + j;
+                        MockHttpServletRequest request = new MockHttpServletRequest();
+                        request.addHeader("X-IBM-Client", value);
+                        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+                        try {
+                            // as the controllers do, read the headers on the z/OSMF executor
+                            List<Header> dataSetHeaders = CompletableFuture
+                                .supplyAsync(dataSetService::getIbmHeadersFromRequest, zosmfExecutor).get();
+                            List<Header> unixFileHeaders = unixFilesService.getIbmHeadersFromRequest();
+                            if (!value.equals(dataSetHeaders.get(0).getValue())
+                                    || !value.equals(unixFileHeaders.get(0).getValue())) {
+                                mismatches++;
+                            }
+                        } finally {
+                            RequestContextHolder.resetRequestAttributes();
+                        }
+                    }
+                    return mismatches;
+                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(Integer.valueOf(0), result.get(60, TimeUnit.SECONDS));
+            }
+        } finally {
+            clients.shutdownNow();
+            zosmfExecutor.shutdown();
+        }
+    }
+}
@@ -14,27 +14,36 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import org.zowe.api.common.errors.ApiError;
 import org.zowe.api.common.exceptions.ZoweApiErrorException;
 import org.zowe.api.common.test.controller.ApiControllerTest;
 import org.zowe.api.common.utils.JsonUtils;
 import org.zowe.unix.files.model.UnixCreateAssetRequest;
+import org.zowe.unix.files.model.UnixDeleteJobState;
 import org.zowe.unix.files.model.UnixDirectoryAttributesWithChildren;
 import org.zowe.unix.files.model.UnixDirectoryChild;
 import org.zowe.unix.files.model.UnixEntityType;
 import org.zowe.unix.files.model.UnixFileContent;
 import org.zowe.unix.files.model.UnixFileContentWithETag;
+import org.zowe.unix.files.services.UnixDeleteJob;
+import org.zowe.unix.files.services.UnixDeleteJobs;
 import org.zowe.unix.files.services.UnixFilesService;
 
 import java.util.Arrays;
 import java.util.List;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.junit.Assert.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doThrow;
@@ -42,6 +51,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -49,6 +59,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @RunWith(PowerMockRunner.class)
@@ -61,6 +72,12 @@ public class UnixFilesControllerTest extends ApiControllerTest {
     @Mock
     private UnixFilesService unixFilesService;
 
+    @Spy
+    private SyncTaskExecutor zosmfExecutor = new SyncTaskExecutor();
+
+    @Spy
+    private UnixDeleteJobs unixDeleteJobs = new UnixDeleteJobs(3600);
+
     @InjectMocks
     private UnixFilesControllerV1 unixFilesController;
 
@@ -69,6 +86,11 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         return unixFilesController;
     }
 
+    private ResultActions performAsync(RequestBuilder requestBuilder) throws Exception {
+        MvcResult result = mockMvc.perform(requestBuilder).andExpect(request().asyncStarted()).andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
     @Test
     public void get_directory_listing_success() throws Exception {
         UnixDirectoryChild file = UnixDirectoryChild.builder().name("FileA").type(UnixEntityType.FILE).link("somelink")
@@ -85,7 +107,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
 
         when(unixFilesService.listUnixDirectory(path, URI_BASE)).thenReturn(listedDirectory);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "?path={path}", path)).andExpect(status().isOk())
+        performAsync(get(ENDPOINT_ROOT + "?path={path}", path)).andExpect(status().isOk())
             .andExpect(content().contentType(MediaType.APPLICATION_JSON_VALUE))
             .andExpect(content().string(JsonUtils.convertToJsonString(listedDirectory)));
 
@@ -102,7 +124,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
 
         when(unixFilesService.listUnixDirectory(invalidPath, URI_BASE)).thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + "?path={path}", invalidPath))
+        performAsync(get(ENDPOINT_ROOT + "?path={path}", invalidPath))
             .andExpect(status().is(expectedError.getStatus().value()))
             .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
@@ -111,6 +133,45 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(unixFilesService);
     }
 
+    @Test
+    public void get_directory_tree_streams_ndjson() throws Exception {
+        String path = "/u/ibmuser";
+        UnixDirectoryChild file = UnixDirectoryChild.builder().name("FileA").type(UnixEntityType.FILE).link("somelink")
+            .build();
+        UnixDirectoryChild directory = UnixDirectoryChild.builder().name("DirectoryA").type(UnixEntityType.DIRECTORY)
+            .link("somelink").build();
+        UnixDirectoryAttributesWithChildren listedDirectory = UnixDirectoryAttributesWithChildren.builder()
+            .type(UnixEntityType.DIRECTORY).children(Arrays.asList(file, directory)).build();
+        UnixDirectoryAttributesWithChildren listedChild = UnixDirectoryAttributesWithChildren.builder()
+            .type(UnixEntityType.DIRECTORY).children(Arrays.asList(file)).build();
+
+        when(unixFilesService.listUnixDirectory(path, URI_BASE)).thenReturn(listedDirectory);
+        when(unixFilesService.listUnixDirectory(path + "/DirectoryA", URI_BASE)).thenReturn(listedChild);
+
+        MvcResult result = performAsync(get(ENDPOINT_ROOT + "?path={path}&depth=2", path))
+            .andExpect(request().asyncStarted()).andReturn();
+
+        String expected = "{\"path\":\"/u/ibmuser/FileA\",\"depth\":1,\"type\":\"FILE\",\"link\":\"somelink\"}\n"
+                + "{\"path\":\"/u/ibmuser/DirectoryA\",\"depth\":1,\"type\":\"DIRECTORY\",\"link\":\"somelink\"}\n"
+                + "{\"path\":\"/u/ibmuser/DirectoryA/FileA\",\"depth\":2,\"type\":\"FILE\",\"link\":\"somelink\"}\n";
+        mockMvc.perform(asyncDispatch(result)).andExpect(status().isOk())
+            .andExpect(content().contentType("application/x-ndjson"))
+            .andExpect(content().string(expected));
+
+        verify(unixFilesService, times(1)).listUnixDirectory(path, URI_BASE);
+        verify(unixFilesService, times(1)).listUnixDirectory(path + "/DirectoryA", URI_BASE);
+        verifyNoMoreInteractions(unixFilesService);
+    }
+
+    @Test
+    public void get_directory_tree_with_invalid_depth_returns_bad_request() throws Exception {
+        mockMvc.perform(get(ENDPOINT_ROOT + "?path={path}&depth=0", "/u/ibmuser"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.message").value("The depth '0' is not valid, it must be greater than 0"));
+
+        verifyNoMoreInteractions(unixFilesService);
+    }
+
     @Test
     public void get_unix_file_content_with_no_etag() throws Exception {
         String path = "/file";
@@ -120,7 +181,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
 
         when(unixFilesService.getUnixFileContentWithETag(any(), anyBoolean(), anyBoolean())).thenReturn(fileContentWithETag);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + path))
+        performAsync(get(ENDPOINT_ROOT + path))
                 .andExpect(status().isOk())
                 .andExpect(content().string(JsonUtils.convertToJsonString(fileContent)))
                 .andExpect(header().string("ETag", equalTo(null)));
@@ -138,7 +199,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
 
         when(unixFilesService.getUnixFileContentWithETag(path, false, false)).thenReturn(fileContentWithETag);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + path)
+        performAsync(get(ENDPOINT_ROOT + path)
                 .header("Convert", false)
                 .header("X-Return-Etag", "true"))
             .andExpect(status().isOk())
@@ -149,6 +210,46 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(unixFilesService);
     }
 
+    @Test
+    public void get_unix_file_content_with_matching_if_none_match_returns_not_modified() throws Exception {
+        String path = "/file";
+        String eTag = "\"E1B212479173E273A8ACFD682BCBEADE\"";
+
+        UnixFileContentWithETag fileContentWithETag = new UnixFileContentWithETag(null, eTag);
+
+        when(unixFilesService.getUnixFileContentWithETag(path, false, false, eTag)).thenReturn(fileContentWithETag);
+
+        performAsync(get(ENDPOINT_ROOT + path)
+                .header("Convert", false)
+                .header("If-None-Match", eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().string(""))
+            .andExpect(header().string("ETag", equalTo(eTag)));
+
+        verify(unixFilesService, times(1)).getUnixFileContentWithETag(path, false, false, eTag);
+        verifyNoMoreInteractions(unixFilesService);
+    }
+
+    @Test
+    public void get_unix_file_content_with_weak_if_none_match_reads_unconditionally() throws Exception {
+        String path = "/file";
+        String eTag = "\"E1B212479173E273A8ACFD682BCBEADE\"";
+        UnixFileContent fileContent = new UnixFileContent("Some file content");
+
+        UnixFileContentWithETag fileContentWithETag = new UnixFileContentWithETag(fileContent, eTag);
+
+        when(unixFilesService.getUnixFileContentWithETag(path, false, false)).thenReturn(fileContentWithETag);
+
+        performAsync(get(ENDPOINT_ROOT + path)
+                .header("Convert", false)
+                .header("If-None-Match", "W/" + eTag))
+            .andExpect(status().isOk())
+            .andExpect(content().string(JsonUtils.convertToJsonString(fileContent)));
+
+        verify(unixFilesService, times(1)).getUnixFileContentWithETag(path, false, false);
+        verifyNoMoreInteractions(unixFilesService);
+    }
+
     @Test
     public void get_unix_file_content_convert_null_shouldUnixConvert_false_success() throws Exception {
         String path = "/file";
@@ -161,7 +262,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         when(unixFilesService.shouldUnixFileConvert(path)).thenReturn(false);
 
 
-        mockMvc.perform(get(ENDPOINT_ROOT + path)
+        performAsync(get(ENDPOINT_ROOT + path)
                 .header("X-Return-Etag", "true"))
             .andExpect(status().isOk())
             .andExpect(content().string(JsonUtils.convertToJsonString(fileContent)))
@@ -184,7 +285,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         when(unixFilesService.shouldUnixFileConvert(path)).thenReturn(true);
 
 
-        mockMvc.perform(get(ENDPOINT_ROOT + path)
+        performAsync(get(ENDPOINT_ROOT + path)
                 .header("X-Return-Etag", "true"))
             .andExpect(status().isOk())
             .andExpect(content().string(JsonUtils.convertToJsonString(fileContent)))
@@ -205,7 +306,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
 
         when(unixFilesService.getUnixFileContentWithETag(path, true, false)).thenReturn(fileContentWithETag);
 
-        mockMvc.perform(get(ENDPOINT_ROOT + path)
+        performAsync(get(ENDPOINT_ROOT + path)
                 .header("Convert", true)
                 .header("X-Return-Etag", "true"))
             .andExpect(status().isOk())
@@ -226,7 +327,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         when(unixFilesService.getUnixFileContentWithETag(path, false, false))
             .thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc.perform(get(ENDPOINT_ROOT + path)
+        performAsync(get(ENDPOINT_ROOT + path)
                 .header("Convert", false))
             .andExpect(status().isForbidden())
             .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
@@ -243,10 +344,9 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         UnixFileContentWithETag fileContentWithETag = new UnixFileContentWithETag(fileContent, null);
         String eTag = "E1B212479173E273A8ACFD682BCBEADE";
 
-        when(unixFilesService.putUnixFileContent(path, fileContentWithETag, false)).thenReturn(eTag);
+        when(unixFilesService.updateUnixFileContent(path, fileContentWithETag, false)).thenReturn(eTag);
 
-        mockMvc
-            .perform(put(ENDPOINT_ROOT + path)
+        performAsync(put(ENDPOINT_ROOT + path)
                 .header("Convert", false)
                 .header("X-Return-Etag", "true")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -255,8 +355,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
             .andExpect(content().string(""))
             .andExpect(header().string("ETag", "\"" + eTag + "\""));
 
-        verify(unixFilesService, times(1)).putUnixFileContent(path, fileContentWithETag, false);
-        verify(unixFilesService, times(1)).getUnixFileContentWithETag(path, false, false);
+        verify(unixFilesService, times(1)).updateUnixFileContent(path, fileContentWithETag, false);
         verifyNoMoreInteractions(unixFilesService);
     }
 
@@ -268,9 +367,9 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         UnixFileContent fileContent = new UnixFileContent("Some file content");
         UnixFileContentWithETag fileContentWithETag = new UnixFileContentWithETag(fileContent, ifMatch);
 
-        when(unixFilesService.putUnixFileContent(path, fileContentWithETag, false)).thenReturn(eTag);
+        when(unixFilesService.updateUnixFileContent(path, fileContentWithETag, false)).thenReturn(eTag);
 
-        mockMvc.perform(put(ENDPOINT_ROOT + path)
+        performAsync(put(ENDPOINT_ROOT + path)
                 .header("Convert", false)
                 .header("If-Match", ifMatch)
                 .header("X-Return-Etag", "true")
@@ -280,8 +379,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
             .andExpect(content().string(""))
             .andExpect(header().string("ETag", "\"" + eTag + "\""));
 
-        verify(unixFilesService, times(1)).putUnixFileContent(path, fileContentWithETag, false);
-        verify(unixFilesService, times(1)).getUnixFileContentWithETag(path, false, false);
+        verify(unixFilesService, times(1)).updateUnixFileContent(path, fileContentWithETag, false);
         verifyNoMoreInteractions(unixFilesService);
     }
 
@@ -292,11 +390,9 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         UnixFileContentWithETag fileContentWithETag = new UnixFileContentWithETag(fileContent, null);
         String eTag = "E1B212479173E273A8ACFD682BCBEADE";
 
-        when(unixFilesService.putUnixFileContent(path, fileContentWithETag, false)).thenReturn(eTag);
-        when(unixFilesService.shouldUnixFileConvert(path)).thenReturn(false);
+        when(unixFilesService.updateUnixFileContent(path, fileContentWithETag, null)).thenReturn(eTag);
 
-        mockMvc
-            .perform(put(ENDPOINT_ROOT + path)
+        performAsync(put(ENDPOINT_ROOT + path)
                 .header("X-Return-Etag", "true")
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(JsonUtils.convertToJsonString(fileContent.getContent())))
@@ -304,9 +400,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
             .andExpect(content().string(""))
             .andExpect(header().string("ETag", "\"" + eTag + "\""));
 
-        verify(unixFilesService, times(1)).putUnixFileContent(path, fileContentWithETag, false);
-        verify(unixFilesService, times(1)).getUnixFileContentWithETag(path, false, false);
-        verify(unixFilesService, times(1)).shouldUnixFileConvert(path);
+        verify(unixFilesService, times(1)).updateUnixFileContent(path, fileContentWithETag, null);
         verifyNoMoreInteractions(unixFilesService);
     }
 
@@ -320,18 +414,16 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.PRECONDITION_FAILED)
             .build();
 
-        when(unixFilesService.putUnixFileContent(path, fileContentWithETag, false))
+        when(unixFilesService.updateUnixFileContent(path, fileContentWithETag, false))
             .thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc
-            .perform(put(ENDPOINT_ROOT + path).header("Convert", false).contentType(MediaType.APPLICATION_JSON)
+        performAsync(put(ENDPOINT_ROOT + path).header("Convert", false).contentType(MediaType.APPLICATION_JSON)
                 .content(JsonUtils.convertToJsonString(fileContent.getContent())))
             .andExpect(status().isPreconditionFailed())
             .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
 
-        verify(unixFilesService, times(1)).putUnixFileContent(path, fileContentWithETag, false);
-        verify(unixFilesService, times(1)).getUnixFileContentWithETag(path, false, false);
+        verify(unixFilesService, times(1)).updateUnixFileContent(path, fileContentWithETag, false);
         verifyNoMoreInteractions(unixFilesService);
     }
 
@@ -339,20 +431,20 @@ public class UnixFilesControllerTest extends ApiControllerTest {
     public void put_unix_file_content_with_chtag_exception_should_be_converted_to_error_message() throws Exception {
         String path = "/directory";
         UnixFileContent fileContent = new UnixFileContent("Some file content");
+        UnixFileContentWithETag fileContentWithETag = new UnixFileContentWithETag(fileContent, null);
 
         String errorMessage = String.format("Requested file %s is a directory", path);
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.BAD_REQUEST).build();
 
-        when(unixFilesService.shouldUnixFileConvert(path)).thenThrow(new ZoweApiErrorException(expectedError));
+        when(unixFilesService.updateUnixFileContent(path, fileContentWithETag, null))
+            .thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc
-            .perform(put(ENDPOINT_ROOT + path).contentType(MediaType.APPLICATION_JSON)
+        performAsync(put(ENDPOINT_ROOT + path).contentType(MediaType.APPLICATION_JSON)
                 .content(JsonUtils.convertToJsonString(fileContent.getContent())))
             .andExpect(status().isBadRequest()).andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
 
-        verify(unixFilesService, times(1)).getUnixFileContentWithETag(path, false, false);
-        verify(unixFilesService, times(1)).shouldUnixFileConvert(path);
+        verify(unixFilesService, times(1)).updateUnixFileContent(path, fileContentWithETag, null);
         verifyNoMoreInteractions(unixFilesService);
     }
 
@@ -360,20 +452,20 @@ public class UnixFilesControllerTest extends ApiControllerTest {
     public void put_unix_file_content_when_not_found_should_be_converted_to_error_message() throws Exception {
         String path = "/directory";
         UnixFileContent fileContent = new UnixFileContent("Some file content");
+        UnixFileContentWithETag fileContentWithETag = new UnixFileContentWithETag(fileContent, null);
 
         String errorMessage = String.format("Requested file %s not found", path);
         ApiError expectedError = ApiError.builder().message(errorMessage).status(HttpStatus.NOT_FOUND).build();
 
-        when(unixFilesService.getUnixFileContentWithETag(path, false, false))
+        when(unixFilesService.updateUnixFileContent(path, fileContentWithETag, null))
             .thenThrow(new ZoweApiErrorException(expectedError));
 
-        mockMvc
-            .perform(put(ENDPOINT_ROOT + path).contentType(MediaType.APPLICATION_JSON)
+        performAsync(put(ENDPOINT_ROOT + path).contentType(MediaType.APPLICATION_JSON)
                 .content(JsonUtils.convertToJsonString(fileContent.getContent())))
             .andExpect(status().isNotFound()).andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
             .andExpect(jsonPath("$.message").value(errorMessage));
 
-        verify(unixFilesService, times(1)).getUnixFileContentWithETag(path, false, false);
+        verify(unixFilesService, times(1)).updateUnixFileContent(path, fileContentWithETag, null);
         verifyNoMoreInteractions(unixFilesService);
     }
 
@@ -382,7 +474,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
     public void test_delete_calls_service_properly() throws Exception {
         String dummy = "/junk";
 
-        mockMvc.perform(delete(ENDPOINT_ROOT + "{dsn}", dummy)).andExpect(status().isNoContent())
+        performAsync(delete(ENDPOINT_ROOT + "{dsn}", dummy)).andExpect(status().isNoContent())
                 .andExpect(jsonPath("$").doesNotExist());
 
         verify(unixFilesService, times(1)).deleteUnixFileContent(dummy,false);
@@ -399,7 +491,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
 
         doThrow(new ZoweApiErrorException(expectedError)).when(unixFilesService).deleteUnixFileContent(path,false);
 
-        mockMvc.perform(delete(ENDPOINT_ROOT + "{dsn}", path)).andExpect(status().isNotFound())
+        performAsync(delete(ENDPOINT_ROOT + "{dsn}", path)).andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value(expectedError.getStatus().name()))
                 .andExpect(jsonPath("$.message").value(expectedError.getMessage()));
 
@@ -407,6 +499,40 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         verifyNoMoreInteractions(unixFilesService);
     }
 
+    @Test
+    public void async_delete_starts_a_delete_job() throws Exception {
+        String path = "/u/ibmuser/old";
+        UnixDirectoryChild file = UnixDirectoryChild.builder().name("FileA").type(UnixEntityType.FILE).build();
+        when(unixFilesService.listUnixDirectory(path, URI_BASE)).thenReturn(UnixDirectoryAttributesWithChildren
+            .builder().type(UnixEntityType.DIRECTORY).children(Arrays.asList(file)).build());
+
+        MvcResult result = mockMvc.perform(delete(ENDPOINT_ROOT + "{path}?async=true", path))
+            .andExpect(status().isAccepted())
+            .andExpect(jsonPath("$.path").value(path))
+            .andExpect(jsonPath("$.state").value(UnixDeleteJobState.COMPLETED.name()))
+            .andExpect(jsonPath("$.deleted").value(2))
+            .andReturn();
+
+        String location = result.getResponse().getHeader("Location");
+        UnixDeleteJob job = unixDeleteJobs.get(location.substring(location.indexOf("deleteJob=") + 10));
+        assertEquals(URI_BASE + "?deleteJob=" + job.getId(), location);
+        mockMvc.perform(get(ENDPOINT_ROOT + "?deleteJob={id}", job.getId())).andExpect(status().isOk())
+            .andExpect(jsonPath("$.id").value(job.getId()))
+            .andExpect(jsonPath("$.found").value(2));
+
+        verify(unixFilesService, times(1)).deleteUnixFileContent(path + "/FileA", false);
+        verify(unixFilesService, times(1)).deleteUnixFileContent(path, false);
+    }
+
+    @Test
+    public void unknown_delete_job_is_not_found() throws Exception {
+        mockMvc.perform(get(ENDPOINT_ROOT + "?deleteJob={id}", "missing")).andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message").value("Delete job 'missing' was not found"));
+        mockMvc.perform(delete(ENDPOINT_ROOT + "?deleteJob={id}", "missing")).andExpect(status().isNotFound());
+
+        verifyNoMoreInteractions(unixFilesService);
+    }
+
 
     @Test
     public void post_unix_file_success() throws Exception {
@@ -414,7 +540,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
         String permissions = "rwxrwxrwx";
         UnixCreateAssetRequest createRequest = new UnixCreateAssetRequest(UnixEntityType.FILE, permissions);
 
-        mockMvc.perform(post(ENDPOINT_ROOT + path)
+        performAsync(post(ENDPOINT_ROOT + path)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(JsonUtils.convertToJsonString(createRequest)))
             .andExpect(status().isCreated())
@@ -436,7 +562,7 @@ public class UnixFilesControllerTest extends ApiControllerTest {
 
         doThrow(new ZoweApiErrorException(expectedError)).when(unixFilesService).createUnixAsset(path, createRequest);
 
-        mockMvc.perform(post(ENDPOINT_ROOT + path)
+        performAsync(post(ENDPOINT_ROOT + path)
                 .contentType(MediaType.APPLICATION_JSON)
                 .content(JsonUtils.convertToJsonString(createRequest)))
             .andExpect(status().isConflict())
@@ -0,0 +1,216 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.services;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiErrorException;
+import org.zowe.unix.files.model.UnixDeleteJobState;
+import org.zowe.unix.files.model.UnixDeleteJobStatus;
+import org.zowe.unix.files.model.UnixDirectoryAttributesWithChildren;
+import org.zowe.unix.files.model.UnixDirectoryChild;
+import org.zowe.unix.files.model.UnixEntityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UnixDeleteJobTest {
+
+    private static final String LINK = "http://localhost/api/v2/unixfiles/";
+
+    private UnixFilesService unixFilesService;
+    private List<String> deleted;
+
+    @Before
+    public void setUp() {
+        unixFilesService = mock(UnixFilesService.class);
+        deleted = Collections.synchronizedList(new ArrayList<>());
+        doAnswer(invocation -> deleted.add(invocation.getArgument(0))).when(unixFilesService)
+            .deleteUnixFileContent(anyString(), anyBoolean());
+    }
+
+    @After
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    private static UnixDirectoryChild file(String name) {
+        return UnixDirectoryChild.builder().name(name).type(UnixEntityType.FILE).build();
+    }
+
+    private static UnixDirectoryChild directory(String name) {
+        return UnixDirectoryChild.builder().name(name).type(UnixEntityType.DIRECTORY).build();
+    }
+
+    private static UnixDirectoryAttributesWithChildren listing(UnixDirectoryChild... children) {
+        return UnixDirectoryAttributesWithChildren.builder().type(UnixEntityType.DIRECTORY)
+            .children(Arrays.asList(children)).build();
+    }
+
+    private void mockTree() {
+        when(unixFilesService.listUnixDirectory("/u/me/old", LINK)).thenReturn(listing(file("a"), directory("sub")));
+        when(unixFilesService.listUnixDirectory("/u/me/old/sub", LINK)).thenReturn(listing(file("b"), file("c")));
+    }
+
+    private UnixDeleteJob start(String path) {
+        return new UnixDeleteJobs(3600).start(unixFilesService, path, LINK, new SyncTaskExecutor(), 2);
+    }
+
+    @Test
+    public void deletes_files_before_their_directories() {
+        mockTree();
+
+        UnixDeleteJobStatus status = start("/u/me/old").getStatus();
+
+        assertEquals(UnixDeleteJobState.COMPLETED, status.getState());
+        assertEquals(Integer.valueOf(5), status.getFound());
+        assertEquals(Integer.valueOf(5), status.getDeleted());
+        assertEquals(Integer.valueOf(0), status.getFailed());
+        assertNotNull(status.getFinished());
+        assertEquals(5, deleted.size());
+        assertTrue(deleted.indexOf("/u/me/old/sub/b") < deleted.indexOf("/u/me/old/sub"));
+        assertTrue(deleted.indexOf("/u/me/old/sub") < deleted.indexOf("/u/me/old"));
+        assertEquals("/u/me/old", deleted.get(4));
+        verify(unixFilesService, never()).deleteUnixFileContent(anyString(), eq(true));
+    }
+
+    @Test
+    public void deletes_a_file_path_without_listing_children() {
+        when(unixFilesService.listUnixDirectory("/u/me/file", LINK))
+            .thenReturn(UnixDirectoryAttributesWithChildren.builder().type(UnixEntityType.FILE).build());
+
+        UnixDeleteJobStatus status = start("/u/me/file").getStatus();
+
+        assertEquals(UnixDeleteJobState.COMPLETED, status.getState());
+        assertEquals(Arrays.asList("/u/me/file"), deleted);
+    }
+
+    @Test
+    public void failed_delete_keeps_its_parent_directories() {
+        mockTree();
+        ApiError error = ApiError.builder().status(HttpStatus.FORBIDDEN).message("Not authorised").build();
+        doThrow(new ZoweApiErrorException(error)).when(unixFilesService).deleteUnixFileContent("/u/me/old/sub/c",
+                false);
+
+        UnixDeleteJobStatus status = start("/u/me/old").getStatus();
+
+        assertEquals(UnixDeleteJobState.FAILED, status.getState());
+        assertEquals(Integer.valueOf(2), status.getDeleted());
+        assertEquals(Integer.valueOf(1), status.getFailed());
+        assertEquals(Arrays.asList("/u/me/old/sub/c: Not authorised"), status.getErrors());
+        assertTrue(deleted.containsAll(Arrays.asList("/u/me/old/a", "/u/me/old/sub/b")));
+        assertTrue(!deleted.contains("/u/me/old/sub") && !deleted.contains("/u/me/old"));
+    }
+
+    @Test
+    public void failed_listing_is_reported() {
+        ApiError error = ApiError.builder().status(HttpStatus.NOT_FOUND).message("Not found").build();
+        when(unixFilesService.listUnixDirectory("/u/me/gone", LINK)).thenThrow(new ZoweApiErrorException(error));
+
+        UnixDeleteJobStatus status = start("/u/me/gone").getStatus();
+
+        assertEquals(UnixDeleteJobState.FAILED, status.getState());
+        assertEquals(Arrays.asList("/u/me/gone: Not found"), status.getErrors());
+        assertTrue(deleted.isEmpty());
+    }
+
+    @Test
+    public void cancel_stops_requests_that_have_not_started() {
+        mockTree();
+        UnixDeleteJobs jobs = new UnixDeleteJobs(3600);
+        UnixDeleteJob[] job = new UnixDeleteJob[1];
+        doAnswer(invocation -> {
+            String path = invocation.getArgument(0);
+            deleted.add(path);
+            if (path.equals("/u/me/old/a")) {
+                job[0].cancel();
+            }
+            return null;
+        }).when(unixFilesService).deleteUnixFileContent(anyString(), anyBoolean());
+        // hold the requests until the job has been published for the answer to cancel
+        List<Runnable> tasks = new ArrayList<>();
+        job[0] = jobs.start(unixFilesService, "/u/me/old", LINK, tasks::add, 1);
+        while (!tasks.isEmpty()) {
+            tasks.remove(0).run();
+        }
+
+        UnixDeleteJobStatus status = job[0].getStatus();
+        assertEquals(UnixDeleteJobState.CANCELLED, status.getState());
+        assertEquals(Arrays.asList("/u/me/old/a"), deleted);
+        assertEquals(Integer.valueOf(0), status.getFailed());
+    }
+
+    @Test
+    public void requests_run_in_parallel_with_the_starting_request_headers() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Authorization", "Basic dXNlcjpwYXNz");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        List<String> authorizations = Collections.synchronizedList(new ArrayList<>());
+        List<UnixDirectoryChild> children = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            children.add(file("f" + i));
+        }
+        when(unixFilesService.listUnixDirectory("/u/me/many", LINK)).thenReturn(
+                UnixDirectoryAttributesWithChildren.builder().type(UnixEntityType.DIRECTORY).children(children).build());
+        doAnswer(invocation -> {
+            authorizations.add(((ServletRequestAttributes) RequestContextHolder.getRequestAttributes()).getRequest()
+                .getHeader("Authorization"));
+            return null;
+        }).when(unixFilesService).deleteUnixFileContent(anyString(), anyBoolean());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        UnixDeleteJobs jobs = new UnixDeleteJobs(3600);
+        UnixDeleteJob job = jobs.start(unixFilesService, "/u/me/many", LINK, executor, 4);
+        RequestContextHolder.resetRequestAttributes();
+        try {
+            long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+            while (job.getStatus().getFinished() == null && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(UnixDeleteJobState.COMPLETED, job.getStatus().getState());
+        assertEquals(21, authorizations.size());
+        assertTrue(authorizations.stream().allMatch("Basic dXNlcjpwYXNz"::equals));
+        assertNull(jobs.get(job.getId()));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        assertSame(job, jobs.get(job.getId()));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.services;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.zowe.api.common.errors.ApiError;
+import org.zowe.api.common.exceptions.ZoweApiErrorException;
+import org.zowe.unix.files.model.UnixDirectoryAttributesWithChildren;
+import org.zowe.unix.files.model.UnixDirectoryChild;
+import org.zowe.unix.files.model.UnixDirectoryTreeEntry;
+import org.zowe.unix.files.model.UnixEntityType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class UnixDirectoryTreeWalkerTest {
+
+    private static final String LINK = "http://localhost/api/v2/unixfiles";
+
+    private UnixFilesService unixFilesService;
+    private List<UnixDirectoryTreeEntry> entries;
+
+    @Before
+    public void setUp() {
+        unixFilesService = mock(UnixFilesService.class);
+        entries = new ArrayList<>();
+    }
+
+    private static UnixDirectoryChild file(String name) {
+        return UnixDirectoryChild.builder().name(name).type(UnixEntityType.FILE).size(10).build();
+    }
+
+    private static UnixDirectoryChild directory(String name) {
+        return UnixDirectoryChild.builder().name(name).type(UnixEntityType.DIRECTORY).build();
+    }
+
+    private static UnixDirectoryAttributesWithChildren listing(UnixDirectoryChild... children) {
+        return UnixDirectoryAttributesWithChildren.builder().type(UnixEntityType.DIRECTORY)
+            .children(Arrays.asList(children)).build();
+    }
+
+    private UnixDirectoryAttributesWithChildren mockTree() {
+        when(unixFilesService.listUnixDirectory("/u/me/src", LINK)).thenReturn(listing(file("A.java"), directory("sub")));
+        when(unixFilesService.listUnixDirectory("/u/me/src/sub", LINK)).thenReturn(listing(file("B.java"), file("b.txt")));
+        when(unixFilesService.listUnixDirectory("/u/me/.git", LINK)).thenReturn(listing(file("HEAD")));
+        return listing(file("README.md"), directory("src"), directory(".git"));
+    }
+
+    private List<String> paths() {
+        return entries.stream().map(UnixDirectoryTreeEntry::getPath).sorted().collect(toList());
+    }
+
+    private int walk(UnixDirectoryTreeRequest request, UnixDirectoryAttributesWithChildren root) throws Exception {
+        return new UnixDirectoryTreeWalker(unixFilesService, new SyncTaskExecutor(), 4).walk(request, root, LINK,
+                entries::add);
+    }
+
+    @Test
+    public void walk_should_list_every_level_to_the_depth() throws Exception {
+        UnixDirectoryAttributesWithChildren root = mockTree();
+
+        int count = walk(UnixDirectoryTreeRequest.builder().path("/u/me/").depth(2).maxEntries(100).build(), root);
+
+        assertEquals(6, count);
+        assertEquals(Arrays.asList("/u/me/.git", "/u/me/.git/HEAD", "/u/me/README.md", "/u/me/src",
+                "/u/me/src/A.java", "/u/me/src/sub"), paths());
+        verify(unixFilesService, never()).listUnixDirectory("/u/me/src/sub", LINK);
+        assertEquals(Integer.valueOf(2), entries.stream().filter(entry -> entry.getPath().equals("/u/me/src/A.java"))
+            .findFirst().get().getDepth());
+    }
+
+    @Test
+    public void walk_should_apply_include_and_exclude_globs() throws Exception {
+        UnixDirectoryAttributesWithChildren root = mockTree();
+
+        walk(UnixDirectoryTreeRequest.builder().path("/u/me").depth(5).maxEntries(100).include("*.java")
+            .exclude(".git").build(), root);
+
+        assertEquals(Arrays.asList("/u/me/src/A.java", "/u/me/src/sub/B.java"), paths());
+        verify(unixFilesService, never()).listUnixDirectory("/u/me/.git", LINK);
+    }
+
+    @Test
+    public void walk_should_match_globs_with_a_slash_against_relative_paths() throws Exception {
+        UnixDirectoryAttributesWithChildren root = mockTree();
+
+        walk(UnixDirectoryTreeRequest.builder().path("/u/me").depth(5).maxEntries(100).include("src/*").build(), root);
+
+        assertEquals(Arrays.asList("/u/me/src/A.java", "/u/me/src/sub"), paths());
+    }
+
+    @Test
+    public void walk_should_stop_at_max_entries() throws Exception {
+        UnixDirectoryAttributesWithChildren root = mockTree();
+
+        int count = walk(UnixDirectoryTreeRequest.builder().path("/u/me").depth(5).maxEntries(4).build(), root);
+
+        assertEquals(4, count);
+        assertEquals(5, entries.size());
+        UnixDirectoryTreeEntry last = entries.get(4);
+        assertEquals("/u/me", last.getPath());
+        assertEquals("Listing stopped after 4 entries", last.getError());
+    }
+
+    @Test
+    public void walk_should_wait_for_running_listings_and_skip_queued_ones_when_stopped() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        when(unixFilesService.listUnixDirectory("/u/me/d0", LINK)).thenReturn(listing(file("a"), file("b")));
+        when(unixFilesService.listUnixDirectory("/u/me/d1", LINK)).thenAnswer(invocation -> {
+            running.incrementAndGet();
+            Thread.sleep(100);
+            running.decrementAndGet();
+            return listing(file("c"));
+        });
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            UnixDirectoryTreeRequest request = UnixDirectoryTreeRequest.builder().path("/u/me").depth(2)
+                .maxEntries(5).build();
+            int count = new UnixDirectoryTreeWalker(unixFilesService, executor, 3).walk(request,
+                    listing(directory("d0"), directory("d1"), directory("d2"), directory("d3")), LINK, entries::add);
+
+            assertEquals(5, count);
+            assertEquals(0, running.get());
+            verify(unixFilesService, never()).listUnixDirectory("/u/me/d2", LINK);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void walk_should_report_directories_that_cannot_be_listed_and_continue() throws Exception {
+        UnixDirectoryAttributesWithChildren root = mockTree();
+        ApiError error = ApiError.builder().status(HttpStatus.FORBIDDEN).message("Not authorised").build();
+        when(unixFilesService.listUnixDirectory("/u/me/src", LINK)).thenThrow(new ZoweApiErrorException(error));
+
+        walk(UnixDirectoryTreeRequest.builder().path("/u/me").depth(5).maxEntries(100).build(), root);
+
+        assertEquals(Arrays.asList("/u/me/.git", "/u/me/.git/HEAD", "/u/me/README.md", "/u/me/src", "/u/me/src"),
+                paths());
+        UnixDirectoryTreeEntry failed = entries.stream().filter(entry -> entry.getError() != null).findFirst().get();
+        assertEquals("/u/me/src", failed.getPath());
+        assertEquals("Not authorised", failed.getError());
+    }
+
+    @Test
+    public void walk_should_list_directories_in_parallel_up_to_the_limit() throws Exception {
+        List<UnixDirectoryChild> children = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            children.add(directory("dir" + i));
+        }
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(unixFilesService.listUnixDirectory(anyString(), eq(LINK))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(20);
+            running.decrementAndGet();
+            return listing(file("file"));
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            UnixDirectoryTreeRequest request = UnixDirectoryTreeRequest.builder().path("/u/me").depth(2)
+                .maxEntries(100).build();
+            int count = new UnixDirectoryTreeWalker(unixFilesService, executor, 3).walk(request,
+                    listing(children.toArray(new UnixDirectoryChild[0])), LINK, entries::add);
+
+            assertEquals(40, count);
+            assertTrue("listed " + maxRunning.get() + " at once", maxRunning.get() <= 3);
+            assertTrue("listed " + maxRunning.get() + " at once", maxRunning.get() > 1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -24,7 +24,10 @@ import java.util.ArrayList;
 import java.util.Base64;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class GetUnixFileContentZosmfRunnerTest extends AbstractZosmfRequestRunnerTest {
@@ -68,6 +71,23 @@ public class GetUnixFileContentZosmfRunnerTest extends AbstractZosmfRequestRunne
         get_unix_file_content_should_call_zosmf_and_parse_response_correctly(true);
     }
     
+    @Test
+    public void get_unix_file_content_with_matching_etag_should_return_not_modified() throws Exception {
+        String path = "/u/directory/file.txt";
+        String eTag = "E1B212479173E273A8ACFD682BCBEADE";
+
+        mockTextResponse(HttpStatus.SC_NOT_MODIFIED, "");
+        RequestBuilder requestBuilder = mockGetBuilder(String.format("restfiles/fs%s", path));
+        when(zosmfConnector.executeRequest(requestBuilder)).thenReturn(response);
+
+        GetUnixFileContentZosmfRunner runner = new GetUnixFileContentZosmfRunner(path, false, false, "\"" + eTag + "\"",
+                new ArrayList<>());
+        assertNull(runner.run(zosmfConnector));
+        assertTrue(runner.isNotModified());
+        verifyInteractions(requestBuilder, false);
+        verify(requestBuilder).addHeader("If-None-Match", eTag);
+    }
+    
     @Test
     public void get_unix_file_content_throws_unauthorised_file_error_message() throws Exception {
         String path = "/not/auth/oris.ed";
@@ -12,6 +12,7 @@ package org.zowe.unix.files.services.zosmf;
 
 import org.apache.http.Header;
 import org.apache.http.message.BasicHeader;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -19,9 +20,14 @@ import org.mockito.Mock;
 import org.powermock.api.mockito.PowerMockito;
 import org.powermock.core.classloader.annotations.PrepareForTest;
 import org.powermock.modules.junit4.PowerMockRunner;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 import org.zowe.api.common.connectors.zosmf.ZosmfConnectorLtpaAuth;
 import org.zowe.api.common.exceptions.ZoweApiRestException;
 import org.zowe.api.common.test.ZoweApiTest;
+import org.zowe.cache.SingleFlight;
+import org.zowe.cache.UserScopedKey;
+import org.zowe.unix.files.exceptions.FileNotFoundException;
 import org.zowe.unix.files.exceptions.UnauthorisedDirectoryException;
 import org.zowe.unix.files.model.UnixCreateAssetRequest;
 import org.zowe.unix.files.model.UnixEntityType;
@@ -31,9 +37,14 @@ import org.zowe.unix.files.model.UnixFileContentWithETag;
 import javax.servlet.http.HttpServletRequest;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.Assert.*;
 import static org.mockito.Mockito.*;
@@ -56,6 +67,11 @@ public class ZosmfUnixFileServiceTest extends ZoweApiTest {
         zosmfUnixFilesService.zosmfConnector = zosmfConnector;
     }    
     
+    @After
+    public void resetRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+    
     @Test
     public void testGetUnixDirectoryListRunnerValueCorrectlyReturned() throws Exception {
         ListUnixDirectoryZosmfRunner runner = mock(ListUnixDirectoryZosmfRunner.class);
@@ -84,6 +100,19 @@ public class ZosmfUnixFileServiceTest extends ZoweApiTest {
         verify(runner).run(zosmfConnector);
     }
     
+    @Test
+    public void testGetUnixFileContentIfNoneMatchReturnsNotModified() throws Exception {
+        String eTag = "\"E1B212479173E273A8ACFD682BCBEADE\"";
+        GetUnixFileContentZosmfRunner runner = mock(GetUnixFileContentZosmfRunner.class);
+        when(runner.isNotModified()).thenReturn(true);
+        PowerMockito.whenNew(GetUnixFileContentZosmfRunner.class).withArguments(UNIX_PATH, false, false, eTag, new ArrayList<>())
+            .thenReturn(runner);
+
+        assertEquals(new UnixFileContentWithETag(null, eTag),
+                zosmfUnixFilesService.getUnixFileContentWithETag(UNIX_PATH, false, false, eTag));
+        verify(runner).run(zosmfConnector);
+    }
+    
     @Test
     public void testGetUnixFileContentZosmfRunnerExceptionThrown() throws Exception {
         ZoweApiRestException expectedException = new UnauthorisedDirectoryException(UNIX_PATH);
@@ -116,6 +145,92 @@ public class ZosmfUnixFileServiceTest extends ZoweApiTest {
         shouldThrow(expectedException, () -> zosmfUnixFilesService.putUnixFileContent(UNIX_PATH, UNIX_FILE_CONTENT, false));
     }
     
+    @Test
+    public void testUpdateUnixFileContentUsesChtagAndPutWithoutDownloadingContent() throws Exception {
+        GetUnixFileChtagZosmfRunner chtagRunner = mockUpdateRunners("t ISO8859-1 T=on", true);
+
+        assertEquals("newEtag", zosmfUnixFilesService.updateUnixFileContent(UNIX_PATH, UNIX_FILE_CONTENT, null));
+
+        verify(chtagRunner, times(1)).run(zosmfConnector);
+        PowerMockito.verifyNew(GetUnixFileChtagZosmfRunner.class, times(1)).withArguments(UNIX_PATH, new ArrayList<>());
+        PowerMockito.verifyNew(PutUnixFileContentZosmfRunner.class, times(1))
+            .withArguments(UNIX_PATH, UNIX_FILE_CONTENT, true, new ArrayList<>());
+    }
+
+    @Test
+    public void testUpdateUnixFileContentWithExplicitConvertStillChecksExistence() throws Exception {
+        GetUnixFileChtagZosmfRunner chtagRunner = mockUpdateRunners("t ISO8859-1 T=on", false);
+
+        assertEquals("newEtag", zosmfUnixFilesService.updateUnixFileContent(UNIX_PATH, UNIX_FILE_CONTENT, false));
+
+        verify(chtagRunner, times(1)).run(zosmfConnector);
+        PowerMockito.verifyNew(PutUnixFileContentZosmfRunner.class, times(1))
+            .withArguments(UNIX_PATH, UNIX_FILE_CONTENT, false, new ArrayList<>());
+    }
+
+    @Test
+    public void testUpdateUnixFileContentForMissingFileDoesNotWrite() throws Exception {
+        ZoweApiRestException expectedException = new FileNotFoundException(UNIX_PATH);
+        GetUnixFileChtagZosmfRunner chtagRunner = mock(GetUnixFileChtagZosmfRunner.class);
+        PowerMockito.whenNew(GetUnixFileChtagZosmfRunner.class).withArguments(UNIX_PATH, new ArrayList<>()).thenReturn(chtagRunner);
+        when(chtagRunner.run(zosmfConnector)).thenThrow(expectedException);
+        PowerMockito.whenNew(PutUnixFileContentZosmfRunner.class).withAnyArguments()
+            .thenThrow(new AssertionError("Missing file must not be written"));
+
+        shouldThrow(expectedException, () -> zosmfUnixFilesService.updateUnixFileContent(UNIX_PATH, UNIX_FILE_CONTENT, null));
+    }
+
+    @Test
+    public void testWriteForgetsOverlappingReadsInFlightForEveryUser() throws Exception {
+        SingleFlight<UserScopedKey<List<Object>>, Object> singleFlight = zosmfUnixFilesService.getSingleFlight();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        try {
+            List<UserScopedKey<List<Object>>> keys = Arrays.asList(
+                    UserScopedKey.forCurrentUser(Arrays.asList(Object.class, Arrays.asList("/u/ibmuser/"), Collections.emptyList())),
+                    UserScopedKey.forCurrentUser(Arrays.asList(Object.class, Arrays.asList("/u/ibmuser/dir"), Collections.emptyList())),
+                    UserScopedKey.forCurrentUser(Arrays.asList(Object.class, Arrays.asList("/u/ibmuser/dir/file"), Collections.emptyList())),
+                    UserScopedKey.forCurrentUser(Arrays.asList(Object.class, Arrays.asList("/u/ibmuser/dir2"), Collections.emptyList())),
+                    new UserScopedKey<>("user:other", Arrays.asList(Object.class, Arrays.asList("/u/ibmuser/dir"), Collections.emptyList())),
+                    new UserScopedKey<>("user:other", Arrays.asList(Object.class, Arrays.asList("/u/ibmuser/dir2"), Collections.emptyList())));
+            for (UserScopedKey<List<Object>> key : keys) {
+                executor.submit(() -> singleFlight.execute(key, () -> {
+                    try {
+                        return release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return false;
+                    }
+                }));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (singleFlight.inFlightCount() < keys.size()) {
+                assertTrue("reads did not start", System.nanoTime() < deadline);
+                Thread.sleep(5);
+            }
+
+            zosmfUnixFilesService.invalidateChtag("/u/ibmuser/dir", true);
+
+            assertEquals(2, singleFlight.inFlightCount());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private GetUnixFileChtagZosmfRunner mockUpdateRunners(String codepage, boolean convert) throws Exception {
+        PowerMockito.whenNew(GetUnixFileContentZosmfRunner.class).withAnyArguments()
+            .thenThrow(new AssertionError("File content must not be downloaded to update it"));
+        GetUnixFileChtagZosmfRunner chtagRunner = mock(GetUnixFileChtagZosmfRunner.class);
+        PowerMockito.whenNew(GetUnixFileChtagZosmfRunner.class).withArguments(UNIX_PATH, new ArrayList<>()).thenReturn(chtagRunner);
+        when(chtagRunner.run(zosmfConnector)).thenReturn(codepage);
+        PutUnixFileContentZosmfRunner putRunner = mock(PutUnixFileContentZosmfRunner.class);
+        PowerMockito.whenNew(PutUnixFileContentZosmfRunner.class).withArguments(UNIX_PATH, UNIX_FILE_CONTENT, convert, new ArrayList<>())
+            .thenReturn(putRunner);
+        when(putRunner.run(zosmfConnector)).thenReturn("newEtag");
+        return chtagRunner;
+    }
+
     @Test
     public void testShouldUnixFileConvertShouldReturnTrueForISO8859() throws Exception {
         setupTestShouldUnixFileConvert("ISO8859-1");
@@ -165,6 +280,59 @@ public class ZosmfUnixFileServiceTest extends ZoweApiTest {
         shouldThrow(expectedException, () -> zosmfUnixFilesService.getUnixFileChtag(UNIX_PATH));
     }
     
+    @Test
+    public void testGetUnixFileChtagIsCachedForRepeatedLookups() throws Exception {
+        GetUnixFileChtagZosmfRunner runner = mock(GetUnixFileChtagZosmfRunner.class);
+        PowerMockito.whenNew(GetUnixFileChtagZosmfRunner.class).withArguments(UNIX_PATH, new ArrayList<>()).thenReturn(runner);
+        when(runner.run(zosmfConnector)).thenReturn("t ISO8859-1 T=on");
+
+        assertEquals("t ISO8859-1 T=on", zosmfUnixFilesService.getUnixFileChtag(UNIX_PATH));
+        assertTrue(zosmfUnixFilesService.shouldUnixFileConvert(UNIX_PATH));
+
+        verify(runner, times(1)).run(zosmfConnector);
+        assertEquals(1, zosmfUnixFilesService.getChtagCache().getHitCount());
+        assertEquals(1, zosmfUnixFilesService.getChtagCache().getMissCount());
+    }
+
+    @Test
+    public void testGetUnixFileChtagIsReloadedAfterPut() throws Exception {
+        GetUnixFileChtagZosmfRunner chtagRunner = mock(GetUnixFileChtagZosmfRunner.class);
+        PowerMockito.whenNew(GetUnixFileChtagZosmfRunner.class).withArguments(UNIX_PATH, new ArrayList<>()).thenReturn(chtagRunner);
+        when(chtagRunner.run(zosmfConnector)).thenReturn("t ISO8859-1 T=on");
+        PutUnixFileContentZosmfRunner putRunner = mock(PutUnixFileContentZosmfRunner.class);
+        PowerMockito.whenNew(PutUnixFileContentZosmfRunner.class).withArguments(UNIX_PATH, UNIX_FILE_CONTENT, true, new ArrayList<>())
+            .thenReturn(putRunner);
+
+        zosmfUnixFilesService.getUnixFileChtag(UNIX_PATH);
+        zosmfUnixFilesService.putUnixFileContent(UNIX_PATH, UNIX_FILE_CONTENT, true);
+        zosmfUnixFilesService.getUnixFileChtag(UNIX_PATH);
+
+        verify(chtagRunner, times(2)).run(zosmfConnector);
+    }
+
+    @Test
+    public void testGetUnixFileChtagIsReloadedAfterDeleteOfParentDirectory() throws Exception {
+        String childPath = UNIX_PATH + "/child.txt";
+        String siblingPath = UNIX_PATH + "sibling.txt";
+        GetUnixFileChtagZosmfRunner childRunner = mock(GetUnixFileChtagZosmfRunner.class);
+        PowerMockito.whenNew(GetUnixFileChtagZosmfRunner.class).withArguments(childPath, new ArrayList<>()).thenReturn(childRunner);
+        when(childRunner.run(zosmfConnector)).thenReturn("t UTF-8 T=on");
+        GetUnixFileChtagZosmfRunner siblingRunner = mock(GetUnixFileChtagZosmfRunner.class);
+        PowerMockito.whenNew(GetUnixFileChtagZosmfRunner.class).withArguments(siblingPath, new ArrayList<>()).thenReturn(siblingRunner);
+        when(siblingRunner.run(zosmfConnector)).thenReturn("t IBM-1047 T=on");
+        DeleteUnixFileZosmfRunner deleteRunner = mock(DeleteUnixFileZosmfRunner.class);
+        PowerMockito.whenNew(DeleteUnixFileZosmfRunner.class).withArguments(UNIX_PATH, true, new ArrayList<>()).thenReturn(deleteRunner);
+
+        zosmfUnixFilesService.getUnixFileChtag(childPath);
+        zosmfUnixFilesService.getUnixFileChtag(siblingPath);
+        zosmfUnixFilesService.deleteUnixFileContent(UNIX_PATH, true);
+        zosmfUnixFilesService.getUnixFileChtag(childPath);
+        zosmfUnixFilesService.getUnixFileChtag(siblingPath);
+
+        verify(childRunner, times(2)).run(zosmfConnector);
+        verify(siblingRunner, times(1)).run(zosmfConnector);
+    }
+
     @Test
     public void testDeleteUnixFileZosmfRunnerCorrectResponse() throws Exception {
         DeleteUnixFileZosmfRunner runner = mock(DeleteUnixFileZosmfRunner.class);
@@ -219,7 +387,7 @@ public class ZosmfUnixFileServiceTest extends ZoweApiTest {
         Enumeration<String> enumerationHeaderNames = Collections.enumeration(headerNames); 
 
         HttpServletRequest request = mock(HttpServletRequest.class);
-        zosmfUnixFilesService.setRequest(request);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
 
         when(request.getHeaderNames()).thenReturn(enumerationHeaderNames);
         request = mockRequestGetHeaders(testHeaders, request);
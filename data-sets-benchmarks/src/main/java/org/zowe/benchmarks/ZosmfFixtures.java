@@ -0,0 +1,98 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.benchmarks;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.apache.http.Header;
+import org.apache.http.HttpVersion;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.message.BasicHttpResponse;
+import org.zowe.api.common.utils.ResponseCache;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Builds z/OSMF responses of a given size from the recorded responses in
+ * zosmfResponses
+ */
+public final class ZosmfFixtures {
+
+    private ZosmfFixtures() {
+    }
+
+    /**
+     * Scales a recorded list response up to count items by repeating its items,
+     * suffixing nameField so every name is unique. The "." and ".." entries of a
+     * Unix directory listing are kept once, at the front, as z/OSMF returns them.
+     */
+    public static String listing(String fixture, String nameField, int count) throws IOException {
+        JsonObject recorded = load(fixture);
+        List<JsonObject> repeated = new ArrayList<>();
+        JsonArray items = new JsonArray();
+        for (JsonElement element : recorded.getAsJsonArray("items")) {
+            JsonObject item = element.getAsJsonObject();
+            String name = item.get(nameField).getAsString();
+            if (".".equals(name) || "..".equals(name)) {
+                items.add(item);
+            } else {
+                repeated.add(item);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            JsonObject item = repeated.get(i % repeated.size()).deepCopy();
+            item.addProperty(nameField, item.get(nameField).getAsString() + i);
+            items.add(item);
+        }
+        recorded.add("items", items);
+        recorded.addProperty("returnedRows", items.size());
+        recorded.addProperty("totalRows", items.size());
+        return recorded.toString();
+    }
+
+    /**
+     * Base64 encoded text of the given size, as returned for a file read with
+     * X-IBM-Data-Type: binary
+     */
+    public static String base64Content(int size) {
+        byte[] content = new byte[size];
+        String line = "//STEVENHJ JOB (ACCT),'BENCHMARK',CLASS=A,MSGCLASS=X,NOTIFY=&SYSUID\n";
+        for (int i = 0; i < size; i++) {
+            content[i] = (byte) line.charAt(i % line.length());
+        }
+        return Base64.getEncoder().encodeToString(content);
+    }
+
+    public static ResponseCache response(String body, Header... headers) throws IOException {
+        BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 200, "OK");
+        response.setEntity(new StringEntity(body, ContentType.APPLICATION_JSON));
+        response.setHeaders(headers);
+        return new ResponseCache(response);
+    }
+
+    private static JsonObject load(String fixture) throws IOException {
+        try (InputStream in = ZosmfFixtures.class.getResourceAsStream("/zosmfResponses/" + fixture);
+                Reader reader = new InputStreamReader(in, StandardCharsets.UTF_8)) {
+            return JsonParser.parseReader(reader).getAsJsonObject();
+        }
+    }
+}
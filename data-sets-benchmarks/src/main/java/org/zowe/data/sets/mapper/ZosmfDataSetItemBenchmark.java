@@ -0,0 +1,94 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.mapper;
+
+import com.google.gson.stream.JsonReader;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.zowe.benchmarks.ZosmfFixtures;
+import org.zowe.data.sets.model.DataSetAttributes;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-item cost of {@link ZosmfDataSetItem}, the mapping the list runners use:
+ * reading each item of a listing and converting it, and converting items that
+ * have already been read
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ZosmfDataSetItemBenchmark {
+
+    @Param({ "1000", "10000" })
+    private int items;
+
+    private String listing;
+    private List<ZosmfDataSetItem> readItems;
+
+    @Setup
+    public void setUp() throws IOException {
+        listing = ZosmfFixtures.listing("dataSetAttributes.json", "dsname", items);
+        readItems = new ArrayList<>(items);
+        try (JsonReader reader = itemsReader()) {
+            while (reader.hasNext()) {
+                readItems.add(ZosmfDataSetItem.read(reader));
+            }
+        }
+    }
+
+    private JsonReader itemsReader() throws IOException {
+        JsonReader reader = new JsonReader(new StringReader(listing));
+        reader.beginObject();
+        while (!"items".equals(reader.nextName())) {
+            reader.skipValue();
+        }
+        reader.beginArray();
+        return reader;
+    }
+
+    @Benchmark
+    public List<DataSetAttributes> readAndMap() throws IOException {
+        List<DataSetAttributes> dataSets = new ArrayList<>(items);
+        try (JsonReader reader = itemsReader()) {
+            while (reader.hasNext()) {
+                dataSets.add(ZosmfDataSetItem.read(reader).toDataSetAttributes());
+            }
+        }
+        return dataSets;
+    }
+
+    @Benchmark
+    public List<DataSetAttributes> toDataSetAttributes() {
+        List<DataSetAttributes> dataSets = new ArrayList<>(items);
+        for (ZosmfDataSetItem item : readItems) {
+            dataSets.add(item.toDataSetAttributes());
+        }
+        return dataSets;
+    }
+}
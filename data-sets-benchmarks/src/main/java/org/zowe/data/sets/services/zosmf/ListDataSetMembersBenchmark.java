@@ -0,0 +1,58 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services.zosmf;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.benchmarks.ZosmfFixtures;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing a z/OSMF member list response with
+ * {@link ListDataSetMembersZosmfRequestRunner#getResult}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListDataSetMembersBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int members;
+
+    private ResponseCache responseCache;
+
+    @Setup
+    public void setUp() throws IOException {
+        responseCache = ZosmfFixtures.response(ZosmfFixtures.listing("members.json", "member", members));
+    }
+
+    @Benchmark
+    public ItemsWrapper<String> getResult() throws IOException {
+        return new ListDataSetMembersZosmfRequestRunner("BENCH.LOADLIB", new ArrayList<>()).getResult(responseCache);
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.services.zosmf;
+
+import com.google.gson.JsonElement;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.zowe.api.common.model.ItemsWrapper;
+import org.zowe.benchmarks.ZosmfFixtures;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.data.sets.mapper.DataSetMapper;
+import org.zowe.data.sets.model.DataSetAttributes;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares mapping a z/OSMF data set attributes listing by building a Gson tree
+ * and walking it with {@link DataSetMapper} against the streaming
+ * {@link ListDataSetsAttributesZosmfRequestRunner#getResult}. The Gson tree
+ * path is the mapping the runners used before streaming and is kept only as
+ * this comparison's baseline. Run with {@code -prof gc} to compare allocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListDataSetsBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    private int items;
+
+    private ResponseCache responseCache;
+
+    @Setup
+    public void setUp() throws IOException {
+        responseCache = ZosmfFixtures.response(ZosmfFixtures.listing("dataSetAttributes.json", "dsname", items));
+    }
+
+    @Benchmark
+    public ItemsWrapper<DataSetAttributes> gsonTree() {
+        List<DataSetAttributes> dataSets = new ArrayList<>();
+        for (JsonElement jsonElement : responseCache.getEntityAsJsonObject().getAsJsonArray("items")) {
+            dataSets.add(DataSetMapper.INSTANCE.zosToDataSetAttributesDTO(jsonElement.getAsJsonObject()));
+        }
+        return new ItemsWrapper<>(dataSets);
+    }
+
+    @Benchmark
+    public ItemsWrapper<DataSetAttributes> streaming() throws IOException {
+        return new ListDataSetsAttributesZosmfRequestRunner("BENCH.**", new ArrayList<>()).getResult(responseCache);
+    }
+}
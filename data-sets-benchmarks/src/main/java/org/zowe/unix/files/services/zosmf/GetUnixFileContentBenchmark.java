@@ -0,0 +1,61 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.services.zosmf;
+
+import org.apache.http.message.BasicHeader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.zowe.api.common.utils.ResponseCache;
+import org.zowe.benchmarks.ZosmfFixtures;
+import org.zowe.unix.files.model.UnixFileContentWithETag;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Base64 decoding of a file read in binary mode by
+ * {@link GetUnixFileContentZosmfRunner#getResult}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetUnixFileContentBenchmark {
+
+    @Param({ "65536", "1048576", "8388608" })
+    private int size;
+
+    private ResponseCache responseCache;
+
+    @Setup
+    public void setUp() throws IOException {
+        responseCache = ZosmfFixtures.response(ZosmfFixtures.base64Content(size),
+                new BasicHeader("ETag", "\"E1B212A4F05A7C0D8A9D2B5E4C3F1A60\""));
+    }
+
+    @Benchmark
+    public UnixFileContentWithETag decode() throws IOException {
+        return new GetUnixFileContentZosmfRunner("/u/bench/file.jcl", true, true, new ArrayList<>())
+            .getResult(responseCache);
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@JsonInclude(Include.NON_NULL)
+@Schema(title = "DataSetAttributesBatchRequest", description = "Data set names to look up the attributes of")
+public class DataSetAttributesBatchRequest {
+
+    @Schema(description = "Fully qualified data set names", requiredMode = Schema.RequiredMode.REQUIRED, example = "[\"HLQ.ZOWE.JCL\", \"HLQ.ZOWE.LOAD\"]")
+    private List<String> names;
+}
@@ -0,0 +1,43 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@JsonInclude(Include.NON_NULL)
+@Schema(title = "DataSetAttributesResult", description = "The attributes of one data set of a batch lookup, or why they could not be found")
+public class DataSetAttributesResult {
+
+    @Schema(description = "Data set name as requested", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String name;
+
+    @Schema(description = "HTTP status of the lookup, e.g. OK or NOT_FOUND", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String status;
+
+    @Schema(description = "Attributes of the data set")
+    private DataSetAttributes attributes;
+
+    @Schema(description = "Why the attributes could not be found")
+    private String message;
+}
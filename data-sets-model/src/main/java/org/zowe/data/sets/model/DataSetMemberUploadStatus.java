@@ -0,0 +1,46 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@JsonInclude(Include.NON_NULL)
+@Schema(title = "DataSetMemberUploadStatus", description = "The outcome of writing one member of an uploaded archive")
+public class DataSetMemberUploadStatus {
+
+    @Schema(description = "Name of the archive entry", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String entry;
+
+    @Schema(description = "Member the entry was written to, absent if the entry name is not a valid member name")
+    private String member;
+
+    @Schema(description = "HTTP status of the write, e.g. OK or FORBIDDEN", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String status;
+
+    @Schema(description = "ETag of the written member")
+    private String etag;
+
+    @Schema(description = "Why the member could not be written")
+    private String message;
+}
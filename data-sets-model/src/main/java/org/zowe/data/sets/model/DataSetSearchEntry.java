@@ -0,0 +1,40 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+
+@JsonInclude(Include.NON_NULL)
+@Schema(title = "DataSetSearchEntry", description = "A data set found by one of several filters, or a filter that could not be listed")
+public class DataSetSearchEntry {
+
+    @Schema(description = "The first filter that found the data set", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String filter;
+
+    @Schema(description = "Attributes of the data set")
+    private DataSetAttributes attributes;
+
+    @Schema(description = "Why the filter could not be listed, or why its listing may be incomplete")
+    private String error;
+}
@@ -0,0 +1,42 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.data.sets.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+
+@JsonInclude(Include.NON_NULL)
+@Schema(title = "PagedItemsWrapper", description = "A page of items, with the cursor to request the next page")
+public class PagedItemsWrapper<T> {
+
+    @Schema(description = "Items on this page")
+    private List<T> items;
+    @Schema(description = "Pass as start to request the next page, absent on the last page")
+    private String next;
+    @Schema(description = "Total number of matching items reported by z/OSMF, if known")
+    private Integer totalRows;
+
+    public PagedItemsWrapper(List<T> items) {
+        this(items, null, null);
+    }
+}
@@ -0,0 +1,18 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema
+public enum UnixDeleteJobState {
+    RUNNING, CANCELLING, COMPLETED, FAILED, CANCELLED
+}
@@ -0,0 +1,60 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+
+@JsonInclude(Include.NON_NULL)
+@Schema(title = "UnixDeleteJobStatus", description = "Progress of a recursive Unix delete running in the background")
+public class UnixDeleteJobStatus {
+
+    @Schema(description = "Job id", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String id;
+
+    @Schema(description = "Path being deleted", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String path;
+
+    @Schema(description = "State", requiredMode = Schema.RequiredMode.REQUIRED)
+    private UnixDeleteJobState state;
+
+    @Schema(description = "Files and directories found so far, including the path itself", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer found;
+
+    @Schema(description = "Files and directories deleted so far", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer deleted;
+
+    @Schema(description = "Files and directories that could not be listed or deleted", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Integer failed;
+
+    @Schema(description = "The first errors, with the path they occurred on")
+    private List<String> errors;
+
+    @Schema(description = "When the job started")
+    private String started;
+
+    @Schema(description = "When the job finished")
+    private String finished;
+}
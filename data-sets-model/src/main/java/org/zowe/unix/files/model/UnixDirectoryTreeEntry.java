@@ -0,0 +1,52 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.unix.files.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+
+@JsonInclude(Include.NON_NULL)
+@Schema(title = "UnixDirectoryTreeEntry", description = "A file or directory found listing a Unix directory tree")
+public class UnixDirectoryTreeEntry {
+
+    @Schema(description = "Absolute path", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String path;
+
+    @Schema(description = "Levels below the listed directory, starting at 1 for its children")
+    private Integer depth;
+
+    @Schema(description = "type")
+    private UnixEntityType type;
+
+    @Schema(description = "size")
+    private Integer size;
+
+    @Schema(description = "lastModified")
+    private String lastModified;
+
+    @Schema(description = "Link")
+    private String link;
+
+    @Schema(description = "Why the directory at path could not be listed, or why the listing stopped there")
+    private String error;
+}
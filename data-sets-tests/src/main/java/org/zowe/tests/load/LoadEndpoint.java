@@ -0,0 +1,77 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.load;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One request in the load test mix
+ */
+public class LoadEndpoint {
+
+    private final String name;
+    private final String method;
+    private final String path;
+    private final String body;
+
+    public LoadEndpoint(String name, String method, String path, String body) {
+        this.name = name;
+        this.method = method;
+        this.path = path;
+        this.body = body;
+    }
+
+    /**
+     * The data sets and Unix files requests, against data sets under hlq and
+     * files in home, as generated by the fake z/OSMF with its default settings
+     */
+    public static List<LoadEndpoint> defaults(String hlq, String home) {
+        String pds = hlq + ".DATA.DS00000";
+        String sequential = hlq + ".DATA.DS00001";
+        String records = "{\"records\":\"//LOADTEST JOB (ACCT),'LOAD TEST',CLASS=A,MSGCLASS=X\\n\"}";
+        String content = "{\"content\":\"load test content\\n\"}";
+
+        List<LoadEndpoint> endpoints = new ArrayList<>();
+        endpoints.add(new LoadEndpoint("datasets.attributes", "GET", "/api/v2/datasets/" + hlq + ".**", null));
+        endpoints.add(new LoadEndpoint("datasets.list", "GET", "/api/v2/datasets/" + hlq + ".**/list", null));
+        endpoints.add(new LoadEndpoint("datasets.members", "GET", "/api/v2/datasets/" + pds + "/members", null));
+        endpoints.add(new LoadEndpoint("datasets.content.get", "GET", "/api/v2/datasets/" + sequential + "/content",
+                null));
+        endpoints.add(new LoadEndpoint("datasets.content.put", "PUT", "/api/v2/datasets/" + hlq
+                + ".DATA.DS00002/content", records));
+        endpoints.add(new LoadEndpoint("unixfiles.list", "GET", "/api/v2/unixfiles?path=" + home, null));
+        endpoints.add(new LoadEndpoint("unixfiles.content.get", "GET", "/api/v2/unixfiles" + home + "/file00001.txt",
+                null));
+        endpoints.add(new LoadEndpoint("unixfiles.content.put", "PUT", "/api/v2/unixfiles" + home + "/file00002.txt",
+                content));
+        return endpoints;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * JSON request body, or null
+     */
+    public String getBody() {
+        return body;
+    }
+}
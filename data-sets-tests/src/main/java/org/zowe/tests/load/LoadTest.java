@@ -0,0 +1,226 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.load;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+import org.apache.http.HttpHeaders;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.NoopHostnameVerifier;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.conn.ssl.TrustAllStrategy;
+import org.apache.http.entity.ContentType;
+import org.apache.http.entity.StringEntity;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.ssl.SSLContexts;
+import org.apache.http.util.EntityUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Drives the API server with a closed loop of concurrent clients, each cycling
+ * through the endpoints, and reports the latency percentiles and throughput of
+ * each endpoint as JSON. Intended to be run against the API server backed by
+ * the fake z/OSMF, see runApiServerWithFakeZosmf.
+ */
+public class LoadTest {
+
+    private static final double[] PERCENTILES = { 50, 95, 99 };
+
+    private final LoadTestConfig config;
+    private final List<LoadEndpoint> endpoints;
+    private final Map<String, LatencyStats> stats = new LinkedHashMap<>();
+    private final String authorization;
+    private long measuredNanos;
+
+    public LoadTest(LoadTestConfig config, List<LoadEndpoint> endpoints) {
+        this.config = config;
+        this.endpoints = endpoints;
+        for (LoadEndpoint endpoint : endpoints) {
+            stats.put(endpoint.getName(), new LatencyStats());
+        }
+        String credentials = config.getUsername() + ":" + config.getPassword();
+        authorization = "Basic " + Base64.getEncoder().encodeToString(credentials.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        List<LoadEndpoint> endpoints = LoadEndpoint.defaults(config.getHlq(), config.getHome());
+        if (config.getEndpoints() != null) {
+            List<String> names = Arrays.asList(config.getEndpoints().split(","));
+            endpoints.removeIf(endpoint -> !names.contains(endpoint.getName()));
+        }
+
+        LoadTest loadTest = new LoadTest(config, endpoints);
+        JsonObject report = loadTest.run();
+
+        File reportFile = new File(config.getReport());
+        if (reportFile.getParentFile() != null) {
+            reportFile.getParentFile().mkdirs();
+        }
+        try (Writer writer = Files.newBufferedWriter(reportFile.toPath(), StandardCharsets.UTF_8)) {
+            new GsonBuilder().setPrettyPrinting().create().toJson(report, writer);
+        }
+        loadTest.printSummary();
+        System.out.println("Report written to " + reportFile.getAbsolutePath());
+    }
+
+    public JsonObject run() throws IOException, GeneralSecurityException, InterruptedException {
+        Instant startedAt = Instant.now();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.SECONDS.toNanos(config.getWarmupSeconds());
+        long end = measureFrom + TimeUnit.SECONDS.toNanos(config.getDurationSeconds());
+
+        ExecutorService clients = Executors.newFixedThreadPool(config.getConcurrency());
+        try (CloseableHttpClient httpClient = createHttpClient()) {
+            List<Future<?>> running = new ArrayList<>();
+            for (int i = 0; i < config.getConcurrency(); i++) {
+                int client = i;
+                running.add(clients.submit(() -> drive(httpClient, client, measureFrom, end)));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Load test client failed", e.getCause());
+        } finally {
+            clients.shutdownNow();
+        }
+        measuredNanos = Math.min(System.nanoTime(), end) - measureFrom;
+        return createReport(startedAt);
+    }
+
+    private void drive(CloseableHttpClient httpClient, int client, long measureFrom, long end) {
+        // start clients at different endpoints so the mix is even from the first request
+        int next = client % endpoints.size();
+        while (true) {
+            long started = System.nanoTime();
+            if (started >= end) {
+                return;
+            }
+            LoadEndpoint endpoint = endpoints.get(next);
+            next = (next + 1) % endpoints.size();
+            boolean success = send(httpClient, endpoint);
+            if (started >= measureFrom) {
+                stats.get(endpoint.getName()).record(System.nanoTime() - started, success);
+            }
+        }
+    }
+
+    private boolean send(CloseableHttpClient httpClient, LoadEndpoint endpoint) {
+        RequestBuilder request = RequestBuilder.create(endpoint.getMethod())
+            .setUri(config.getBaseUrl() + endpoint.getPath())
+            .addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        if (endpoint.getBody() != null) {
+            request.setEntity(new StringEntity(endpoint.getBody(), ContentType.APPLICATION_JSON));
+        }
+        try (CloseableHttpResponse response = httpClient.execute(request.build())) {
+            EntityUtils.consume(response.getEntity());
+            return response.getStatusLine().getStatusCode() < 400;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private CloseableHttpClient createHttpClient() throws GeneralSecurityException {
+        // local API servers use self signed certificates
+        SSLConnectionSocketFactory sslSocketFactory = new SSLConnectionSocketFactory(
+                SSLContexts.custom().loadTrustMaterial(null, TrustAllStrategy.INSTANCE).build(),
+                NoopHostnameVerifier.INSTANCE);
+        Registry<ConnectionSocketFactory> registry = RegistryBuilder.<ConnectionSocketFactory>create()
+            .register("http", PlainConnectionSocketFactory.getSocketFactory())
+            .register("https", sslSocketFactory)
+            .build();
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(registry);
+        connectionManager.setMaxTotal(config.getConcurrency());
+        connectionManager.setDefaultMaxPerRoute(config.getConcurrency());
+        return HttpClients.custom().setConnectionManager(connectionManager).build();
+    }
+
+    private JsonObject createReport(Instant startedAt) {
+        JsonObject report = new JsonObject();
+        report.addProperty("baseUrl", config.getBaseUrl());
+        report.addProperty("startedAt", startedAt.toString());
+        report.addProperty("concurrency", config.getConcurrency());
+        report.addProperty("warmupSeconds", config.getWarmupSeconds());
+        report.addProperty("durationSeconds", round(measuredNanos / 1e9));
+
+        JsonObject endpointReports = new JsonObject();
+        LatencyStats total = new LatencyStats();
+        for (LoadEndpoint endpoint : endpoints) {
+            LatencyStats endpointStats = stats.get(endpoint.getName());
+            JsonObject endpointReport = summarise(endpointStats);
+            endpointReport.addProperty("method", endpoint.getMethod());
+            endpointReport.addProperty("path", endpoint.getPath());
+            endpointReports.add(endpoint.getName(), endpointReport);
+            total.addAll(endpointStats);
+        }
+        report.add("endpoints", endpointReports);
+        report.add("total", summarise(total));
+        return report;
+    }
+
+    private JsonObject summarise(LatencyStats latencyStats) {
+        JsonObject summary = new JsonObject();
+        summary.addProperty("requests", latencyStats.getCount());
+        summary.addProperty("errors", latencyStats.getErrors());
+        summary.addProperty("requestsPerSecond", round(latencyStats.getCount() / (measuredNanos / 1e9)));
+        JsonObject latency = new JsonObject();
+        for (double percentile : PERCENTILES) {
+            latency.addProperty("p" + (int) percentile, round(latencyStats.percentileMs(percentile)));
+        }
+        latency.addProperty("mean", round(latencyStats.meanMs()));
+        latency.addProperty("max", round(latencyStats.maxMs()));
+        summary.add("latencyMs", latency);
+        return summary;
+    }
+
+    private void printSummary() {
+        System.out.println(String.format("%-24s %9s %7s %9s %9s %9s %9s", "endpoint", "requests", "errors", "req/s",
+                "p50 ms", "p95 ms", "p99 ms"));
+        for (Map.Entry<String, LatencyStats> entry : stats.entrySet()) {
+            LatencyStats endpointStats = entry.getValue();
+            System.out.println(String.format("%-24s %9d %7d %9.1f %9.2f %9.2f %9.2f", entry.getKey(),
+                    endpointStats.getCount(), endpointStats.getErrors(),
+                    endpointStats.getCount() / (measuredNanos / 1e9), endpointStats.percentileMs(50),
+                    endpointStats.percentileMs(95), endpointStats.percentileMs(99)));
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 1000) / 1000.0;
+    }
+}
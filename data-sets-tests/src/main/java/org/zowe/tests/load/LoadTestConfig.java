@@ -0,0 +1,105 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.load;
+
+import java.util.Properties;
+
+/**
+ * Settings for {@link LoadTest}, read from load.* properties
+ */
+public class LoadTestConfig {
+
+    public static final String PREFIX = "load.";
+
+    private final String baseUrl;
+    private final int concurrency;
+    private final int warmupSeconds;
+    private final int durationSeconds;
+    private final String username;
+    private final String password;
+    private final String endpoints;
+    private final String hlq;
+    private final String home;
+    private final String report;
+
+    public LoadTestConfig(Properties properties) {
+        baseUrl = properties.getProperty(PREFIX + "baseUrl", "https://localhost:8443");
+        concurrency = Integer.parseInt(properties.getProperty(PREFIX + "concurrency", "16"));
+        warmupSeconds = Integer.parseInt(properties.getProperty(PREFIX + "warmupSeconds", "5"));
+        durationSeconds = Integer.parseInt(properties.getProperty(PREFIX + "durationSeconds", "30"));
+        username = properties.getProperty(PREFIX + "username", "FAKE");
+        password = properties.getProperty(PREFIX + "password", "fake");
+        endpoints = properties.getProperty(PREFIX + "endpoints");
+        hlq = properties.getProperty(PREFIX + "hlq", "FAKE");
+        home = properties.getProperty(PREFIX + "home", "/u/fake");
+        report = properties.getProperty(PREFIX + "report", "build/reports/load-test.json");
+    }
+
+    public static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(System.getProperties());
+    }
+
+    /**
+     * Scheme, host and port of the API server, certificates are not checked
+     */
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    /**
+     * Number of clients, each sending its next request as soon as the last one
+     * completes
+     */
+    public int getConcurrency() {
+        return concurrency;
+    }
+
+    /**
+     * Time spent sending requests before measuring
+     */
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    /**
+     * Comma separated names of the endpoints to drive, or null for all of them
+     */
+    public String getEndpoints() {
+        return endpoints;
+    }
+
+    public String getHlq() {
+        return hlq;
+    }
+
+    public String getHome() {
+        return home;
+    }
+
+    /**
+     * File the JSON report is written to
+     */
+    public String getReport() {
+        return report;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.zosmf;
+
+import java.util.Properties;
+
+/**
+ * Settings for {@link FakeZosmfServer}, read from fake.zosmf.* properties
+ */
+public class FakeZosmfConfig {
+
+    public static final String PREFIX = "fake.zosmf.";
+
+    private final int port;
+    private final int threads;
+    private final long latencyMs;
+    private final long jitterMs;
+    private final int dataSets;
+    private final int members;
+    private final int files;
+    private final int contentSize;
+    private final String hlq;
+    private final String home;
+    private final String codepage;
+    private final String keyStore;
+    private final String keyStorePassword;
+    private final String keyStoreType;
+
+    public FakeZosmfConfig(Properties properties) {
+        port = getInt(properties, "port", 10443);
+        threads = getInt(properties, "threads", 64);
+        latencyMs = getInt(properties, "latencyMs", 0);
+        jitterMs = getInt(properties, "jitterMs", 0);
+        dataSets = getInt(properties, "dataSets", 1000);
+        members = getInt(properties, "members", 1000);
+        files = getInt(properties, "files", 1000);
+        contentSize = getInt(properties, "contentSize", 64 * 1024);
+        hlq = properties.getProperty(PREFIX + "hlq", "FAKE");
+        home = properties.getProperty(PREFIX + "home", "/u/fake");
+        codepage = properties.getProperty(PREFIX + "codepage", "IBM-1047");
+        keyStore = properties.getProperty(PREFIX + "keyStore");
+        keyStorePassword = properties.getProperty(PREFIX + "keyStorePassword", "password");
+        keyStoreType = properties.getProperty(PREFIX + "keyStoreType", "PKCS12");
+    }
+
+    public static FakeZosmfConfig fromSystemProperties() {
+        return new FakeZosmfConfig(System.getProperties());
+    }
+
+    private static int getInt(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(PREFIX + key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    /**
+     * Port to listen on, 0 for any free port
+     */
+    public int getPort() {
+        return port;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Delay added to every response
+     */
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    /**
+     * Upper bound of a random delay added on top of the latency
+     */
+    public long getJitterMs() {
+        return jitterMs;
+    }
+
+    /**
+     * Number of data sets under the HLQ, every tenth of which is a PDS
+     */
+    public int getDataSets() {
+        return dataSets;
+    }
+
+    /**
+     * Number of members in each PDS
+     */
+    public int getMembers() {
+        return members;
+    }
+
+    /**
+     * Number of files in the home directory
+     */
+    public int getFiles() {
+        return files;
+    }
+
+    /**
+     * Size in bytes of data set and file content that hasn't been written
+     */
+    public int getContentSize() {
+        return contentSize;
+    }
+
+    public String getHlq() {
+        return hlq;
+    }
+
+    public String getHome() {
+        return home;
+    }
+
+    /**
+     * Codepage reported by chtag for every file
+     */
+    public String getCodepage() {
+        return codepage;
+    }
+
+    /**
+     * Serve HTTPS with this key store, or plain HTTP if not set
+     */
+    public String getKeyStore() {
+        return keyStore;
+    }
+
+    public String getKeyStorePassword() {
+        return keyStorePassword;
+    }
+
+    public String getKeyStoreType() {
+        return keyStoreType;
+    }
+}
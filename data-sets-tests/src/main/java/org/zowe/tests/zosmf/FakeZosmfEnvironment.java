@@ -0,0 +1,42 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.zosmf;
+
+import org.zowe.DataSetsAndUnixFilesApplication;
+
+/**
+ * Starts a {@link FakeZosmfServer} and then the API server in the same JVM,
+ * pointed at it, for repeatable performance testing. The API server is
+ * configured as usual through system properties (server.port, server.ssl.*),
+ * with zosmf.ipAddress and zosmf.httpsPort defaulting to the fake server.
+ */
+public class FakeZosmfEnvironment {
+
+    private FakeZosmfEnvironment() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        FakeZosmfServer zosmf = new FakeZosmfServer(FakeZosmfConfig.fromSystemProperties());
+        zosmf.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(zosmf::stop));
+        System.out.println("Fake z/OSMF listening on port " + zosmf.getPort());
+
+        setDefault("zosmf.ipAddress", "localhost");
+        setDefault("zosmf.httpsPort", String.valueOf(zosmf.getPort()));
+        DataSetsAndUnixFilesApplication.main(args);
+    }
+
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+}
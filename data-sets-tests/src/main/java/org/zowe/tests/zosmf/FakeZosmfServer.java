@@ -0,0 +1,475 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.zosmf;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyStore;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+/**
+ * A stand-in for the z/OSMF restfiles API, serving the data sets and files of
+ * a {@link FakeZosmfStore} with configurable latency so the API server can be
+ * load tested without a mainframe. Only the requests the API server makes are
+ * supported: data set and member lists, data set content get/put/delete, and
+ * Unix directory list, file get/put/delete and chtag. Credentials are not
+ * checked.
+ */
+public class FakeZosmfServer {
+
+    private static final String RESTFILES = "/restfiles/";
+    private static final int DEFAULT_MAX_ITEMS = 1000;
+
+    private final FakeZosmfConfig config;
+    private final FakeZosmfStore store;
+    private final AtomicLong requests = new AtomicLong();
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public FakeZosmfServer(FakeZosmfConfig config) {
+        this.config = config;
+        this.store = new FakeZosmfStore(config);
+    }
+
+    public static void main(String[] args) throws Exception {
+        FakeZosmfServer server = new FakeZosmfServer(FakeZosmfConfig.fromSystemProperties());
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        System.out.println("Fake z/OSMF listening on port " + server.getPort());
+    }
+
+    public void start() throws IOException, GeneralSecurityException {
+        InetSocketAddress address = new InetSocketAddress(config.getPort());
+        if (config.getKeyStore() != null) {
+            HttpsServer httpsServer = HttpsServer.create(address, 0);
+            httpsServer.setHttpsConfigurator(new HttpsConfigurator(createSslContext()));
+            server = httpsServer;
+        } else {
+            server = HttpServer.create(address, 0);
+        }
+        executor = Executors.newFixedThreadPool(config.getThreads());
+        server.setExecutor(executor);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            server = null;
+        }
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public boolean isHttps() {
+        return server instanceof HttpsServer;
+    }
+
+    /**
+     * Number of requests served since the server started
+     */
+    public long getRequestCount() {
+        return requests.get();
+    }
+
+    public FakeZosmfStore getStore() {
+        return store;
+    }
+
+    private SSLContext createSslContext() throws IOException, GeneralSecurityException {
+        char[] password = config.getKeyStorePassword().toCharArray();
+        KeyStore keyStore = KeyStore.getInstance(config.getKeyStoreType());
+        try (InputStream in = new FileInputStream(config.getKeyStore())) {
+            keyStore.load(in, password);
+        }
+        KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+        keyManagerFactory.init(keyStore, password);
+        SSLContext sslContext = SSLContext.getInstance("TLSv1.2");
+        sslContext.init(keyManagerFactory.getKeyManagers(), null, null);
+        return sslContext;
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            requests.incrementAndGet();
+            delay();
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            sendError(exchange, 500, 1, 8, 0, e.toString(), e.toString());
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void delay() throws InterruptedException {
+        long delay = config.getLatencyMs();
+        if (config.getJitterMs() > 0) {
+            delay += ThreadLocalRandom.current().nextLong(config.getJitterMs() + 1);
+        }
+        if (delay > 0) {
+            Thread.sleep(delay);
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        int index = path.indexOf(RESTFILES);
+        String resource = index < 0 ? "" : path.substring(index + RESTFILES.length());
+        String method = exchange.getRequestMethod();
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+        if ("ds".equals(resource) && "GET".equals(method)) {
+            listDataSets(exchange, query);
+        } else if (resource.startsWith("ds/") && resource.endsWith("/member") && "GET".equals(method)) {
+            listMembers(exchange, resource.substring(3, resource.length() - "/member".length()), query);
+        } else if (resource.startsWith("ds/")) {
+            handleDataSet(exchange, method, resource.substring(3));
+        } else if ("fs".equals(resource) && "GET".equals(method)) {
+            listFiles(exchange, query.get("path"));
+        } else if (resource.startsWith("fs/")) {
+            handleFile(exchange, method, resource.substring(2));
+        } else {
+            sendError(exchange, 404, 1, 4, 0, "Unsupported request " + method + " " + path, path);
+        }
+    }
+
+    private void listDataSets(HttpExchange exchange, Map<String, String> query) throws IOException {
+        if (query.get("dslevel") == null) {
+            sendError(exchange, 400, 1, 4, 0, "Missing dslevel", "dslevel is required");
+            return;
+        }
+        List<String> names = store.listDataSets(query.get("dslevel"));
+        boolean base = "base".equals(exchange.getRequestHeaders().getFirst("X-IBM-Attributes"));
+        JsonArray items = new JsonArray();
+        int start = startIndex(names, query.get("start"));
+        int end = endIndex(exchange, start, names.size());
+        for (String name : names.subList(start, end)) {
+            JsonObject item = new JsonObject();
+            item.addProperty("dsname", name);
+            if (base) {
+                boolean pds = store.isPds(name);
+                item.addProperty("blksz", "27920");
+                item.addProperty("catnm", "CATALOG.FAKE");
+                item.addProperty("cdate", "2026/01/05");
+                item.addProperty("dev", "3390");
+                item.addProperty("dsntp", pds ? "PDS" : "BASIC");
+                item.addProperty("dsorg", pds ? "PO" : "PS");
+                item.addProperty("edate", "***None***");
+                item.addProperty("lrecl", "80");
+                item.addProperty("recfm", "FB");
+                item.addProperty("sizex", "15");
+                item.addProperty("spacu", "TRACKS");
+                item.addProperty("used", "6");
+                item.addProperty("vols", "FAKE01");
+            }
+            item.addProperty("migr", "NO");
+            items.add(item);
+        }
+        sendJson(exchange, 200, listResponse(items, names.size(), end < names.size()));
+    }
+
+    private void listMembers(HttpExchange exchange, String dataSetName, Map<String, String> query) throws IOException {
+        if (!store.isPds(dataSetName) || !store.dataSetExists(dataSetName)) {
+            sendDataSetNotFound(exchange, dataSetName);
+            return;
+        }
+        List<String> names = store.listMembers(query.get("pattern"));
+        JsonArray items = new JsonArray();
+        int start = startIndex(names, query.get("start"));
+        int end = endIndex(exchange, start, names.size());
+        for (String name : names.subList(start, end)) {
+            JsonObject item = new JsonObject();
+            item.addProperty("member", name);
+            item.addProperty("vers", 1);
+            item.addProperty("mod", 0);
+            item.addProperty("c4date", "2026/01/05");
+            item.addProperty("m4date", "2026/01/05");
+            item.addProperty("user", "FAKE");
+            items.add(item);
+        }
+        sendJson(exchange, 200, listResponse(items, names.size(), end < names.size()));
+    }
+
+    private void handleDataSet(HttpExchange exchange, String method, String name) throws IOException {
+        switch (method) {
+        case "GET":
+            sendContent(exchange, store.getDataSetContent(name), () -> sendDataSetNotFound(exchange, name));
+            break;
+        case "PUT":
+            if (isJson(exchange)) {
+                // rename and other utility requests
+                readBody(exchange);
+                sendEmpty(exchange, 200, null);
+            } else if (checkIfMatch(exchange, store.getDataSetContent(name))) {
+                sendEmpty(exchange, 204, store.putDataSetContent(name, readBody(exchange)).getEtag());
+            }
+            break;
+        case "POST":
+            readBody(exchange);
+            store.putDataSetContent(name, new byte[0]);
+            sendEmpty(exchange, 201, null);
+            break;
+        case "DELETE":
+            if (store.deleteDataSet(name)) {
+                sendEmpty(exchange, 204, null);
+            } else {
+                sendDataSetNotFound(exchange, name);
+            }
+            break;
+        default:
+            sendError(exchange, 405, 1, 4, 0, "Method not allowed", method);
+        }
+    }
+
+    private void listFiles(HttpExchange exchange, String path) throws IOException {
+        JsonArray items = new JsonArray();
+        if (store.isDirectory(path)) {
+            items.add(fileItem(".", true, 8192));
+            items.add(fileItem("..", true, 8192));
+            for (String name : store.listFiles()) {
+                FakeZosmfStore.Content content = store.getFileContent(path + "/" + name);
+                items.add(fileItem(name, false, content.getData().length));
+            }
+        } else {
+            FakeZosmfStore.Content content = store.getFileContent(path);
+            if (content == null) {
+                sendFileNotFound(exchange);
+                return;
+            }
+            items.add(fileItem(path, false, content.getData().length));
+        }
+        sendJson(exchange, 200, listResponse(items, items.size(), false));
+    }
+
+    private JsonObject fileItem(String name, boolean directory, int size) {
+        JsonObject item = new JsonObject();
+        item.addProperty("name", name);
+        item.addProperty("mode", directory ? "drwxr-xr-x" : "-rw-r--r--");
+        item.addProperty("size", size);
+        item.addProperty("uid", 1000);
+        item.addProperty("user", "FAKE");
+        item.addProperty("gid", 100);
+        item.addProperty("group", "FAKEGRP");
+        item.addProperty("mtime", "2026-01-05T10:00:00");
+        return item;
+    }
+
+    private void handleFile(HttpExchange exchange, String method, String path) throws IOException {
+        switch (method) {
+        case "GET":
+            sendContent(exchange, store.getFileContent(path), () -> sendFileNotFound(exchange));
+            break;
+        case "PUT":
+            if (isJson(exchange)) {
+                handleFileUtility(exchange, path);
+            } else if (checkIfMatch(exchange, store.getFileContent(path))) {
+                sendEmpty(exchange, 204, store.putFileContent(path, readBody(exchange)).getEtag());
+            }
+            break;
+        case "POST":
+            readBody(exchange);
+            store.putFileContent(path, new byte[0]);
+            sendEmpty(exchange, 201, null);
+            break;
+        case "DELETE":
+            if (store.deleteFile(path)) {
+                sendEmpty(exchange, 204, null);
+            } else {
+                sendFileNotFound(exchange);
+            }
+            break;
+        default:
+            sendError(exchange, 405, 1, 4, 0, "Method not allowed", method);
+        }
+    }
+
+    private void handleFileUtility(HttpExchange exchange, String path) throws IOException {
+        JsonObject request = JsonParser.parseString(new String(readBody(exchange), StandardCharsets.UTF_8))
+            .getAsJsonObject();
+        if (!"chtag".equals(request.get("request").getAsString())) {
+            sendError(exchange, 400, 1, 4, 0, "Unsupported utility request", request.toString());
+        } else if (store.getFileContent(path) == null && !store.isDirectory(path)) {
+            sendFileNotFound(exchange);
+        } else {
+            JsonArray stdout = new JsonArray();
+            stdout.add(String.format("t %-14s T=on  %s", config.getCodepage(), path));
+            JsonObject response = new JsonObject();
+            response.add("stdout", stdout);
+            sendJson(exchange, 200, response);
+        }
+    }
+
+    private interface NotFound {
+        void send() throws IOException;
+    }
+
+    private void sendContent(HttpExchange exchange, FakeZosmfStore.Content content, NotFound notFound)
+            throws IOException {
+        if (content == null) {
+            notFound.send();
+            return;
+        }
+        boolean binary = "binary".equals(exchange.getRequestHeaders().getFirst("X-IBM-Data-Type"));
+        exchange.getResponseHeaders().set("Content-Type", binary ? "application/octet-stream" : "text/plain");
+        exchange.getResponseHeaders().set("ETag", content.getEtag());
+        if (content.getEtag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+            return;
+        }
+        exchange.sendResponseHeaders(200, content.getData().length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content.getData());
+        }
+    }
+
+    private boolean checkIfMatch(HttpExchange exchange, FakeZosmfStore.Content current) throws IOException {
+        String ifMatch = exchange.getRequestHeaders().getFirst("If-Match");
+        if (ifMatch != null && (current == null || !ifMatch.equals(current.getEtag()))) {
+            readBody(exchange);
+            sendError(exchange, 412, 6, 8, 0, "Etag mismatch", "ETag " + ifMatch + " does not match");
+            return false;
+        }
+        return true;
+    }
+
+    private void sendDataSetNotFound(HttpExchange exchange, String name) throws IOException {
+        sendError(exchange, 404, 6, 8, 0, "Data set not found.", "ISRZ002 Data set not cataloged - '" + name
+                + "' was not found in catalog.");
+    }
+
+    private void sendFileNotFound(HttpExchange exchange) throws IOException {
+        sendError(exchange, 404, 6, 8, 0, "file not found", "EDC5129I No such file or directory.");
+    }
+
+    private static JsonObject listResponse(JsonArray items, int totalRows, boolean moreRows) {
+        JsonObject response = new JsonObject();
+        response.add("items", items);
+        response.addProperty("returnedRows", items.size());
+        response.addProperty("totalRows", totalRows);
+        if (moreRows) {
+            response.addProperty("moreRows", true);
+        }
+        response.addProperty("JSONversion", 1);
+        return response;
+    }
+
+    /**
+     * Index of the first name at or after start
+     */
+    private static int startIndex(List<String> names, String start) {
+        if (start == null) {
+            return 0;
+        }
+        int index = 0;
+        while (index < names.size() && names.get(index).compareTo(start) < 0) {
+            index++;
+        }
+        return index;
+    }
+
+    private static int endIndex(HttpExchange exchange, int start, int size) {
+        String header = exchange.getRequestHeaders().getFirst("X-IBM-Max-Items");
+        int maxItems = header == null ? DEFAULT_MAX_ITEMS : Integer.parseInt(header);
+        return maxItems == 0 ? size : Math.min(size, start + maxItems);
+    }
+
+    private static boolean isJson(HttpExchange exchange) {
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        return contentType != null && contentType.startsWith("application/json");
+    }
+
+    private static void sendError(HttpExchange exchange, int status, int category, int rc, int reason,
+            String message, String details) throws IOException {
+        JsonObject error = new JsonObject();
+        error.addProperty("category", category);
+        error.addProperty("rc", rc);
+        error.addProperty("reason", reason);
+        error.addProperty("message", message);
+        JsonArray detailsArray = new JsonArray();
+        detailsArray.add(details);
+        error.add("details", detailsArray);
+        sendJson(exchange, status, error);
+    }
+
+    private static void sendJson(HttpExchange exchange, int status, JsonObject json) throws IOException {
+        byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static void sendEmpty(HttpExchange exchange, int status, String etag) throws IOException {
+        if (etag != null) {
+            exchange.getResponseHeaders().set("ETag", etag);
+        }
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    private static byte[] readBody(HttpExchange exchange) throws IOException {
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = exchange.getRequestBody()) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                body.write(buffer, 0, read);
+            }
+        }
+        return body.toByteArray();
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) throws UnsupportedEncodingException {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery != null) {
+            for (String pair : rawQuery.split("&")) {
+                int equals = pair.indexOf('=');
+                if (equals > 0) {
+                    query.put(URLDecoder.decode(pair.substring(0, equals), "UTF-8"),
+                            URLDecoder.decode(pair.substring(equals + 1), "UTF-8"));
+                }
+            }
+        }
+        return query;
+    }
+}
@@ -0,0 +1,256 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.zosmf;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * In memory data sets and files for {@link FakeZosmfServer}. The catalog is
+ * generated from the config; content that hasn't been written is the same
+ * generated text for every data set and file.
+ */
+public class FakeZosmfStore {
+
+    public static class Content {
+        private final byte[] data;
+        private final String etag;
+
+        Content(byte[] data) {
+            this.data = data;
+            this.etag = String.format("%08X%08X", Arrays.hashCode(data), data.length);
+        }
+
+        public byte[] getData() {
+            return data;
+        }
+
+        public String getEtag() {
+            return etag;
+        }
+    }
+
+    private final FakeZosmfConfig config;
+    private final List<String> dataSetNames;
+    private final Map<String, Integer> dataSetIndex = new HashMap<>();
+    private final List<String> memberNames;
+    private final Set<String> memberSet;
+    private final List<String> fileNames;
+    private final Set<String> fileSet;
+    private final Content defaultContent;
+    private final Map<String, Content> written = new ConcurrentHashMap<>();
+    private final Set<String> deleted = ConcurrentHashMap.newKeySet();
+
+    public FakeZosmfStore(FakeZosmfConfig config) {
+        this.config = config;
+        dataSetNames = generateNames(config.getHlq() + ".DATA.DS%05d", config.getDataSets());
+        memberNames = generateNames("MEM%05d", config.getMembers());
+        fileNames = generateNames("file%05d.txt", config.getFiles());
+        for (int i = 0; i < dataSetNames.size(); i++) {
+            dataSetIndex.put(dataSetNames.get(i), i);
+        }
+        memberSet = new HashSet<>(memberNames);
+        fileSet = new HashSet<>(fileNames);
+        defaultContent = new Content(generateContent(config.getContentSize()));
+    }
+
+    private static List<String> generateNames(String format, int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(String.format(format, i));
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    private static byte[] generateContent(int size) {
+        byte[] line = "//FAKEJOB  JOB (ACCT),'FAKE ZOSMF',CLASS=A,MSGCLASS=X,NOTIFY=&SYSUID\n"
+            .getBytes(StandardCharsets.UTF_8);
+        byte[] content = new byte[size];
+        for (int i = 0; i < size; i++) {
+            content[i] = line[i % line.length];
+        }
+        return content;
+    }
+
+    /**
+     * Data set names matching a z/OSMF dslevel, in order
+     */
+    public List<String> listDataSets(String dslevel) {
+        Pattern pattern = dslevelPattern(dslevel);
+        List<String> matches = new ArrayList<>();
+        for (String name : dataSetNames) {
+            if (pattern.matcher(name).matches() && !deleted.contains(dataSetKey(name))) {
+                matches.add(name);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Every tenth data set is a PDS
+     */
+    public boolean isPds(String dataSetName) {
+        Integer index = dataSetIndex.get(dataSetName);
+        return index != null && index % 10 == 0;
+    }
+
+    public boolean dataSetExists(String dataSetName) {
+        return dataSetIndex.containsKey(dataSetName) && !deleted.contains(dataSetKey(dataSetName));
+    }
+
+    /**
+     * Member names matching a pattern, or all if it is null, in order
+     */
+    public List<String> listMembers(String pattern) {
+        if (pattern == null) {
+            return memberNames;
+        }
+        Pattern regex = wildcardPattern(pattern, ".*");
+        List<String> matches = new ArrayList<>();
+        for (String name : memberNames) {
+            if (regex.matcher(name).matches()) {
+                matches.add(name);
+            }
+        }
+        return matches;
+    }
+
+    public boolean isDirectory(String path) {
+        return config.getHome().equals(path);
+    }
+
+    public List<String> listFiles() {
+        List<String> names = new ArrayList<>();
+        for (String name : fileNames) {
+            if (!deleted.contains(fileKey(config.getHome() + "/" + name))) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * @return the content of a data set or member, e.g. HLQ.PDS(MEMBER), or null
+     *         if it doesn't exist
+     */
+    public Content getDataSetContent(String name) {
+        return getContent(dataSetKey(name), generatedDataSet(name));
+    }
+
+    public Content getFileContent(String path) {
+        return getContent(fileKey(path), generatedFile(path));
+    }
+
+    private Content getContent(String key, boolean generated) {
+        Content content = written.get(key);
+        if (content == null && generated && !deleted.contains(key)) {
+            content = defaultContent;
+        }
+        return content;
+    }
+
+    public Content putDataSetContent(String name, byte[] data) {
+        return put(dataSetKey(name), data);
+    }
+
+    public Content putFileContent(String path, byte[] data) {
+        return put(fileKey(path), data);
+    }
+
+    private Content put(String key, byte[] data) {
+        Content content = new Content(data);
+        written.put(key, content);
+        deleted.remove(key);
+        return content;
+    }
+
+    /**
+     * @return whether the data set or member existed
+     */
+    public boolean deleteDataSet(String name) {
+        return delete(dataSetKey(name), generatedDataSet(name));
+    }
+
+    public boolean deleteFile(String path) {
+        return delete(fileKey(path), generatedFile(path));
+    }
+
+    private boolean delete(String key, boolean generated) {
+        boolean existed = written.remove(key) != null || (generated && !deleted.contains(key));
+        if (generated) {
+            deleted.add(key);
+        }
+        return existed;
+    }
+
+    private boolean generatedDataSet(String name) {
+        int paren = name.indexOf('(');
+        if (paren < 0) {
+            return dataSetIndex.containsKey(name) && !isPds(name);
+        }
+        String member = name.substring(paren + 1, name.length() - 1);
+        return isPds(name.substring(0, paren)) && memberSet.contains(member);
+    }
+
+    private boolean generatedFile(String path) {
+        String prefix = config.getHome() + "/";
+        return path.startsWith(prefix) && fileSet.contains(path.substring(prefix.length()));
+    }
+
+    private static String dataSetKey(String name) {
+        return "ds:" + name;
+    }
+
+    private static String fileKey(String path) {
+        return "fs:" + path;
+    }
+
+    /**
+     * ** matches any qualifiers, * and % within one, and a dslevel without a
+     * trailing wildcard also matches the data sets below it
+     */
+    static Pattern dslevelPattern(String dslevel) {
+        String upper = dslevel.toUpperCase();
+        String suffix = upper.endsWith("*") ? "" : "(\\..*)?";
+        return wildcardPattern(upper, "[^.]*", suffix);
+    }
+
+    private static Pattern wildcardPattern(String pattern, String star) {
+        return wildcardPattern(pattern, star, "");
+    }
+
+    private static Pattern wildcardPattern(String pattern, String star, String suffix) {
+        StringBuilder regex = new StringBuilder();
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '*' && i + 1 < pattern.length() && pattern.charAt(i + 1) == '*') {
+                regex.append(".*");
+                i++;
+            } else if (c == '*') {
+                regex.append(star);
+            } else if (c == '%') {
+                regex.append('.');
+            } else {
+                regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.append(suffix).toString());
+    }
+}
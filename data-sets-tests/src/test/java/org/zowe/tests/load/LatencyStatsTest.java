@@ -0,0 +1,66 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.load;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class LatencyStatsTest {
+
+    private static final double DELTA = 0.000001;
+
+    @Test
+    public void percentiles_should_use_nearest_rank() {
+        LatencyStats stats = new LatencyStats();
+        for (int ms = 100; ms >= 1; ms--) {
+            stats.record(ms * 1_000_000L, true);
+        }
+
+        assertEquals(100, stats.getCount());
+        assertEquals(50, stats.percentileMs(50), DELTA);
+        assertEquals(95, stats.percentileMs(95), DELTA);
+        assertEquals(99, stats.percentileMs(99), DELTA);
+        assertEquals(1, stats.percentileMs(0), DELTA);
+        assertEquals(100, stats.maxMs(), DELTA);
+        assertEquals(50.5, stats.meanMs(), DELTA);
+    }
+
+    @Test
+    public void empty_stats_should_report_zero() {
+        LatencyStats stats = new LatencyStats();
+
+        assertEquals(0, stats.getCount());
+        assertEquals(0, stats.percentileMs(99), DELTA);
+        assertEquals(0, stats.meanMs(), DELTA);
+    }
+
+    @Test
+    public void add_all_should_combine_samples_and_errors() {
+        LatencyStats first = new LatencyStats();
+        first.record(1_000_000L, true);
+        first.record(3_000_000L, false);
+        LatencyStats second = new LatencyStats();
+        for (int i = 0; i < 2000; i++) {
+            second.record(2_000_000L, i % 2 == 0);
+        }
+
+        LatencyStats total = new LatencyStats();
+        total.addAll(first);
+        total.addAll(second);
+
+        assertEquals(2002, total.getCount());
+        assertEquals(1001, total.getErrors());
+        assertEquals(1, total.percentileMs(0), DELTA);
+        assertEquals(2, total.percentileMs(50), DELTA);
+        assertEquals(3, total.maxMs(), DELTA);
+    }
+}
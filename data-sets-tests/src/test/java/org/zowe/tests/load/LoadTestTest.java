@@ -0,0 +1,74 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.load;
+
+import com.google.gson.JsonObject;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.zowe.tests.zosmf.FakeZosmfConfig;
+import org.zowe.tests.zosmf.FakeZosmfServer;
+
+import java.util.Arrays;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class LoadTestTest {
+
+    private FakeZosmfServer server;
+
+    @Before
+    public void startServer() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("fake.zosmf.port", "0");
+        properties.setProperty("fake.zosmf.dataSets", "25");
+        properties.setProperty("fake.zosmf.files", "5");
+        server = new FakeZosmfServer(new FakeZosmfConfig(properties));
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void run_should_report_each_endpoint() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("load.baseUrl", "http://localhost:" + server.getPort());
+        properties.setProperty("load.concurrency", "4");
+        properties.setProperty("load.warmupSeconds", "0");
+        properties.setProperty("load.durationSeconds", "1");
+        LoadTest loadTest = new LoadTest(new LoadTestConfig(properties),
+                Arrays.asList(new LoadEndpoint("list", "GET", "/zosmf/restfiles/ds?dslevel=FAKE.**", null),
+                        new LoadEndpoint("missing", "GET", "/zosmf/restfiles/ds/FAKE.MISSING", null)));
+
+        JsonObject report = loadTest.run();
+
+        JsonObject list = report.getAsJsonObject("endpoints").getAsJsonObject("list");
+        assertTrue(list.get("requests").getAsInt() > 0);
+        assertEquals(0, list.get("errors").getAsInt());
+        assertTrue(list.get("requestsPerSecond").getAsDouble() > 0);
+        JsonObject latency = list.getAsJsonObject("latencyMs");
+        assertTrue(latency.get("p50").getAsDouble() <= latency.get("p95").getAsDouble());
+        assertTrue(latency.get("p95").getAsDouble() <= latency.get("p99").getAsDouble());
+
+        JsonObject missing = report.getAsJsonObject("endpoints").getAsJsonObject("missing");
+        assertEquals(missing.get("requests").getAsInt(), missing.get("errors").getAsInt());
+
+        JsonObject total = report.getAsJsonObject("total");
+        assertEquals(list.get("requests").getAsInt() + missing.get("requests").getAsInt(),
+                total.get("requests").getAsInt());
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * This program and the accompanying materials are made available under the terms of the
+ * Eclipse Public License v2.0 which accompanies this distribution, and is available at
+ * https://www.eclipse.org/legal/epl-v20.html
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *
+ * Copyright Contributors to the Zowe Project 2026
+ */
+
+package org.zowe.tests.zosmf;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Properties;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class FakeZosmfServerTest {
+
+    private FakeZosmfServer server;
+
+    @Before
+    public void startServer() throws Exception {
+        Properties properties = new Properties();
+        properties.setProperty("fake.zosmf.port", "0");
+        properties.setProperty("fake.zosmf.dataSets", "25");
+        properties.setProperty("fake.zosmf.members", "12");
+        properties.setProperty("fake.zosmf.files", "5");
+        properties.setProperty("fake.zosmf.contentSize", "100");
+        server = new FakeZosmfServer(new FakeZosmfConfig(properties));
+        server.start();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop();
+    }
+
+    @Test
+    public void data_set_list_should_page_with_max_items_and_start() throws Exception {
+        HttpURLConnection connection = open("GET", "/zosmf/restfiles/ds?dslevel=FAKE.**&start=FAKE.DATA.DS00003");
+        connection.setRequestProperty("X-IBM-Max-Items", "2");
+
+        assertEquals(200, connection.getResponseCode());
+        JsonObject response = readJson(connection);
+        JsonArray items = response.getAsJsonArray("items");
+        assertEquals(2, items.size());
+        assertEquals("FAKE.DATA.DS00003", items.get(0).getAsJsonObject().get("dsname").getAsString());
+        assertEquals("FAKE.DATA.DS00004", items.get(1).getAsJsonObject().get("dsname").getAsString());
+        assertEquals(25, response.get("totalRows").getAsInt());
+        assertTrue(response.get("moreRows").getAsBoolean());
+    }
+
+    @Test
+    public void member_list_should_filter_by_pattern() throws Exception {
+        HttpURLConnection connection = open("GET", "/zosmf/restfiles/ds/FAKE.DATA.DS00010/member?pattern=MEM0001*");
+
+        assertEquals(200, connection.getResponseCode());
+        assertEquals(2, readJson(connection).getAsJsonArray("items").size());
+    }
+
+    @Test
+    public void member_list_of_sequential_data_set_should_be_not_found() throws Exception {
+        HttpURLConnection connection = open("GET", "/zosmf/restfiles/ds/FAKE.DATA.DS00001/member");
+
+        assertEquals(404, connection.getResponseCode());
+    }
+
+    @Test
+    public void data_set_put_should_check_etag_and_return_new_one() throws Exception {
+        HttpURLConnection get = open("GET", "/zosmf/restfiles/ds/FAKE.DATA.DS00001");
+        assertEquals(200, get.getResponseCode());
+        String etag = get.getHeaderField("ETag");
+        assertEquals(100, readBytes(get.getInputStream()).length);
+
+        HttpURLConnection stale = open("PUT", "/zosmf/restfiles/ds/FAKE.DATA.DS00001");
+        stale.setRequestProperty("If-Match", "STALE");
+        write(stale, "new content");
+        assertEquals(412, stale.getResponseCode());
+
+        HttpURLConnection put = open("PUT", "/zosmf/restfiles/ds/FAKE.DATA.DS00001");
+        put.setRequestProperty("If-Match", etag);
+        write(put, "new content");
+        assertEquals(204, put.getResponseCode());
+        assertNotEquals(etag, put.getHeaderField("ETag"));
+
+        HttpURLConnection reread = open("GET", "/zosmf/restfiles/ds/FAKE.DATA.DS00001");
+        assertEquals("new content", new String(readBytes(reread.getInputStream()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void data_set_get_should_return_not_modified_for_current_etag() throws Exception {
+        HttpURLConnection get = open("GET", "/zosmf/restfiles/ds/FAKE.DATA.DS00001");
+        assertEquals(200, get.getResponseCode());
+        String etag = get.getHeaderField("ETag");
+        readBytes(get.getInputStream());
+
+        HttpURLConnection revalidate = open("GET", "/zosmf/restfiles/ds/FAKE.DATA.DS00001");
+        revalidate.setRequestProperty("If-None-Match", etag);
+        assertEquals(304, revalidate.getResponseCode());
+        assertEquals(etag, revalidate.getHeaderField("ETag"));
+
+        HttpURLConnection stale = open("GET", "/zosmf/restfiles/ds/FAKE.DATA.DS00001");
+        stale.setRequestProperty("If-None-Match", "STALE");
+        assertEquals(200, stale.getResponseCode());
+        assertEquals(100, readBytes(stale.getInputStream()).length);
+    }
+
+    @Test
+    public void unix_directory_list_should_include_self_and_parent() throws Exception {
+        HttpURLConnection connection = open("GET", "/zosmf/restfiles/fs?path=/u/fake");
+
+        assertEquals(200, connection.getResponseCode());
+        JsonArray items = readJson(connection).getAsJsonArray("items");
+        assertEquals(7, items.size());
+        assertEquals(".", items.get(0).getAsJsonObject().get("name").getAsString());
+    }
+
+    @Test
+    public void chtag_should_return_codepage() throws Exception {
+        HttpURLConnection connection = open("PUT", "/zosmf/restfiles/fs/u/fake/file00001.txt");
+        connection.setRequestProperty("Content-Type", "application/json");
+        write(connection, "{ \"request\": \"chtag\", \"action\": \"list\" }");
+
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(readJson(connection).get("stdout").getAsString().contains("IBM-1047"));
+    }
+
+    @Test
+    public void deleted_file_should_be_not_found() throws Exception {
+        assertEquals(204, open("DELETE", "/zosmf/restfiles/fs/u/fake/file00002.txt").getResponseCode());
+
+        HttpURLConnection connection = open("GET", "/zosmf/restfiles/fs/u/fake/file00002.txt");
+        assertEquals(404, connection.getResponseCode());
+        assertTrue(readJson(connection).get("details").toString().contains("EDC5129I"));
+        assertFalse(server.getStore().listFiles().contains("file00002.txt"));
+    }
+
+    private HttpURLConnection open(String method, String path) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL("http://localhost:" + server.getPort() + path)
+            .openConnection();
+        connection.setRequestMethod(method);
+        return connection;
+    }
+
+    private static void write(HttpURLConnection connection, String body) throws IOException {
+        connection.setDoOutput(true);
+        try (OutputStream out = connection.getOutputStream()) {
+            out.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static JsonObject readJson(HttpURLConnection connection) throws IOException {
+        InputStream in = connection.getResponseCode() < 400 ? connection.getInputStream()
+                : connection.getErrorStream();
+        return JsonParser.parseString(new String(readBytes(in), StandardCharsets.UTF_8)).getAsJsonObject();
+    }
+
+    private static byte[] readBytes(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        try (InputStream input = in) {
+            int read;
+            while ((read = input.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+        }
+        return out.toByteArray();
+    }
+}